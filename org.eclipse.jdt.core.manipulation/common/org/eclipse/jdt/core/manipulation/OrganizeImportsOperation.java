@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -80,6 +80,7 @@ import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 import org.eclipse.jdt.internal.corext.util.StaticImportFavoritesCompletionInvoker;
 
 import org.eclipse.jdt.internal.ui.text.correction.proposals.AddImportCorrectionProposalCore;
@@ -418,23 +419,66 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 			return false;
 		}
 
+		/**
+		 * @return the simple names of the type references that need a type name search
+		 */
+		public Set<String> getUnresolvedTypeNames() {
+			return fUnresolvedTypes.keySet();
+		}
+
+		/**
+		 * @return a key identifying the search scope used for the unresolved type names, units
+		 *         with the same key can share the results of one type name search
+		 * @throws JavaModelException if the classpath entry of the unit cannot be resolved
+		 */
+		public String getSearchScopeKey() throws JavaModelException {
+			return (isExcludeTestCode() ? "main|" : "test|") + fCurrPackage.getJavaProject().getHandleIdentifier(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		public IJavaSearchScope createSearchScope() throws JavaModelException {
+			return SearchEngine.createJavaSearchScope(isExcludeTestCode(), new IJavaElement[] { fCurrPackage.getJavaProject() }, true);
+		}
+
+		private boolean isExcludeTestCode() throws JavaModelException {
+			return !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
+		}
+
 		public boolean process(IProgressMonitor monitor) throws JavaModelException {
+			return process(null, monitor);
+		}
+
+		/**
+		 * Resolves the collected type references.
+		 *
+		 * @param typesBySimpleName the result of a type name search in the scope of this unit
+		 *            covering all its unresolved type names, or <code>null</code> to search
+		 * @param monitor the progress monitor
+		 * @return <code>true</code> if there are open choices
+		 * @throws JavaModelException if the search fails
+		 */
+		public boolean process(Map<String, List<TypeNameMatch>> typesBySimpleName, IProgressMonitor monitor) throws JavaModelException {
 			try {
 				int nUnresolved= fUnresolvedTypes.size();
 				if (nUnresolved == 0) {
 					return false;
 				}
-				char[][] allTypes= new char[nUnresolved][];
-				int i= 0;
-				for (String string : fUnresolvedTypes.keySet()) {
-					allTypes[i++]= string.toCharArray();
-				}
 				final ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
-				final IJavaProject project= fCurrPackage.getJavaProject();
-				boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
-				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
-				TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
-				new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				if (typesBySimpleName != null) {
+					for (String string : fUnresolvedTypes.keySet()) {
+						List<TypeNameMatch> matches= typesBySimpleName.get(string);
+						if (matches != null) {
+							typesFound.addAll(matches);
+						}
+					}
+				} else {
+					char[][] allTypes= new char[nUnresolved][];
+					int i= 0;
+					for (String string : fUnresolvedTypes.keySet()) {
+						allTypes[i++]= string.toCharArray();
+					}
+					TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+					new SearchEngine().searchAllTypeNames(null, allTypes, createSearchScope(), collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				}
 
 				for (TypeNameMatch curr : typesFound) {
 					UnresolvedTypeData data= fUnresolvedTypes.get(curr.getSimpleTypeName());
@@ -473,7 +517,9 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				fSourceRanges= sourceRanges.toArray(new SourceRange[sourceRanges.size()]);
 				return true;
 			} finally {
-				monitor.done();
+				if (monitor != null) {
+					monitor.done();
+				}
 			}
 		}
 
@@ -673,6 +719,127 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 	public TextEdit createTextEdit(IProgressMonitor m) throws CoreException, OperationCanceledException {
 		SubMonitor subMonitor= SubMonitor.convert(m, Messages.format(JavaManipulationMessages.OrganizeImportsOperation_description, BasicElementLabels.getFileName(fCompilationUnit)), 9);
+		PreparedUnit unit= prepare(subMonitor.split(3));
+		if (unit == null)
+			return null;
+
+		boolean hasOpenChoices= unit.processor.process(subMonitor.split(3));
+		return createTextEdit(unit, hasOpenChoices, subMonitor.split(3));
+	}
+
+	/**
+	 * Creates the import edits for several compilation units in one pass. The type references
+	 * that cannot be resolved from the ASTs are collected for all units first and looked up with
+	 * a single type name search per project, instead of one search per unit. The import rewrites
+	 * are then computed in parallel. Units with open choices are completed afterwards, one after
+	 * the other in the order of the operations, so that an {@link IChooseImportQuery} is never
+	 * called concurrently.
+	 * <p>
+	 * Like {@link #createTextEdit(IProgressMonitor)}, the edits are not applied. The state kept for
+	 * a unit, including its AST, is released as soon as its edit is computed; the operations do
+	 * not keep the ASTs they were created with. All ASTs of the operations are used at the same
+	 * time, so callers with many units should pass them in batches of bounded size.
+	 * </p>
+	 *
+	 * @param operations the operations, each on a different compilation unit
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the edits in the order of the operations, an entry is <code>null</code> if the
+	 *         operation found a parse error (see {@link #getParseError()})
+	 * @throws CoreException thrown when an operation failed
+	 * @throws OperationCanceledException Runtime error thrown when operation is canceled.
+	 * @since 1.24
+	 */
+	public static TextEdit[] createTextEdits(OrganizeImportsOperation[] operations, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, JavaManipulationMessages.OrganizeImportsOperation_multi_description, 3 * operations.length + 1);
+
+		PreparedUnit[] units= new PreparedUnit[operations.length];
+		Map<String, Set<String>> namesByScope= new HashMap<>();
+		Map<String, IJavaSearchScope> scopes= new HashMap<>();
+		for (int i= 0; i < operations.length; i++) {
+			PreparedUnit unit= operations[i].prepare(subMonitor.split(1));
+			units[i]= unit;
+			if (unit != null && !unit.processor.getUnresolvedTypeNames().isEmpty()) {
+				String scopeKey= unit.processor.getSearchScopeKey();
+				if (!scopes.containsKey(scopeKey)) {
+					scopes.put(scopeKey, unit.processor.createSearchScope());
+				}
+				namesByScope.computeIfAbsent(scopeKey, k -> new HashSet<>()).addAll(unit.processor.getUnresolvedTypeNames());
+			}
+		}
+
+		Map<String, Map<String, List<TypeNameMatch>>> typesByScope= new HashMap<>();
+		SubMonitor searchMonitor= subMonitor.split(operations.length + 1).setWorkRemaining(namesByScope.size());
+		for (Entry<String, Set<String>> entry : namesByScope.entrySet()) {
+			char[][] allTypes= new char[entry.getValue().size()][];
+			int i= 0;
+			for (String name : entry.getValue()) {
+				allTypes[i++]= name.toCharArray();
+			}
+			ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
+			new SearchEngine().searchAllTypeNames(null, allTypes, scopes.get(entry.getKey()), new TypeNameMatchCollector(typesFound), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, searchMonitor.split(1));
+			Map<String, List<TypeNameMatch>> typesBySimpleName= new HashMap<>();
+			for (TypeNameMatch match : typesFound) {
+				typesBySimpleName.computeIfAbsent(match.getSimpleTypeName(), k -> new ArrayList<>(2)).add(match);
+			}
+			typesByScope.put(entry.getKey(), typesBySimpleName);
+		}
+
+		TextEdit[] edits= new TextEdit[operations.length];
+		boolean[] openChoices= new boolean[operations.length];
+		List<Integer> indices= new ArrayList<>(operations.length);
+		for (int i= 0; i < operations.length; i++) {
+			if (units[i] != null) {
+				indices.add(Integer.valueOf(i));
+			} else {
+				operations[i].fASTRoot= null;
+			}
+		}
+		ParallelUtil.ICoreAction<Integer> action= index -> {
+			int i= index.intValue();
+			PreparedUnit unit= units[i];
+			Map<String, List<TypeNameMatch>> typesBySimpleName= unit.processor.getUnresolvedTypeNames().isEmpty()
+					? Collections.emptyMap()
+					: typesByScope.get(unit.processor.getSearchScopeKey());
+			if (unit.processor.process(typesBySimpleName, null) && operations[i].fChooseImportQuery != null) {
+				// the query is asked after the parallel pass
+				openChoices[i]= true;
+				return;
+			}
+			edits[i]= operations[i].createTextEdit(unit, false, null);
+			units[i]= null;
+			operations[i].fASTRoot= null;
+		};
+		SubMonitor rewriteMonitor= subMonitor.split(operations.length).setWorkRemaining(2);
+		ParallelUtil.forEach(indices, action, rewriteMonitor.split(1));
+
+		SubMonitor choicesMonitor= rewriteMonitor.split(1).setWorkRemaining(operations.length);
+		for (int i= 0; i < operations.length; i++) {
+			if (openChoices[i]) {
+				choicesMonitor.checkCanceled();
+				edits[i]= operations[i].createTextEdit(units[i], true, null);
+				units[i]= null;
+				operations[i].fASTRoot= null;
+			}
+			choicesMonitor.worked(1);
+		}
+		return edits;
+	}
+
+	/**
+	 * The state of an operation between collecting the type references of its compilation unit
+	 * and resolving them.
+	 */
+	private static final class PreparedUnit {
+		ImportRewrite importsRewrite;
+		Set<String> oldSingleImports;
+		Set<String> oldDemandImports;
+		List<SimpleName> staticReferences;
+		UnresolvableImportMatcher unresolvableImportMatcher;
+		TypeReferenceProcessor processor;
+	}
+
+	private PreparedUnit prepare(IProgressMonitor m) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(m, 3);
 		fNumberOfImportsAdded= 0;
 		fNumberOfImportsRemoved= 0;
 
@@ -680,7 +847,7 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		if (astRoot == null) {
 			astRoot= CoreASTProvider.getInstance().getAST(fCompilationUnit, CoreASTProvider.WAIT_YES, subMonitor.split(2));
 		}
-		subMonitor.setWorkRemaining(7);
+		subMonitor.setWorkRemaining(1);
 
 		ImportRewrite importsRewrite= CodeStyleConfiguration.createImportRewrite(astRoot, fRestoreExistingImports);
 		if (astRoot.getAST().hasResolvedBindings()) {
@@ -698,6 +865,7 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 		subMonitor.split(1);
 
+		PreparedUnit unit= new PreparedUnit();
 		UnresolvableImportMatcher unresolvableImportMatcher= UnresolvableImportMatcher.forCompilationUnit(astRoot);
 
 		TypeReferenceProcessor processor= new TypeReferenceProcessor(
@@ -715,8 +883,20 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 			processor.add(typeRef);
 		}
 
-		boolean hasOpenChoices= processor.process(subMonitor.split(3));
-		addStaticImports(staticReferences, importsRewrite, unresolvableImportMatcher);
+		unit.importsRewrite= importsRewrite;
+		unit.oldSingleImports= oldSingleImports;
+		unit.oldDemandImports= oldDemandImports;
+		unit.staticReferences= staticReferences;
+		unit.unresolvableImportMatcher= unresolvableImportMatcher;
+		unit.processor= processor;
+		return unit;
+	}
+
+	private TextEdit createTextEdit(PreparedUnit unit, boolean hasOpenChoices, IProgressMonitor monitor) throws CoreException {
+		ImportRewrite importsRewrite= unit.importsRewrite;
+		UnresolvableImportMatcher unresolvableImportMatcher= unit.unresolvableImportMatcher;
+		TypeReferenceProcessor processor= unit.processor;
+		addStaticImports(unit.staticReferences, importsRewrite, unresolvableImportMatcher);
 
 		if (hasOpenChoices && fChooseImportQuery != null) {
 			TypeNameMatch[][] choices= processor.getChoices();
@@ -743,9 +923,9 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 			}
 		}
 
-		TextEdit result= importsRewrite.rewriteImports(subMonitor.split(3));
+		TextEdit result= importsRewrite.rewriteImports(monitor);
 
-		determineImportDifferences(importsRewrite, oldSingleImports, oldDemandImports);
+		determineImportDifferences(importsRewrite, unit.oldSingleImports, unit.oldDemandImports);
 
 		return result;
 	}
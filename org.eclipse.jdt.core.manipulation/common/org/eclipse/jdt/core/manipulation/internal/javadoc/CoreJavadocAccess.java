@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -231,7 +231,7 @@ public class CoreJavadocAccess {
 			if (useAttachedJavadoc) {
 				if (element.getOpenable().getBuffer() == null) { // only if no source available
 					try {
-						return element.getAttachedJavadoc(null);
+						return JavadocArchiveIndex.getAttachedJavadoc(element);
 					} catch (Exception e) {
 						JavaManipulationPlugin.log(e);
 						return null;
@@ -459,7 +459,7 @@ public class CoreJavadocAccess {
 					return InheritDocVisitor.CONTINUE;
 
 				if (overridden.getOpenable().getBuffer() == null) { // only if no source available
-					String attachedJavadoc= overridden.getAttachedJavadoc(null);
+					String attachedJavadoc= JavadocArchiveIndex.getAttachedJavadoc(overridden);
 					if (attachedJavadoc != null) {
 						// BaseURL for the original method can be wrong for attached Javadoc from overridden
 						// (e.g. when overridden is from rt.jar).
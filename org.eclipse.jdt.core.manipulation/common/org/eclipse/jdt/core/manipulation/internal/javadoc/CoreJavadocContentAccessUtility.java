@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 IBM Corporation and others.
+ * Copyright (c) 2023, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -469,7 +469,7 @@ public class CoreJavadocContentAccessUtility {
 			return r;
 		}
 		if (useAttachedJavadoc && member.getOpenable().getBuffer() == null) { // only if no source available
-			String s= member.getAttachedJavadoc(null);
+			String s= JavadocArchiveIndex.getAttachedJavadoc(member);
 			if (s != null)
 				return new StringReader(s);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 IBM Corporation and others.
+ * Copyright (c) 2023, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,6 +68,8 @@ final class JavaDocMessages extends NLS {
 
 	public static String JavadocContentAccess2_returns_post;
 
+	public static String JavadocArchiveIndex_job_name;
+
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, JavaDocMessages.class);
 	}
@@ -0,0 +1,590 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.internal.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.Flags;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IModuleDescription;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+/**
+ * Index of the member documentation in a Javadoc archive that is attached from the local file
+ * system (a <code>jar:file:...!/</code> Javadoc location).
+ * <p>
+ * The index maps the anchor of every field, constructor and method detail section in the class
+ * pages of the archive to the byte range of the content of that section in its archive entry. It is
+ * built once per archive in the background and stored in the plug-in state location. The
+ * documentation of a member is then read from the indexed range instead of scanning the whole class
+ * page. A stored entry is read at the range only; a compressed entry is inflated once and kept for
+ * the next members of the same page.
+ * </p>
+ * <p>
+ * Members that cannot be found in the index fall back to {@link IJavaElement#getAttachedJavadoc}.
+ * </p>
+ */
+public final class JavadocArchiveIndex {
+
+	private static final String INDEX_DIR= "javadoc-index"; //$NON-NLS-1$
+
+	private static final int FORMAT_VERSION= 2;
+
+	private static final int MAX_OPEN_INDEXES= 4;
+
+	private static final int MAX_INFLATED_PAGES= 8;
+
+	/*
+	 * Anchors of the detail sections: <a name="m-int-"> (Java 8), <a id="m(int)"> (Java 9 to 16)
+	 * and <section class="detail" id="m(int)"> (Java 17 and later).
+	 */
+	private static final Pattern ANCHOR= Pattern.compile("<(?:a|section)\\s[^>]*?\\b(?:name|id)=\"([^\"]+)\""); //$NON-NLS-1$
+
+	private static final Pattern CHARSET= Pattern.compile("charset=\"?([\\w.:-]+)"); //$NON-NLS-1$
+
+	private static final String[] DETAILS_START= { "DETAIL ===", "class=\"details\"" }; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final String[] DETAILS_END= { "END OF CLASS DATA", "</main>", "<footer" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final class Page {
+		final String fCharset;
+		final Map<String, int[]> fSections;
+
+		Page(String charset, Map<String, int[]> sections) {
+			fCharset= charset;
+			fSections= sections;
+		}
+	}
+
+	private static final Map<File, JavadocArchiveIndex> fgIndexes= new LinkedHashMap<>(MAX_OPEN_INDEXES * 2, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, JavadocArchiveIndex> eldest) {
+			if (size() > MAX_OPEN_INDEXES) {
+				eldest.getValue().close();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private static final Set<File> fgIndexing= new HashSet<>();
+
+	private final File fArchive;
+
+	/** modification time of the archive the index was built from */
+	private final long fLastModified;
+
+	/** length of the archive the index was built from */
+	private final long fLength;
+
+	private final Map<String, Page> fPages;
+
+	private ZipFile fZipFile;
+
+	/** inflated compressed pages, by entry name */
+	private final Map<String, byte[]> fInflatedPages= new LinkedHashMap<>(MAX_INFLATED_PAGES * 2, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+			return size() > MAX_INFLATED_PAGES;
+		}
+	};
+
+	private JavadocArchiveIndex(File archive, long lastModified, long length, Map<String, Page> pages) {
+		fArchive= archive;
+		fLastModified= lastModified;
+		fLength= length;
+		fPages= pages;
+	}
+
+	/**
+	 * Returns the attached Javadoc of the given element, read from the index of its Javadoc archive
+	 * if possible.
+	 *
+	 * @param element the element
+	 * @return the attached Javadoc or <code>null</code>
+	 * @throws JavaModelException if accessing the attached Javadoc fails
+	 */
+	public static String getAttachedJavadoc(IJavaElement element) throws JavaModelException {
+		if (element instanceof IMember member && member.isBinary() && (element instanceof IMethod || element.getElementType() == IJavaElement.FIELD)) {
+			String doc= getIndexedJavadoc(member);
+			if (doc != null) {
+				return doc;
+			}
+		}
+		return element.getAttachedJavadoc(null);
+	}
+
+	/**
+	 * Returns the attached Javadoc of the given field or method as read from the index of its
+	 * Javadoc archive.
+	 *
+	 * @param member a binary field or method
+	 * @return the attached Javadoc or <code>null</code> if the member's Javadoc is not attached as a
+	 *         local archive, the index is not available yet, or the member is not in the index
+	 * @throws JavaModelException if the member does not exist
+	 */
+	public static String getIndexedJavadoc(IMember member) throws JavaModelException {
+		URL location= CoreJavaDocLocations.getJavadocBaseLocation(member);
+		if (location == null || !"jar".equals(location.getProtocol())) { //$NON-NLS-1$
+			return null;
+		}
+		String spec= location.getFile();
+		int separator= spec.indexOf("!/"); //$NON-NLS-1$
+		if (separator == -1) {
+			return null;
+		}
+		URL archiveURL= CoreJavaDocLocations.parseURL(spec.substring(0, separator));
+		if (archiveURL == null || !"file".equals(archiveURL.getProtocol())) { //$NON-NLS-1$
+			return null;
+		}
+		JavadocArchiveIndex index= getIndex(CoreJavaDocLocations.toFile(archiveURL), false);
+		if (index == null) {
+			return null;
+		}
+
+		String base= spec.substring(separator + 2);
+		if (!base.isEmpty() && !base.endsWith("/")) { //$NON-NLS-1$
+			base+= '/';
+		}
+		IType type= member.getDeclaringType();
+		String pagePath= type.getPackageFragment().getElementName().replace('.', '/') + '/' + type.getTypeQualifiedName('.') + ".html"; //$NON-NLS-1$
+		List<String> pages= new ArrayList<>(2);
+		pages.add(base + pagePath);
+		IPackageFragmentRoot root= JavaModelUtil.getPackageFragmentRoot(member);
+		IModuleDescription module= root != null ? root.getModuleDescription() : null;
+		if (module != null) {
+			pages.add(base + module.getElementName() + '/' + pagePath);
+		}
+		for (String page : pages) {
+			for (String anchor : getAnchors(member)) {
+				String doc= index.getSection(page, anchor);
+				if (doc != null) {
+					return doc;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the anchors the detail section of the given member can have, for the Javadoc formats
+	 * of the different Java versions.
+	 *
+	 * @param member a field or method
+	 * @return the possible anchors
+	 * @throws JavaModelException if the member does not exist
+	 */
+	static List<String> getAnchors(IMember member) throws JavaModelException {
+		List<String> anchors= new ArrayList<>(4);
+		if (!(member instanceof IMethod method)) {
+			anchors.add(member.getElementName());
+			return anchors;
+		}
+		String[] parameterTypes= method.getParameterTypes();
+		String[] names= new String[parameterTypes.length];
+		String[] java8Names= new String[parameterTypes.length];
+		boolean isVarargs= Flags.isVarargs(method.getFlags());
+		for (int i= 0; i < parameterTypes.length; i++) {
+			String erasure= Signature.getTypeErasure(parameterTypes[i]);
+			if (Signature.getTypeSignatureKind(Signature.getElementType(erasure)) == Signature.TYPE_VARIABLE_SIGNATURE) {
+				// the anchor uses the erasure of the type variable, leave it to JDT Core
+				return anchors;
+			}
+			int dimensions= Signature.getArrayCount(erasure);
+			String elementName= Signature.toString(Signature.getElementType(erasure)).replace('$', '.');
+			boolean varargs= isVarargs && i == parameterTypes.length - 1;
+			StringBuilder name= new StringBuilder(elementName);
+			StringBuilder java8Name= new StringBuilder(elementName);
+			for (int d= 0; d < dimensions; d++) {
+				boolean last= varargs && d == dimensions - 1;
+				name.append(last ? "..." : "[]"); //$NON-NLS-1$ //$NON-NLS-2$
+				java8Name.append(last ? "..." : ":A"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			names[i]= name.toString();
+			java8Names[i]= java8Name.toString();
+		}
+		String methodName= method.getElementName();
+		if (method.isConstructor()) {
+			anchors.add("<init>(" + String.join(",", names) + ')'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		anchors.add(methodName + '(' + String.join(",", names) + ')'); //$NON-NLS-1$
+		anchors.add(methodName + '-' + String.join("-", java8Names) + '-'); //$NON-NLS-1$
+		anchors.add(methodName + '(' + String.join(", ", names) + ')'); //$NON-NLS-1$
+		return anchors;
+	}
+
+	/**
+	 * Returns the index of the given Javadoc archive.
+	 *
+	 * @param archive the Javadoc archive
+	 * @param wait if <code>true</code>, a missing index is built in the calling thread, otherwise it
+	 *            is built in the background and <code>null</code> is returned
+	 * @return the index or <code>null</code> if it is not available (yet)
+	 */
+	public static JavadocArchiveIndex getIndex(File archive, boolean wait) {
+		synchronized (fgIndexes) {
+			JavadocArchiveIndex index= fgIndexes.get(archive);
+			if (index != null) {
+				if (index.isValid()) {
+					return index;
+				}
+				fgIndexes.remove(archive);
+				index.close();
+			}
+			if (!wait && fgIndexing.contains(archive)) {
+				return null;
+			}
+		}
+		if (!archive.isFile()) {
+			return null;
+		}
+		File indexFile= getIndexFile(archive);
+		JavadocArchiveIndex index= indexFile != null ? load(archive, indexFile) : null;
+		if (index == null) {
+			if (!wait) {
+				scheduleIndexing(archive, indexFile);
+				return null;
+			}
+			index= build(archive, indexFile);
+		}
+		if (index != null) {
+			synchronized (fgIndexes) {
+				fgIndexes.put(archive, index);
+			}
+		}
+		return index;
+	}
+
+	private static void scheduleIndexing(File archive, File indexFile) {
+		synchronized (fgIndexes) {
+			if (!fgIndexing.add(archive)) {
+				return;
+			}
+		}
+		Job job= Job.create(JavaDocMessages.JavadocArchiveIndex_job_name, monitor -> {
+			try {
+				JavadocArchiveIndex index= build(archive, indexFile);
+				if (index != null) {
+					synchronized (fgIndexes) {
+						fgIndexes.put(archive, index);
+					}
+				}
+			} finally {
+				synchronized (fgIndexes) {
+					fgIndexing.remove(archive);
+				}
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	/**
+	 * Returns the detail section with the given anchor.
+	 *
+	 * @param page the path of the class page in the archive
+	 * @param anchor the anchor of the section
+	 * @return the HTML of the section or <code>null</code> if it is not in the index
+	 */
+	public String getSection(String page, String anchor) {
+		Page p= fPages.get(page);
+		int[] range= p != null ? p.fSections.get(anchor) : null;
+		if (range == null) {
+			return null;
+		}
+		synchronized (this) {
+			try {
+				if (fZipFile == null) {
+					fZipFile= new ZipFile(fArchive, ZipFile.OPEN_READ);
+				}
+				ZipEntry entry= fZipFile.getEntry(page);
+				if (entry == null) {
+					return null;
+				}
+				if (entry.getMethod() == ZipEntry.STORED) {
+					// skipping in a stored entry does not read the skipped bytes
+					try (InputStream in= fZipFile.getInputStream(entry)) {
+						in.skipNBytes(range[0]);
+						return new String(in.readNBytes(range[1]), p.fCharset);
+					}
+				}
+				byte[] bytes= fInflatedPages.get(page);
+				if (bytes == null) {
+					try (InputStream in= fZipFile.getInputStream(entry)) {
+						bytes= in.readAllBytes();
+					}
+					fInflatedPages.put(page, bytes);
+				}
+				if (range[0] + range[1] > bytes.length) {
+					return null;
+				}
+				return new String(bytes, range[0], range[1], p.fCharset);
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+				return null;
+			}
+		}
+	}
+
+	private boolean isValid() {
+		return fArchive.isFile() && fArchive.lastModified() == fLastModified && fArchive.length() == fLength;
+	}
+
+	private synchronized void close() {
+		fInflatedPages.clear();
+		if (fZipFile != null) {
+			try {
+				fZipFile.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fZipFile= null;
+		}
+	}
+
+	private static File getIndexFile(File archive) {
+		try {
+			File dir= JavaManipulationPlugin.getDefault().getStateLocation().append(INDEX_DIR).toFile();
+			if (!dir.isDirectory() && !dir.mkdirs()) {
+				return null;
+			}
+			return new File(dir, Integer.toHexString(archive.getAbsolutePath().hashCode()) + ".idx"); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			// no state location
+			return null;
+		}
+	}
+
+	private static JavadocArchiveIndex load(File archive, File indexFile) {
+		if (!indexFile.isFile()) {
+			return null;
+		}
+		long lastModified= archive.lastModified();
+		long length= archive.length();
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION
+					|| !archive.getAbsolutePath().equals(in.readUTF())
+					|| in.readLong() != lastModified
+					|| in.readLong() != length) {
+				return null;
+			}
+			int pageCount= in.readInt();
+			Map<String, Page> pages= new HashMap<>(pageCount * 2);
+			for (int i= 0; i < pageCount; i++) {
+				String name= in.readUTF();
+				String charset= in.readUTF();
+				int sectionCount= in.readInt();
+				Map<String, int[]> sections= new HashMap<>(sectionCount * 2);
+				for (int j= 0; j < sectionCount; j++) {
+					sections.put(in.readUTF(), new int[] { in.readInt(), in.readInt() });
+				}
+				pages.put(name, new Page(charset, sections));
+			}
+			return new JavadocArchiveIndex(archive, lastModified, length, pages);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static JavadocArchiveIndex build(File archive, File indexFile) {
+		// read before the archive, so that a concurrent change invalidates the index
+		long lastModified= archive.lastModified();
+		long length= archive.length();
+		Map<String, Page> pages= new HashMap<>();
+		try (ZipFile zipFile= new ZipFile(archive, ZipFile.OPEN_READ)) {
+			Enumeration<? extends ZipEntry> entries= zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry= entries.nextElement();
+				if (isClassPage(entry.getName())) {
+					byte[] bytes;
+					try (InputStream in= zipFile.getInputStream(entry)) {
+						bytes= in.readAllBytes();
+					}
+					Page page= indexPage(bytes);
+					if (page != null) {
+						pages.put(entry.getName(), page);
+					}
+				}
+			}
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(new Status(IStatus.WARNING, JavaManipulationPlugin.getPluginId(), e.getMessage(), e));
+			return null;
+		}
+		if (indexFile != null) {
+			write(archive, lastModified, length, indexFile, pages);
+		}
+		return new JavadocArchiveIndex(archive, lastModified, length, pages);
+	}
+
+	private static boolean isClassPage(String name) {
+		if (!name.endsWith(".html") || name.contains("class-use/") || name.contains("doc-files/")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return false;
+		}
+		int start= name.lastIndexOf('/') + 1;
+		return start < name.length() && Character.isUpperCase(name.charAt(start));
+	}
+
+	/*
+	 * The page is scanned as ISO-8859-1, so that character offsets are byte offsets. Anchors and
+	 * markup are ASCII in all encodings Javadoc uses.
+	 */
+	private static Page indexPage(byte[] bytes) {
+		String text= new String(bytes, StandardCharsets.ISO_8859_1);
+		int start= indexOfAny(text, DETAILS_START, 0);
+		if (start == -1) {
+			return null;
+		}
+		int end= indexOfAny(text, DETAILS_END, start);
+		if (end == -1) {
+			end= text.length();
+		}
+
+		List<String> anchors= new ArrayList<>();
+		List<int[]> tags= new ArrayList<>();
+		Matcher matcher= ANCHOR.matcher(text).region(start, end);
+		while (matcher.find()) {
+			anchors.add(unescape(matcher.group(1)));
+			tags.add(new int[] { matcher.start(), matcher.end() });
+		}
+		Map<String, int[]> sections= new LinkedHashMap<>();
+		for (int i= 0; i < anchors.size(); i++) {
+			int next= i + 1 < tags.size() ? tags.get(i + 1)[0] : end;
+			int[] range= getContentRange(text, tags.get(i)[0], tags.get(i)[1], next);
+			if (range != null) {
+				sections.put(anchors.get(i), range);
+			}
+		}
+		if (sections.isEmpty()) {
+			return null;
+		}
+		return new Page(getCharset(text), sections);
+	}
+
+	/*
+	 * The content of a section starts after its anchor: after the start tag of a <section>, or after
+	 * the end tag of an <a> anchor. A <section> ends with its end tag, an <a> anchor at the next
+	 * anchor.
+	 */
+	private static int[] getContentRange(String text, int tagStart, int attributeEnd, int next) {
+		int contentStart= text.indexOf('>', attributeEnd);
+		if (contentStart == -1 || contentStart >= next) {
+			return null;
+		}
+		contentStart++;
+		int contentEnd= next;
+		if (text.startsWith("<section", tagStart)) { //$NON-NLS-1$
+			int sectionEnd= text.indexOf("</section>", contentStart); //$NON-NLS-1$
+			if (sectionEnd != -1 && sectionEnd < next) {
+				contentEnd= sectionEnd;
+			}
+		} else {
+			int anchorEnd= text.indexOf("</a>", contentStart); //$NON-NLS-1$
+			if (anchorEnd != -1 && anchorEnd < next) {
+				contentStart= anchorEnd + "</a>".length(); //$NON-NLS-1$
+			}
+		}
+		return new int[] { contentStart, contentEnd - contentStart };
+	}
+
+	private static int indexOfAny(String text, String[] markers, int from) {
+		int result= -1;
+		for (String marker : markers) {
+			int index= text.indexOf(marker, from);
+			if (index != -1 && (result == -1 || index < result)) {
+				result= index;
+			}
+		}
+		return result;
+	}
+
+	private static String getCharset(String text) {
+		int head= text.indexOf("</head>"); //$NON-NLS-1$
+		Matcher matcher= CHARSET.matcher(text).region(0, head != -1 ? head : Math.min(text.length(), 2048));
+		if (matcher.find() && Charset.isSupported(matcher.group(1))) {
+			return matcher.group(1);
+		}
+		return StandardCharsets.UTF_8.name();
+	}
+
+	private static String unescape(String anchor) {
+		if (anchor.indexOf('&') == -1) {
+			return anchor;
+		}
+		return anchor.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+	}
+
+	private static void write(File archive, long lastModified, long length, File indexFile, Map<String, Page> pages) {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(archive.getAbsolutePath());
+			out.writeLong(lastModified);
+			out.writeLong(length);
+			out.writeInt(pages.size());
+			for (Map.Entry<String, Page> entry : pages.entrySet()) {
+				Page page= entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeUTF(page.fCharset);
+				out.writeInt(page.fSections.size());
+				for (Map.Entry<String, int[]> section : page.fSections.entrySet()) {
+					out.writeUTF(section.getKey());
+					out.writeInt(section.getValue()[0]);
+					out.writeInt(section.getValue()[1]);
+				}
+			}
+		} catch (IOException e) {
+			indexFile.delete();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,14 @@
 package org.eclipse.jdt.internal.common;
 
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import org.eclipse.jdt.core.dom.*;
 
@@ -61,6 +63,12 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	Map<VisitorEnum, Object> consumerdata;
 
+	/**
+	 * Incremented whenever one of the maps above may have changed, so that a LambdaASTVisitor that
+	 * dispatches through tables built from the maps can rebuild them, even while it is visiting.
+	 */
+	int modcount;
+
 	/**
 	 *
 	 * @return - Map of visitor kinds -> BiPredicates
@@ -93,10 +101,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
-		this.predicatedata= new HashMap<>();
-		this.consumerdata= new HashMap<>();
+		this.predicatemap= new TrackedMap<>();
+		this.consumermap= new TrackedMap<>();
+		this.predicatedata= new TrackedMap<>();
+		this.consumerdata= new TrackedMap<>();
 
 		this.dataholder= dataholder;
 		dataholder.setHelperVisitor(this);
@@ -124,6 +132,50 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		return this;
 	}
 
+	/**
+	 * Register with a traversal that runs several visitors in a single pass over the AST. The
+	 * visitor is only called for the visitor kinds added so far.
+	 *
+	 * @param traversal - FusedASTVisitor to register with
+	 * @return - HelperVisitor
+	 */
+	public HelperVisitor<E, V, T> register(FusedASTVisitor traversal) {
+		return register(traversal, false);
+	}
+
+	/**
+	 * Register with a traversal that runs several visitors in a single pass over the AST. The
+	 * visitor is only called for the visitor kinds added so far.
+	 *
+	 * @param traversal - FusedASTVisitor to register with
+	 * @param visitjavadoc - true if Javadoc comments should be visited
+	 * @return - HelperVisitor
+	 */
+	public HelperVisitor<E, V, T> register(FusedASTVisitor traversal, boolean visitjavadoc) {
+		Set<VisitorEnum> kinds= EnumSet.noneOf(VisitorEnum.class);
+		kinds.addAll(predicatemap.keySet());
+		kinds.addAll(consumermap.keySet());
+		astvisitor= new LambdaASTVisitor<>(this, visitjavadoc);
+		traversal.register(astvisitor, kinds);
+		return this;
+	}
+
+	/**
+	 * Run several HelperVisitors in a single traversal of the given node. The result is the same as
+	 * calling {@link #build(ASTNode)} on each of them, one after the other, as long as they do not
+	 * depend on each other's results.
+	 *
+	 * @param node - ASTNode
+	 * @param visitors - HelperVisitors to run
+	 */
+	public static void buildAll(ASTNode node, HelperVisitor<?, ?, ?>... visitors) {
+		FusedASTVisitor traversal= new FusedASTVisitor();
+		for (HelperVisitor<?, ?, ?> visitor : visitors) {
+			visitor.register(traversal);
+		}
+		node.accept(traversal);
+	}
+
 	/**
 	 * Add BiPredicate for visitor kind
 	 *
@@ -6840,4 +6892,111 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		this.predicatedata.clear();
 	}
 
+	/**
+	 * Map that increments {@link HelperVisitor#modcount} on every modification. Access to the views
+	 * counts as a modification, as they can be used to modify the map.
+	 *
+	 * @param <M> - value type
+	 */
+	private final class TrackedMap<M> extends LinkedHashMap<VisitorEnum, M> {
+
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		public M put(VisitorEnum key, M value) {
+			modcount++;
+			return super.put(key, value);
+		}
+
+		@Override
+		public void putAll(Map<? extends VisitorEnum, ? extends M> m) {
+			modcount++;
+			super.putAll(m);
+		}
+
+		@Override
+		public M putIfAbsent(VisitorEnum key, M value) {
+			modcount++;
+			return super.putIfAbsent(key, value);
+		}
+
+		@Override
+		public M remove(Object key) {
+			modcount++;
+			return super.remove(key);
+		}
+
+		@Override
+		public boolean remove(Object key, Object value) {
+			modcount++;
+			return super.remove(key, value);
+		}
+
+		@Override
+		public M replace(VisitorEnum key, M value) {
+			modcount++;
+			return super.replace(key, value);
+		}
+
+		@Override
+		public boolean replace(VisitorEnum key, M oldValue, M newValue) {
+			modcount++;
+			return super.replace(key, oldValue, newValue);
+		}
+
+		@Override
+		public void replaceAll(BiFunction<? super VisitorEnum, ? super M, ? extends M> function) {
+			modcount++;
+			super.replaceAll(function);
+		}
+
+		@Override
+		public M compute(VisitorEnum key, BiFunction<? super VisitorEnum, ? super M, ? extends M> remappingFunction) {
+			modcount++;
+			return super.compute(key, remappingFunction);
+		}
+
+		@Override
+		public M computeIfAbsent(VisitorEnum key, Function<? super VisitorEnum, ? extends M> mappingFunction) {
+			modcount++;
+			return super.computeIfAbsent(key, mappingFunction);
+		}
+
+		@Override
+		public M computeIfPresent(VisitorEnum key, BiFunction<? super VisitorEnum, ? super M, ? extends M> remappingFunction) {
+			modcount++;
+			return super.computeIfPresent(key, remappingFunction);
+		}
+
+		@Override
+		public M merge(VisitorEnum key, M value, BiFunction<? super M, ? super M, ? extends M> remappingFunction) {
+			modcount++;
+			return super.merge(key, value, remappingFunction);
+		}
+
+		@Override
+		public void clear() {
+			modcount++;
+			super.clear();
+		}
+
+		@Override
+		public Set<VisitorEnum> keySet() {
+			modcount++;
+			return super.keySet();
+		}
+
+		@Override
+		public Collection<M> values() {
+			modcount++;
+			return super.values();
+		}
+
+		@Override
+		public Set<Map.Entry<VisitorEnum, M>> entrySet() {
+			modcount++;
+			return super.entrySet();
+		}
+	}
+
 }
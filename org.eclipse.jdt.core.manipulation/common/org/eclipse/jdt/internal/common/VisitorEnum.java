@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
-import java.util.Arrays;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -258,8 +254,24 @@ public enum VisitorEnum {
 		return Stream.of(VisitorEnum.values());
 	}
 
-	static final Map<Integer, VisitorEnum> values= Arrays.stream(VisitorEnum.values())
-			.collect(Collectors.toMap(VisitorEnum::getValue, Function.identity()));
+	/**
+	 * VisitorEnum values indexed by node type
+	 */
+	private static final VisitorEnum[] values;
+
+	static {
+		int max= stream().mapToInt(VisitorEnum::getValue).max().orElse(0);
+		values= new VisitorEnum[max + 1];
+		stream().forEach(value -> values[value.getValue()]= value);
+	}
+
+	/**
+	 *
+	 * @return - the size of a table indexed by node type that has an entry for every VisitorEnum
+	 */
+	public static int getTableSize() {
+		return values.length;
+	}
 
 	/**
 	 *
@@ -267,7 +279,7 @@ public enum VisitorEnum {
 	 * @return - corresponding VistorEnum
 	 */
 	public static VisitorEnum fromNodetype(final int nodetype) {
-		return values.get(nodetype);
+		return nodetype >= 0 && nodetype < values.length ? values[nodetype] : null;
 	}
 
 	/**
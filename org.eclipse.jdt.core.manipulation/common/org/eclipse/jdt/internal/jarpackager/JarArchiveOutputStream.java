@@ -0,0 +1,875 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarpackager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * A {@link JarOutputStream} that writes the archive through a file channel and compresses the
+ * entries in parallel.
+ * <p>
+ * The content of an entry is collected in memory until the entry is closed. It is then deflated by
+ * a worker thread while the caller continues with the next entries. Entries are written to the
+ * archive in the order in which they were added. Entries of other archives can be copied with
+ * {@link #copyEntry(ZipFile, ZipEntry, ZipEntry)} without inflating and deflating them again.
+ * </p>
+ * <p>
+ * An entry that grows larger than 1 MB is not kept in memory: the entries before it are written and
+ * its content is then written to the archive as it comes in. Deflated entries are followed by a
+ * data descriptor with their CRC and sizes. Stored entries are only streamed if their size and CRC
+ * are set, otherwise they are collected in memory.
+ * </p>
+ */
+public final class JarArchiveOutputStream extends JarOutputStream {
+
+	private static final int LOCAL_HEADER_SIGNATURE= 0x04034b50;
+
+	private static final int CENTRAL_HEADER_SIGNATURE= 0x02014b50;
+
+	private static final int DATA_DESCRIPTOR_SIGNATURE= 0x08074b50;
+
+	private static final int END_SIGNATURE= 0x06054b50;
+
+	private static final int ZIP64_END_SIGNATURE= 0x06064b50;
+
+	private static final int ZIP64_LOCATOR_SIGNATURE= 0x07064b50;
+
+	private static final int LOCAL_HEADER_SIZE= 30;
+
+	private static final int CENTRAL_HEADER_SIZE= 46;
+
+	private static final int END_SIZE= 22;
+
+	private static final int DATA_DESCRIPTOR_SIZE= 16;
+
+	private static final int FLAG_ENCRYPTED= 0x1;
+
+	private static final int FLAG_DATA_DESCRIPTOR= 0x8;
+
+	private static final int FLAG_UTF8= 0x800;
+
+	private static final long ZIP32_LIMIT= 0xFFFFFFFFL;
+
+	private static final int ZIP32_ENTRY_LIMIT= 0xFFFF;
+
+	private static final int MAX_PENDING_PER_THREAD= 4;
+
+	private static final int STREAM_THRESHOLD= 1 << 20;
+
+	private static final byte[] JAR_MAGIC= { (byte) 0xFE, (byte) 0xCA, 0, 0 };
+
+	/**
+	 * An entry ready to be written: its content is either compressed data in memory or a range of
+	 * a source archive.
+	 */
+	private static final class Entry {
+		final byte[] fName;
+		int fFlags;
+		final int fMethod;
+		final int fDosTime;
+		final byte[] fExtra;
+		final byte[] fComment;
+		long fCrc;
+		long fCompressedSize;
+		long fSize;
+		byte[] fData;
+		FileChannel fSource;
+		long fSourcePosition;
+
+		Entry(ZipEntry entry, int method, byte[] extra) {
+			String name= entry.getName();
+			fName= name.getBytes(StandardCharsets.UTF_8);
+			fFlags= isAscii(name) ? 0 : FLAG_UTF8;
+			fMethod= method;
+			fDosTime= toDosTime(entry.getTime() == -1 ? System.currentTimeMillis() : entry.getTime());
+			fExtra= extra != null ? extra : new byte[0];
+			fComment= entry.getComment() != null ? entry.getComment().getBytes(StandardCharsets.UTF_8) : new byte[0];
+		}
+	}
+
+	/**
+	 * The central directory of a source archive, used to locate the compressed data of its
+	 * entries.
+	 */
+	private static final class SourceArchive {
+		final String fName;
+		final FileChannel fChannel;
+		final Map<String, long[]> fEntries;
+
+		SourceArchive(String name, FileChannel channel, Map<String, long[]> entries) {
+			fName= name;
+			fChannel= channel;
+			fEntries= entries;
+		}
+	}
+
+	private static final class Buffer extends ByteArrayOutputStream {
+		Buffer(int size) {
+			super(size);
+		}
+
+		byte[] array() {
+			return buf;
+		}
+	}
+
+	private final FileChannel fChannel;
+
+	private final ExecutorService fExecutor;
+
+	private final int fMaxPending;
+
+	private final Deque<Future<Entry>> fPending= new ArrayDeque<>();
+
+	private final Set<String> fNames= new HashSet<>();
+
+	private final Buffer fCentralDirectory= new Buffer(8192);
+
+	private SourceArchive fSource;
+
+	private long fOffset;
+
+	private long fEntryCount;
+
+	private int fMethod= DEFLATED;
+
+	private int fLevel= Deflater.DEFAULT_COMPRESSION;
+
+	private byte[] fArchiveComment= new byte[0];
+
+	private ZipEntry fCurrent;
+
+	private int fCurrentMethod;
+
+	private Buffer fCurrentData;
+
+	/** the entry whose content is written to the archive as it comes in, or <code>null</code> */
+	private Entry fStreamed;
+
+	private long fStreamedOffset;
+
+	private long fStreamedLength;
+
+	private final CRC32 fStreamedCrc= new CRC32();
+
+	private byte[] fDeflated;
+
+	private boolean fFirstEntry= true;
+
+	private boolean fFinished;
+
+	private boolean fClosed;
+
+	/**
+	 * Creates an archive at the given location.
+	 *
+	 * @param file the archive file, overwritten if it exists
+	 * @param manifest the manifest to write as first entry, or <code>null</code>
+	 * @throws IOException if the file cannot be written
+	 */
+	public JarArchiveOutputStream(File file, Manifest manifest) throws IOException {
+		super(OutputStream.nullOutputStream());
+		fChannel= FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		int threads= Runtime.getRuntime().availableProcessors();
+		if (threads > 1) {
+			fExecutor= Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread= new Thread(runnable, "JAR Export Compressor"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			fExecutor= null;
+		}
+		fMaxPending= threads * MAX_PENDING_PER_THREAD;
+		if (manifest != null) {
+			try {
+				putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+				manifest.write(this);
+				closeEntry();
+			} catch (IOException e) {
+				close();
+				throw e;
+			}
+		}
+	}
+
+	@Override
+	public void setComment(String comment) {
+		fArchiveComment= comment != null ? comment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+	}
+
+	@Override
+	public void setMethod(int method) {
+		if (method != DEFLATED && method != STORED) {
+			throw new IllegalArgumentException("invalid compression method"); //$NON-NLS-1$
+		}
+		fMethod= method;
+	}
+
+	@Override
+	public void setLevel(int level) {
+		if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+			throw new IllegalArgumentException("invalid compression level"); //$NON-NLS-1$
+		}
+		fLevel= level;
+	}
+
+	@Override
+	public void putNextEntry(ZipEntry entry) throws IOException {
+		closeEntry();
+		addName(entry.getName());
+		fCurrent= entry;
+		fCurrentMethod= entry.getMethod() == -1 ? fMethod : entry.getMethod();
+		long size= entry.getSize();
+		fCurrentData= new Buffer(size > 0 && size <= STREAM_THRESHOLD ? (int) size : 512);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (fCurrent == null) {
+			throw new ZipException("no current ZIP entry"); //$NON-NLS-1$
+		}
+		if (fStreamed == null && fCurrentData.size() + (long) len > STREAM_THRESHOLD && canStream()) {
+			startStreaming();
+		}
+		if (fStreamed != null) {
+			writeStreamed(b, off, len);
+		} else {
+			fCurrentData.write(b, off, len);
+		}
+	}
+
+	@Override
+	public void flush() {
+		// entries are written when they are closed
+	}
+
+	@Override
+	public void closeEntry() throws IOException {
+		ensureOpen();
+		if (fCurrent == null) {
+			return;
+		}
+		if (fStreamed != null) {
+			finishStreaming();
+			return;
+		}
+		ZipEntry entry= fCurrent;
+		Buffer data= fCurrentData;
+		int method= fCurrentMethod;
+		fCurrent= null;
+		fCurrentData= null;
+
+		Entry result= new Entry(entry, method, getExtra(entry));
+		int level= fLevel;
+		submit(() -> {
+			byte[] bytes= data.array();
+			int length= data.size();
+			CRC32 crc= new CRC32();
+			crc.update(bytes, 0, length);
+			result.fCrc= crc.getValue();
+			result.fSize= length;
+			if (method == STORED) {
+				checkStored(entry, length, result.fCrc);
+				result.fData= bytes;
+				result.fCompressedSize= length;
+			} else {
+				result.fData= deflate(bytes, length, level);
+				result.fCompressedSize= result.fData.length;
+			}
+			return result;
+		});
+	}
+
+	private static void checkStored(ZipEntry entry, long size, long crc) throws ZipException {
+		if (entry.getSize() != -1 && entry.getSize() != size) {
+			throw new ZipException("invalid entry size (expected " + entry.getSize() + " but got " + size + " bytes)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (entry.getCrc() != -1 && entry.getCrc() != crc) {
+			throw new ZipException("invalid entry crc-32 (expected 0x" + Long.toHexString(entry.getCrc()) + " but got 0x" + Long.toHexString(crc) + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/*
+	 * Stored entries can only be streamed if the local header can be written before the content:
+	 * readers of stored entries do not support data descriptors.
+	 */
+	private boolean canStream() {
+		return fCurrentMethod == DEFLATED
+				|| fCurrent.getSize() != -1 && fCurrent.getSize() < ZIP32_LIMIT && fCurrent.getCrc() != -1;
+	}
+
+	/*
+	 * Writes the pending entries and the local header of the current entry, followed by the
+	 * content collected so far.
+	 */
+	private void startStreaming() throws IOException {
+		drain(true);
+		Entry entry= new Entry(fCurrent, fCurrentMethod, getExtra(fCurrent));
+		if (fCurrentMethod == STORED) {
+			entry.fCrc= fCurrent.getCrc();
+			entry.fSize= fCurrent.getSize();
+			entry.fCompressedSize= fCurrent.getSize();
+		} else {
+			entry.fFlags|= FLAG_DATA_DESCRIPTOR;
+			def.reset();
+			def.setLevel(fLevel);
+			if (fDeflated == null) {
+				fDeflated= new byte[65536];
+			}
+		}
+		fStreamedOffset= writeLocalHeader(entry);
+		fStreamedCrc.reset();
+		fStreamedLength= 0;
+		fStreamed= entry;
+
+		Buffer data= fCurrentData;
+		fCurrentData= null;
+		writeStreamed(data.array(), 0, data.size());
+	}
+
+	private void writeStreamed(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return;
+		}
+		fStreamedCrc.update(b, off, len);
+		fStreamedLength+= len;
+		if (fStreamed.fMethod == STORED) {
+			if (fStreamedLength > fStreamed.fSize) {
+				throw new ZipException("invalid entry size (expected " + fStreamed.fSize + " but got " + fStreamedLength + " bytes)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			writeFully(ByteBuffer.wrap(b, off, len));
+			fOffset+= len;
+		} else {
+			def.setInput(b, off, len);
+			while (!def.needsInput()) {
+				writeDeflated();
+			}
+		}
+	}
+
+	private void writeDeflated() throws IOException {
+		int length= def.deflate(fDeflated);
+		if (length > 0) {
+			writeFully(ByteBuffer.wrap(fDeflated, 0, length));
+			fOffset+= length;
+			fStreamed.fCompressedSize+= length;
+		}
+	}
+
+	private void finishStreaming() throws IOException {
+		Entry entry= fStreamed;
+		ZipEntry zipEntry= fCurrent;
+		if (entry.fMethod == STORED) {
+			checkStored(zipEntry, fStreamedLength, fStreamedCrc.getValue());
+		} else {
+			def.finish();
+			while (!def.finished()) {
+				writeDeflated();
+			}
+			entry.fCrc= fStreamedCrc.getValue();
+			entry.fSize= fStreamedLength;
+			if (entry.fSize >= ZIP32_LIMIT || entry.fCompressedSize >= ZIP32_LIMIT) {
+				throw new ZipException("entry too large: " + zipEntry.getName()); //$NON-NLS-1$
+			}
+			ByteBuffer descriptor= ByteBuffer.allocate(DATA_DESCRIPTOR_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			descriptor.putInt(DATA_DESCRIPTOR_SIGNATURE);
+			descriptor.putInt((int) entry.fCrc);
+			descriptor.putInt((int) entry.fCompressedSize);
+			descriptor.putInt((int) entry.fSize);
+			descriptor.flip();
+			writeFully(descriptor);
+			fOffset+= DATA_DESCRIPTOR_SIZE;
+		}
+		fStreamed= null;
+		fCurrent= null;
+		writeCentralHeader(entry, fStreamedOffset);
+	}
+
+	/**
+	 * Copies an entry of another archive to this archive without decompressing it. The entry is
+	 * only copied if it is stored in the source archive with the compression method of the given
+	 * target entry, otherwise the caller has to copy its content with
+	 * {@link #putNextEntry(ZipEntry)}.
+	 *
+	 * @param zipFile the source archive
+	 * @param zipEntry the entry of the source archive
+	 * @param entry the entry to create in this archive; its name, time, extra data and comment are
+	 *            used
+	 * @return <code>true</code> if the entry has been copied, <code>false</code> otherwise
+	 * @throws IOException if an I/O error occurred or if this archive already contains an entry
+	 *             with the name of the target entry
+	 */
+	public boolean copyEntry(ZipFile zipFile, ZipEntry zipEntry, ZipEntry entry) throws IOException {
+		closeEntry();
+		int method= entry.getMethod() == -1 ? fMethod : entry.getMethod();
+		SourceArchive source= getSource(zipFile);
+		long[] raw= source != null ? source.fEntries.get(zipEntry.getName()) : null;
+		if (raw == null || raw[0] != method || raw[2] != zipEntry.getCrc() || (raw[1] & FLAG_ENCRYPTED) != 0) {
+			return false;
+		}
+
+		ByteBuffer header= ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(source.fChannel, header, raw[5]);
+		if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+			return false;
+		}
+		long dataPosition= raw[5] + LOCAL_HEADER_SIZE + Short.toUnsignedInt(header.getShort(26)) + Short.toUnsignedInt(header.getShort(28));
+
+		addName(entry.getName());
+		Entry result= new Entry(entry, method, getExtra(entry));
+		result.fCrc= raw[2];
+		result.fCompressedSize= raw[3];
+		result.fSize= raw[4];
+		result.fSource= source.fChannel;
+		result.fSourcePosition= dataPosition;
+		fPending.add(CompletableFuture.completedFuture(result));
+		drain(false);
+		return true;
+	}
+
+	@Override
+	public void finish() throws IOException {
+		ensureOpen();
+		if (fFinished) {
+			return;
+		}
+		closeEntry();
+		drain(true);
+		closeSource();
+
+		long centralDirectoryOffset= fOffset;
+		long centralDirectorySize= fCentralDirectory.size();
+		writeFully(ByteBuffer.wrap(fCentralDirectory.array(), 0, fCentralDirectory.size()));
+		fOffset+= centralDirectorySize;
+
+		boolean zip64= fEntryCount >= ZIP32_ENTRY_LIMIT || centralDirectoryOffset >= ZIP32_LIMIT || centralDirectorySize >= ZIP32_LIMIT;
+		if (zip64) {
+			long zip64EndOffset= fOffset;
+			ByteBuffer end= ByteBuffer.allocate(56 + 20).order(ByteOrder.LITTLE_ENDIAN);
+			end.putInt(ZIP64_END_SIGNATURE);
+			end.putLong(44);
+			end.putShort((short) 45);
+			end.putShort((short) 45);
+			end.putInt(0);
+			end.putInt(0);
+			end.putLong(fEntryCount);
+			end.putLong(fEntryCount);
+			end.putLong(centralDirectorySize);
+			end.putLong(centralDirectoryOffset);
+			end.putInt(ZIP64_LOCATOR_SIGNATURE);
+			end.putInt(0);
+			end.putLong(zip64EndOffset);
+			end.putInt(1);
+			end.flip();
+			writeFully(end);
+			fOffset+= 76;
+		}
+
+		ByteBuffer end= ByteBuffer.allocate(END_SIZE + fArchiveComment.length).order(ByteOrder.LITTLE_ENDIAN);
+		end.putInt(END_SIGNATURE);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) Math.min(fEntryCount, ZIP32_ENTRY_LIMIT));
+		end.putShort((short) Math.min(fEntryCount, ZIP32_ENTRY_LIMIT));
+		end.putInt((int) Math.min(centralDirectorySize, ZIP32_LIMIT));
+		end.putInt((int) Math.min(centralDirectoryOffset, ZIP32_LIMIT));
+		end.putShort((short) fArchiveComment.length);
+		end.put(fArchiveComment);
+		end.flip();
+		writeFully(end);
+		fFinished= true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (fClosed) {
+			return;
+		}
+		try {
+			if (!fFinished) {
+				finish();
+			}
+		} finally {
+			fClosed= true;
+			for (Future<Entry> future : fPending) {
+				future.cancel(true);
+			}
+			fPending.clear();
+			if (fExecutor != null) {
+				fExecutor.shutdownNow();
+			}
+			def.end();
+			try {
+				closeSource();
+			} finally {
+				fChannel.close();
+			}
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (fClosed) {
+			throw new IOException("Stream closed"); //$NON-NLS-1$
+		}
+	}
+
+	private void addName(String name) throws ZipException {
+		if (!fNames.add(name)) {
+			throw new ZipException("duplicate entry: " + name); //$NON-NLS-1$
+		}
+	}
+
+	private byte[] getExtra(ZipEntry entry) {
+		byte[] extra= entry.getExtra();
+		if (!fFirstEntry) {
+			return extra;
+		}
+		// like JarOutputStream, mark the archive as a JAR file in the first entry
+		fFirstEntry= false;
+		if (extra == null) {
+			return JAR_MAGIC.clone();
+		}
+		byte[] result= new byte[extra.length + JAR_MAGIC.length];
+		System.arraycopy(JAR_MAGIC, 0, result, 0, JAR_MAGIC.length);
+		System.arraycopy(extra, 0, result, JAR_MAGIC.length, extra.length);
+		return result;
+	}
+
+	private void submit(Callable<Entry> task) throws IOException {
+		if (fExecutor == null) {
+			try {
+				write(task.call());
+			} catch (IOException | RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+			return;
+		}
+		fPending.add(fExecutor.submit(task));
+		drain(false);
+	}
+
+	/*
+	 * Writes the completed entries at the head of the queue. Waits for the head if the queue is
+	 * full or if all entries have to be written.
+	 */
+	private void drain(boolean all) throws IOException {
+		while (!fPending.isEmpty() && (all || fPending.size() > fMaxPending || fPending.peekFirst().isDone())) {
+			Future<Entry> future= fPending.removeFirst();
+			try {
+				write(future.get());
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof IOException ioException) {
+					throw ioException;
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IOException(cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+		}
+	}
+
+	private void write(Entry entry) throws IOException {
+		long offset= writeLocalHeader(entry);
+		if (entry.fSource != null) {
+			long position= entry.fSourcePosition;
+			long remaining= entry.fCompressedSize;
+			while (remaining > 0) {
+				long transferred= entry.fSource.transferTo(position, remaining, fChannel);
+				if (transferred <= 0) {
+					throw new ZipException("unexpected end of archive"); //$NON-NLS-1$
+				}
+				position+= transferred;
+				remaining-= transferred;
+			}
+		} else {
+			writeFully(ByteBuffer.wrap(entry.fData, 0, (int) entry.fCompressedSize));
+		}
+		fOffset+= entry.fCompressedSize;
+		writeCentralHeader(entry, offset);
+	}
+
+	/*
+	 * Writes the local header of the given entry and returns its offset.
+	 */
+	private long writeLocalHeader(Entry entry) throws IOException {
+		long offset= fOffset;
+		int versionNeeded= entry.fMethod == STORED ? 10 : 20;
+
+		ByteBuffer header= ByteBuffer.allocate(LOCAL_HEADER_SIZE + entry.fName.length + entry.fExtra.length).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(LOCAL_HEADER_SIGNATURE);
+		header.putShort((short) versionNeeded);
+		header.putShort((short) entry.fFlags);
+		header.putShort((short) entry.fMethod);
+		header.putInt(entry.fDosTime);
+		header.putInt((int) entry.fCrc);
+		header.putInt((int) entry.fCompressedSize);
+		header.putInt((int) entry.fSize);
+		header.putShort((short) entry.fName.length);
+		header.putShort((short) entry.fExtra.length);
+		header.put(entry.fName);
+		header.put(entry.fExtra);
+		header.flip();
+		writeFully(header);
+		fOffset+= header.limit();
+		return offset;
+	}
+
+	private void writeCentralHeader(Entry entry, long offset) {
+		int versionNeeded= entry.fMethod == STORED ? 10 : 20;
+		boolean zip64= offset >= ZIP32_LIMIT;
+		int extraLength= entry.fExtra.length + (zip64 ? 12 : 0);
+		ByteBuffer central= ByteBuffer.allocate(CENTRAL_HEADER_SIZE + entry.fName.length + extraLength + entry.fComment.length).order(ByteOrder.LITTLE_ENDIAN);
+		central.putInt(CENTRAL_HEADER_SIGNATURE);
+		central.putShort((short) (zip64 ? 45 : 20));
+		central.putShort((short) (zip64 ? 45 : versionNeeded));
+		central.putShort((short) entry.fFlags);
+		central.putShort((short) entry.fMethod);
+		central.putInt(entry.fDosTime);
+		central.putInt((int) entry.fCrc);
+		central.putInt((int) entry.fCompressedSize);
+		central.putInt((int) entry.fSize);
+		central.putShort((short) entry.fName.length);
+		central.putShort((short) extraLength);
+		central.putShort((short) entry.fComment.length);
+		central.putShort((short) 0);
+		central.putShort((short) 0);
+		central.putInt(0);
+		central.putInt((int) (zip64 ? ZIP32_LIMIT : offset));
+		central.put(entry.fName);
+		central.put(entry.fExtra);
+		if (zip64) {
+			central.putShort((short) 0x0001);
+			central.putShort((short) 8);
+			central.putLong(offset);
+		}
+		central.put(entry.fComment);
+		fCentralDirectory.write(central.array(), 0, central.position());
+		fEntryCount++;
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			fChannel.write(buffer);
+		}
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long current= position;
+		while (buffer.hasRemaining()) {
+			int read= channel.read(buffer, current);
+			if (read < 0) {
+				throw new ZipException("unexpected end of archive"); //$NON-NLS-1$
+			}
+			current+= read;
+		}
+		buffer.flip();
+	}
+
+	/*
+	 * Returns the central directory of the given archive, or null if its entries cannot be copied
+	 * (e.g. a ZIP64 archive). Only one source archive is kept open: archives are copied one
+	 * after the other.
+	 */
+	private SourceArchive getSource(ZipFile zipFile) throws IOException {
+		String name= zipFile.getName();
+		if (fSource != null && fSource.fName.equals(name)) {
+			return fSource.fEntries != null ? fSource : null;
+		}
+		drain(true);
+		closeSource();
+		FileChannel channel;
+		try {
+			channel= FileChannel.open(new File(name).toPath(), StandardOpenOption.READ);
+		} catch (IOException e) {
+			fSource= new SourceArchive(name, null, null);
+			return null;
+		}
+		Map<String, long[]> entries;
+		try {
+			entries= readCentralDirectory(channel);
+		} catch (IOException e) {
+			entries= null;
+		}
+		if (entries == null) {
+			channel.close();
+			fSource= new SourceArchive(name, null, null);
+			return null;
+		}
+		fSource= new SourceArchive(name, channel, entries);
+		return fSource;
+	}
+
+	private void closeSource() throws IOException {
+		if (fSource != null) {
+			FileChannel channel= fSource.fChannel;
+			fSource= null;
+			if (channel != null) {
+				channel.close();
+			}
+		}
+	}
+
+	/*
+	 * Maps the entry names to { method, flags, crc, compressed size, size, local header offset }.
+	 */
+	private static Map<String, long[]> readCentralDirectory(FileChannel channel) throws IOException {
+		long size= channel.size();
+		int tailLength= (int) Math.min(size, END_SIZE + 0xFFFF);
+		ByteBuffer tail= ByteBuffer.allocate(tailLength).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(channel, tail, size - tailLength);
+		int end= -1;
+		for (int i= tailLength - END_SIZE; i >= 0; i--) {
+			if (tail.getInt(i) == END_SIGNATURE) {
+				end= i;
+				break;
+			}
+		}
+		if (end == -1) {
+			return null;
+		}
+		int count= Short.toUnsignedInt(tail.getShort(end + 10));
+		long centralDirectorySize= Integer.toUnsignedLong(tail.getInt(end + 12));
+		long centralDirectoryOffset= Integer.toUnsignedLong(tail.getInt(end + 16));
+		if (count == ZIP32_ENTRY_LIMIT || centralDirectorySize == ZIP32_LIMIT || centralDirectoryOffset == ZIP32_LIMIT
+				|| centralDirectoryOffset + centralDirectorySize != size - tailLength + end) {
+			// ZIP64 or data in front of the archive
+			return null;
+		}
+
+		ByteBuffer directory= ByteBuffer.allocate((int) centralDirectorySize).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(channel, directory, centralDirectoryOffset);
+		Map<String, long[]> entries= new HashMap<>(count * 2);
+		int position= 0;
+		for (int i= 0; i < count; i++) {
+			if (position + CENTRAL_HEADER_SIZE > directory.limit() || directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+				return null;
+			}
+			int flags= Short.toUnsignedInt(directory.getShort(position + 8));
+			int method= Short.toUnsignedInt(directory.getShort(position + 10));
+			long crc= Integer.toUnsignedLong(directory.getInt(position + 16));
+			long compressedSize= Integer.toUnsignedLong(directory.getInt(position + 20));
+			long uncompressedSize= Integer.toUnsignedLong(directory.getInt(position + 24));
+			int nameLength= Short.toUnsignedInt(directory.getShort(position + 28));
+			int extraLength= Short.toUnsignedInt(directory.getShort(position + 30));
+			int commentLength= Short.toUnsignedInt(directory.getShort(position + 32));
+			long localHeaderOffset= Integer.toUnsignedLong(directory.getInt(position + 42));
+			if (position + CENTRAL_HEADER_SIZE + nameLength > directory.limit()) {
+				return null;
+			}
+			String name= new String(directory.array(), position + CENTRAL_HEADER_SIZE, nameLength, StandardCharsets.UTF_8);
+			if (compressedSize != ZIP32_LIMIT && uncompressedSize != ZIP32_LIMIT && localHeaderOffset != ZIP32_LIMIT) {
+				entries.put(name, new long[] { method, flags, crc, compressedSize, uncompressedSize, localHeaderOffset });
+			}
+			position+= CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	private static byte[] deflate(byte[] bytes, int length, int level) {
+		Deflater deflater= new Deflater(level, true);
+		try {
+			deflater.setInput(bytes, 0, length);
+			deflater.finish();
+			byte[] result= new byte[Math.max(64, length / 2)];
+			int size= 0;
+			while (!deflater.finished()) {
+				if (size == result.length) {
+					byte[] larger= new byte[result.length * 2];
+					System.arraycopy(result, 0, larger, 0, size);
+					result= larger;
+				}
+				size+= deflater.deflate(result, size, result.length - size);
+			}
+			if (size == result.length) {
+				return result;
+			}
+			byte[] trimmed= new byte[size];
+			System.arraycopy(result, 0, trimmed, 0, size);
+			return trimmed;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static int toDosTime(long time) {
+		LocalDateTime date= LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		int year= date.getYear();
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		if (year > 2107) {
+			year= 2107;
+		}
+		return (year - 1980) << 25 | date.getMonthValue() << 21 | date.getDayOfMonth() << 16
+				| date.getHour() << 11 | date.getMinute() << 5 | date.getSecond() >> 1;
+	}
+
+	private static boolean isAscii(String name) {
+		for (int i= 0; i < name.length(); i++) {
+			if (name.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -183,6 +183,10 @@ public class JarPackagerUtilCore {
 
 		// Set modification time
 		newEntry.setTime(lastModified);
+		if (jarOutputStream instanceof JarArchiveOutputStream archiveOutputStream && archiveOutputStream.copyEntry(zipFile, zipEntry, newEntry)) {
+			// copied without recompressing
+			return;
+		}
 		try (InputStream content= zipFile.getInputStream(zipEntry);) {
 			jarOutputStream.putNextEntry(newEntry);
 			content.transferTo(jarOutputStream);
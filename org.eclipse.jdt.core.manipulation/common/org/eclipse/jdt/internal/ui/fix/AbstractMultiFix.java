@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2011 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,8 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.IFusedFix;
 import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
 
 
@@ -54,6 +56,24 @@ public abstract class AbstractMultiFix extends AbstractCleanUp implements IMulti
 
 	protected abstract ICleanUpFix createFix(CompilationUnit unit, IProblemLocation[] problems) throws CoreException;
 
+	/**
+	 * Creates the fix of an {@link IFusedCleanUp} with a traversal of its own.
+	 *
+	 * @param unit the AST of the compilation unit
+	 * @return the fix or <code>null</code> if there is nothing to fix
+	 * @throws CoreException if the fix cannot be created
+	 * @since 1.24
+	 */
+	protected ICleanUpFix createFixInOwnTraversal(CompilationUnit unit) throws CoreException {
+		FusedASTVisitor traversal= new FusedASTVisitor();
+		IFusedFix fix= ((IFusedCleanUp) this).prepareFix(unit, traversal);
+		if (fix == null)
+			return null;
+		if (!traversal.isEmpty())
+			unit.accept(traversal);
+		return fix.createFix();
+	}
+
 	@Override
 	public int computeNumberOfFixes(CompilationUnit compilationUnit) {
 		return -1;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.ElseIfFixCore;
 
@@ -34,7 +35,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that uses the <code>else if</code> pseudo keyword.
  */
-public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix {
+public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix, IFusedCleanUp {
 	public ElseIfCleanUpCore() {
 		this(Collections.emptyMap());
 	}
@@ -85,11 +86,16 @@ public class ElseIfCleanUpCore extends AbstractMultiFix implements ICleanUpFix {
 
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.ELSE_IF)) {
 			return null;
 		}
 
-		return ElseIfFixCore.createCleanUp(unit);
+		return ElseIfFixCore.prepareCleanUp(unit, traversal);
 	}
 
 	@Override
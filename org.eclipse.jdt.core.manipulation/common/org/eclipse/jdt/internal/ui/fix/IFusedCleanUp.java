@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+
+/**
+ * A clean up that finds what to fix with visitors that can share one traversal of the
+ * compilation unit AST with other clean ups.
+ *
+ * @since 1.24
+ */
+public interface IFusedCleanUp extends ICleanUp {
+
+	/**
+	 * Creates the fix once the traversal is done.
+	 */
+	@FunctionalInterface
+	public interface IFusedFix {
+
+		/**
+		 * @return the fix or <code>null</code> if there is nothing to fix
+		 * @throws CoreException if the fix cannot be created
+		 */
+		ICleanUpFix createFix() throws CoreException;
+	}
+
+	/**
+	 * Registers the visitors of this clean up with the traversal of the given AST. The visitors
+	 * must not modify the AST.
+	 *
+	 * @param unit the AST of the whole compilation unit
+	 * @param traversal the traversal to register the visitors with
+	 * @return the fix to create after the traversal, or <code>null</code> if this clean up has
+	 *         nothing to do
+	 * @throws CoreException if the visitors cannot be created
+	 */
+	IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException;
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.ModuleQualifiedName;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression.Operator;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.internal.core.manipulation.Messages;
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+
+/**
+ * The occurrences of all bindings in a compilation unit AST, collected in one traversal. Looking
+ * up the occurrences of a name gives the same result as {@link OccurrencesFinder} initialized with
+ * that name, without traversing the AST again.
+ * <p>
+ * The index is immutable once created and can be queried from any thread.
+ * </p>
+ *
+ * @since 1.24
+ */
+public final class OccurrencesIndex {
+
+	private static final class Entry {
+		final IBinding fBinding;
+		final int fOffset;
+		final int fLength;
+		final int fFlags;
+
+		Entry(IBinding binding, int offset, int length, int flags) {
+			fBinding= binding;
+			fOffset= offset;
+			fLength= length;
+			fFlags= flags;
+		}
+	}
+
+	/**
+	 * Mirrors the visitor of {@link OccurrencesFinder} for all bindings at once. Where the finder
+	 * does not descend into a qualified name that matches its target, the indexer descends but
+	 * ignores further occurrences of the same binding in the qualified name.
+	 */
+	private final class Indexer extends ASTVisitor {
+
+		private final Set<Name> fWriteUsages= new HashSet<>();
+		private final Deque<QualifiedName> fSkippedNodes= new ArrayDeque<>();
+		private final Deque<IBinding> fSkippedBindings= new ArrayDeque<>();
+
+		Indexer() {
+			super(true);
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			final IBinding binding= node.resolveBinding();
+			if (binding instanceof IVariableBinding && ((IVariableBinding)binding).isField()) {
+				SimpleName name= node.getName();
+				skipInside(node, addUsage(name, name.resolveBinding()));
+				return true;
+			}
+			if (binding instanceof IMethodBinding) {
+				if (isStaticImport(node)) {
+					addPossibleStaticImport(node.getName(), (IMethodBinding) binding);
+					return true;
+				}
+			}
+			skipInside(node, addUsage(node, binding));
+			return true;
+		}
+
+		@Override
+		public void endVisit(QualifiedName node) {
+			if (fSkippedNodes.peek() == node) {
+				fSkippedNodes.pop();
+				fSkippedBindings.pop();
+			}
+		}
+
+		@Override
+		public boolean visit(ModuleQualifiedName node) {
+			node.resolveBinding();
+			return true;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			addUsage(node, node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName)name).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			} else if (type instanceof NameQualifiedType) {
+				Name name= ((NameQualifiedType) type).getName();
+				addUsage(name, node.resolveConstructorBinding());
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(getSimpleName(node.getLeftHandSide()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			if (node.resolveBinding() != null)
+				addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if ((node.getParent() instanceof FieldDeclaration || node.getInitializer() != null) && node.resolveBinding() != null)
+				addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == Operator.INCREMENT || operator == Operator.DECREMENT) {
+				addWrite(getSimpleName(node.getOperand()));
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		private void skipInside(QualifiedName node, IBinding binding) {
+			if (binding != null) {
+				fSkippedNodes.push(node);
+				fSkippedBindings.push(binding);
+			}
+		}
+
+		private void addWrite(SimpleName name) {
+			if (name != null)
+				fWriteUsages.add(name);
+		}
+
+		/*
+		 * Returns the binding declaration the usage was added for, or null.
+		 */
+		private IBinding addUsage(Name node, IBinding binding) {
+			if (binding == null)
+				return null;
+			IBinding declaration= getBindingDeclaration(binding);
+			for (IBinding skipped : fSkippedBindings) {
+				if (Bindings.equals(declaration, skipped))
+					return declaration;
+			}
+			int flags= 0;
+			if (declaration instanceof IVariableBinding) {
+				flags= fWriteUsages.remove(node) ? IOccurrencesFinder.F_WRITE_OCCURRENCE : IOccurrencesFinder.F_READ_OCCURRENCE;
+			}
+			add(fEntries, declaration.getKey(), new Entry(declaration, node.getStartPosition(), node.getLength(), flags));
+			return declaration;
+		}
+
+		private void addPossibleStaticImport(SimpleName node, IMethodBinding binding) {
+			if (!Modifier.isStatic(binding.getModifiers()))
+				return;
+			ITypeBinding declaringClass= binding.getDeclaringClass().getTypeDeclaration();
+			add(fStaticImports, getStaticImportKey(declaringClass, node.getIdentifier()), new Entry(declaringClass, node.getStartPosition(), node.getLength(), 0));
+		}
+	}
+
+	private final CompilationUnit fRoot;
+	/** binding key of the binding declaration to the usages of the binding */
+	private final Map<String, List<Entry>> fEntries= new HashMap<>();
+	/** declaring type key and method name to the names in static imports */
+	private final Map<String, List<Entry>> fStaticImports= new HashMap<>();
+
+	/**
+	 * Creates the index of the given AST. Traverses the whole AST and resolves the bindings of all
+	 * names.
+	 *
+	 * @param root the AST, must have bindings
+	 */
+	public OccurrencesIndex(CompilationUnit root) {
+		fRoot= root;
+		root.accept(new Indexer());
+	}
+
+	public CompilationUnit getASTRoot() {
+		return fRoot;
+	}
+
+	/**
+	 * Returns the occurrences of the binding of the given node, like {@link OccurrencesFinder}
+	 * initialized with the node.
+	 *
+	 * @param node the selected node
+	 * @return the occurrences or <code>null</code> if there are none or the node is not a name
+	 *         with a binding
+	 */
+	public OccurrenceLocation[] getOccurrences(ASTNode node) {
+		if (!(node instanceof Name))
+			return null;
+		IBinding binding= ((Name) node).resolveBinding();
+		if (binding == null)
+			return null;
+		if (isStaticImport(node.getParent())) {
+			// the finder looks at method invocations for these, which are not indexed
+			OccurrencesFinder finder= new OccurrencesFinder();
+			if (finder.initialize(fRoot, node) != null)
+				return null;
+			return finder.getOccurrences();
+		}
+
+		IBinding target= getBindingDeclaration(binding);
+		String readDescription= Messages.format(SearchMessages.OccurrencesFinder_occurrence_description, BasicElementLabels.getJavaElementName(target.getName()));
+		String writeDescription= Messages.format(SearchMessages.OccurrencesFinder_occurrence_write_description, BasicElementLabels.getJavaElementName(target.getName()));
+
+		List<OccurrenceLocation> result= new ArrayList<>();
+		Set<Integer> offsets= new HashSet<>();
+		List<Entry> entries= fEntries.get(target.getKey());
+		if (entries != null) {
+			for (Entry entry : entries) {
+				if (Bindings.equals(entry.fBinding, target) && offsets.add(Integer.valueOf(entry.fOffset))) {
+					String description= entry.fFlags == IOccurrencesFinder.F_WRITE_OCCURRENCE ? writeDescription : readDescription;
+					result.add(new OccurrenceLocation(entry.fOffset, entry.fLength, entry.fFlags, description));
+				}
+			}
+		}
+		if (target instanceof IMethodBinding && Modifier.isStatic(target.getModifiers())) {
+			ITypeBinding declaringClass= ((IMethodBinding) target).getDeclaringClass().getTypeDeclaration();
+			List<Entry> imports= fStaticImports.get(getStaticImportKey(declaringClass, target.getName()));
+			if (imports != null) {
+				for (Entry entry : imports) {
+					if (entry.fBinding == declaringClass && offsets.add(Integer.valueOf(entry.fOffset))) {
+						result.add(new OccurrenceLocation(entry.fOffset, entry.fLength, 0, readDescription));
+					}
+				}
+			}
+		}
+		if (result.isEmpty())
+			return null;
+		result.sort(Comparator.comparingInt(OccurrenceLocation::getOffset));
+		return result.toArray(new OccurrenceLocation[result.size()]);
+	}
+
+	private static void add(Map<String, List<Entry>> map, String key, Entry entry) {
+		map.computeIfAbsent(key, k -> new ArrayList<>(2)).add(entry);
+	}
+
+	private static String getStaticImportKey(ITypeBinding declaringClass, String name) {
+		return declaringClass.getKey() + '#' + name;
+	}
+
+	private static boolean isStaticImport(ASTNode node) {
+		if (!(node instanceof QualifiedName))
+			return false;
+
+		ASTNode parent= node.getParent();
+		return parent instanceof ImportDeclaration && ((ImportDeclaration) parent).isStatic();
+	}
+
+	private static SimpleName getSimpleName(Expression expression) {
+		if (expression instanceof SimpleName)
+			return ((SimpleName)expression);
+		else if (expression instanceof QualifiedName)
+			return (((QualifiedName) expression).getName());
+		else if (expression instanceof FieldAccess)
+			return ((FieldAccess)expression).getName();
+		return null;
+	}
+
+	private static IBinding getBindingDeclaration(IBinding binding) {
+		switch (binding.getKind()) {
+			case IBinding.TYPE :
+				return ((ITypeBinding)binding).getTypeDeclaration();
+			case IBinding.METHOD :
+				return ((IMethodBinding)binding).getMethodDeclaration();
+			case IBinding.VARIABLE :
+				return ((IVariableBinding)binding).getVariableDeclaration();
+			default:
+				return binding;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Small cache of binding-resolved compilation unit ASTs used when expanding callees.
+ * <p>
+ * Expanding the callees of several methods declared in the same compilation unit used
+ * to parse the unit once per expanded method. The cache keeps the last few parsed units
+ * (softly referenced). The bindings of an AST also depend on other units and on the
+ * class path, so the cache is cleared on every Java element change, including the
+ * reconciling of working copies. An entry is additionally validated against a hash of the
+ * current source of its unit.
+ * </p>
+ * <p>
+ * Cached ASTs are shared between callers: clients have to synchronize on the returned
+ * {@link CompilationUnit} while traversing it.
+ * </p>
+ */
+class CalleeAstCache {
+
+	private static final int MAX_ENTRIES= 4;
+
+	private static final CalleeAstCache fgInstance= new CalleeAstCache();
+
+	private static final class Entry {
+		final int fSourceHash;
+		final int fSourceLength;
+		final SoftReference<CompilationUnit> fAst;
+
+		Entry(int sourceHash, int sourceLength, CompilationUnit ast) {
+			fSourceHash= sourceHash;
+			fSourceLength= sourceLength;
+			fAst= new SoftReference<>(ast);
+		}
+
+		boolean matches(String source) {
+			return fSourceLength == source.length() && fSourceHash == source.hashCode();
+		}
+	}
+
+	private final Map<String, Entry> fEntries= new LinkedHashMap<>(MAX_ENTRIES * 2, 0.75f, true);
+
+	/** incremented when the Java model changes, guarded by fEntries */
+	private int fChangeStamp;
+
+	/** registered when the first AST is cached, guarded by fEntries */
+	private IElementChangedListener fListener;
+
+	static CalleeAstCache getDefault() {
+		return fgInstance;
+	}
+
+	/**
+	 * Returns a binding-resolved AST for the type root of the given member, reusing a
+	 * previously parsed AST if the source has not changed since.
+	 *
+	 * @param member the member whose declaring unit is needed
+	 * @return the AST or <code>null</code> if the unit has no source
+	 */
+	CompilationUnit getCompilationUnitNode(IMember member) {
+		ITypeRoot typeRoot= member.getTypeRoot();
+		String source= getSource(typeRoot);
+		if (source == null) {
+			return null;
+		}
+		String key= typeRoot.getHandleIdentifier();
+		int changeStamp;
+		synchronized (fEntries) {
+			Entry entry= fEntries.get(key);
+			if (entry != null) {
+				CompilationUnit ast= entry.fAst.get();
+				if (ast != null && entry.matches(source)) {
+					return ast;
+				}
+				fEntries.remove(key);
+			}
+			changeStamp= fChangeStamp;
+		}
+
+		CompilationUnit ast= CallHierarchyCore.getCompilationUnitNode(member, true);
+		if (ast != null) {
+			synchronized (fEntries) {
+				if (changeStamp != fChangeStamp) {
+					// the Java model changed while parsing, the bindings may be stale already
+					return ast;
+				}
+				if (fListener == null) {
+					fListener= event -> clear();
+					JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				}
+				fEntries.put(key, new Entry(source.hashCode(), source.length(), ast));
+				if (fEntries.size() > MAX_ENTRIES) {
+					Iterator<String> eldest= fEntries.keySet().iterator();
+					eldest.next();
+					eldest.remove();
+				}
+			}
+		}
+		return ast;
+	}
+
+	/**
+	 * Drops all cached ASTs. Called when the Java model changes.
+	 */
+	void clear() {
+		synchronized (fEntries) {
+			fChangeStamp++;
+			fEntries.clear();
+		}
+	}
+
+	private static String getSource(ITypeRoot typeRoot) {
+		try {
+			if (typeRoot.exists()) {
+				IBuffer buffer= typeRoot.getBuffer();
+				if (buffer != null) {
+					return buffer.getContents();
+				}
+			}
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
+		}
+		return null;
+	}
+}
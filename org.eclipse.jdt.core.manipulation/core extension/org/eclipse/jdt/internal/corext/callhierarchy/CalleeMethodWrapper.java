@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,7 +90,7 @@ class CalleeMethodWrapper extends MethodWrapper {
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
     	IMember member= getMember();
 		if (member.exists()) {
-			CompilationUnit cu= CallHierarchyCore.getCompilationUnitNode(member, true);
+			CompilationUnit cu= CalleeAstCache.getDefault().getCompilationUnitNode(member);
 		    if (progressMonitor != null) {
 		        progressMonitor.worked(5);
 		    }
@@ -98,7 +98,9 @@ class CalleeMethodWrapper extends MethodWrapper {
 			if (cu != null) {
 				CalleeAnalyzerVisitor visitor = new CalleeAnalyzerVisitor(this.getMethodCall().getFirstCallLocation(), member, cu, progressMonitor);
 
-				cu.accept(visitor);
+				synchronized (cu) {
+					cu.accept(visitor);
+				}
 				return visitor.getCallees();
 			}
 		}
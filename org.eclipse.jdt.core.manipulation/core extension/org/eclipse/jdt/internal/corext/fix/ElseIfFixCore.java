@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2024, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -28,11 +29,12 @@ import org.eclipse.jdt.core.dom.IfStatement;
 import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
-import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
-
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.IFusedFix;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
 
 public class ElseIfFixCore extends CompilationUnitRewriteOperationsFixCore {
@@ -55,11 +57,11 @@ public class ElseIfFixCore extends CompilationUnitRewriteOperationsFixCore {
 		}
 	}
 
-	public static ICleanUpFix createCleanUp(final CompilationUnit unit) {
+	public static IFusedFix prepareCleanUp(final CompilationUnit unit, final FusedASTVisitor traversal) {
 
 		final List<CompilationUnitRewriteOperation> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			@Override
 			public boolean visit(final IfStatement visited) {
 				Statement elseStatement= visited.getElseStatement();
@@ -75,15 +77,16 @@ public class ElseIfFixCore extends CompilationUnitRewriteOperationsFixCore {
 
 				return true;
 			}
-		});
-
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		}, EnumSet.of(VisitorEnum.IfStatement));
 
-		return new CompilationUnitRewriteOperationsFixCore(MultiFixMessages.CodeStyleCleanUp_ElseIf_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperation[0]));
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
+			return new CompilationUnitRewriteOperationsFixCore(MultiFixMessages.CodeStyleCleanUp_ElseIf_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperation[0]));
+		};
 	}
 
 	protected ElseIfFixCore(final String name, final CompilationUnit compilationUnit, CompilationUnitRewriteOperation[] fixRewriteOperations) {
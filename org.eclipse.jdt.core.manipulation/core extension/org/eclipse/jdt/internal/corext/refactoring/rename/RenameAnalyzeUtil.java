@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -72,6 +73,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -183,26 +185,77 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Creates a working copy with the content after the changes for each compilation unit. The
+	 * working copies only get their structure, which is enough to search them. If one of them
+	 * cannot be created, the ones created so far are discarded.
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the change manager with the changes of the compilation units
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return the new working copies, to be discarded with {@link #discardWorkingCopies(ICompilationUnit[])}
+	 * @throws CoreException if a working copy cannot be created
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
 		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
-		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+		try {
+			for (int i= 0; i < compilationUnitsToModify.length; i++) {
+				ICompilationUnit cu= compilationUnitsToModify[i];
+				newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+			}
+		} catch (CoreException | RuntimeException e) {
+			try {
+				discardWorkingCopies(newWorkingCopies);
+			} catch (JavaModelException discardException) {
+				e.addSuppressed(discardException);
+			}
+			throw e;
+		} finally {
+			pm.done();
 		}
-		pm.done();
 		return newWorkingCopies;
 	}
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
-		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
-		newWc.getBuffer().setContents(previewContent);
-		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
+		try {
+			String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
+			newWc.getBuffer().setContents(previewContent);
+			// unlike a reconcile, this neither reports a delta nor lets compilation participants
+			// resolve the unit
+			newWc.makeConsistent(pm);
+		} catch (CoreException | RuntimeException e) {
+			newWc.discardWorkingCopy();
+			throw e;
+		}
 		return newWc;
 	}
 
+	/**
+	 * Discards the given working copies. All of them are discarded even if discarding one fails.
+	 *
+	 * @param workingCopies the working copies, may contain <code>null</code> elements
+	 * @throws JavaModelException the first exception thrown while discarding
+	 */
+	public static void discardWorkingCopies(ICompilationUnit[] workingCopies) throws JavaModelException {
+		JavaModelException exception= null;
+		for (ICompilationUnit workingCopy : workingCopies) {
+			if (workingCopy == null)
+				continue;
+			try {
+				workingCopy.discardWorkingCopy();
+			} catch (JavaModelException e) {
+				if (exception == null)
+					exception= e;
+			}
+		}
+		if (exception != null)
+			throw exception;
+	}
+
 	private static boolean existsInNewOccurrences(SearchMatch searchResult, SearchResultGroup[] newOccurrences, TextChangeManager manager) {
 		SearchResultGroup newGroup= findOccurrenceGroup(searchResult.getResource(), newOccurrences);
 		if (newGroup == null)
@@ -267,20 +320,48 @@ public class RenameAnalyzeUtil {
 				cuToNewResults.put(cu.getPrimary(), newReference.getSearchResults());
 		}
 
+		// pair the old and new matches of each compilation unit, then compare them in parallel
+		List<ICompilationUnit> cus= new ArrayList<>(oldReferences.length);
+		List<SearchMatch[]> oldMatches= new ArrayList<>(oldReferences.length);
+		List<SearchMatch[]> newMatches= new ArrayList<>(oldReferences.length);
+		List<TextChange> changes= new ArrayList<>(oldReferences.length);
 		for (SearchResultGroup oldGroup : oldReferences) {
-			SearchMatch[] oldMatches= oldGroup.getSearchResults();
 			ICompilationUnit cu= oldGroup.getCompilationUnit();
 			if (cu == null)
 				continue;
-
 			SearchMatch[] newSearchMatches= cuToNewResults.remove(cu);
-			if (newSearchMatches == null) {
-				for (SearchMatch oldMatch : oldMatches) {
-					addShadowsError(cu, oldMatch, result);
+			cus.add(cu);
+			oldMatches.add(oldGroup.getSearchResults());
+			newMatches.add(newSearchMatches);
+			changes.add(newSearchMatches == null ? null : manager.get(cu));
+		}
+
+		RefactoringStatus[] cuResults= new RefactoringStatus[cus.size()];
+		List<Integer> indices= new ArrayList<>(cus.size());
+		for (int i= 0; i < cuResults.length; i++) {
+			indices.add(Integer.valueOf(i));
+		}
+		try {
+			ParallelUtil.forEach(indices, index -> {
+				int i= index.intValue();
+				RefactoringStatus cuResult= new RefactoringStatus();
+				ICompilationUnit cu= cus.get(i);
+				if (newMatches.get(i) == null) {
+					for (SearchMatch oldMatch : oldMatches.get(i)) {
+						addShadowsError(cu, oldMatch, cuResult);
+					}
+				} else {
+					analyzeChanges(cu, changes.get(i), oldMatches.get(i), newMatches.get(i), newElementName, cuResult);
 				}
-			} else {
-				analyzeChanges(cu, manager.get(cu), oldMatches, newSearchMatches, newElementName, result);
-			}
+				cuResults[i]= cuResult;
+			}, null);
+		} catch (CoreException e) {
+			// the comparison does not throw checked exceptions
+			result.merge(RefactoringStatus.create(e.getStatus()));
+			return result;
+		}
+		for (RefactoringStatus cuResult : cuResults) {
+			result.merge(cuResult);
 		}
 
 		for (Entry<ICompilationUnit, SearchMatch[]> entry : cuToNewResults.entrySet()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -113,6 +113,19 @@ public class TextChangeManager {
 		return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
 	}
 
+	/**
+	 * Stops keeping the copies of the edits made to compute the preview content of the managed
+	 * changes. Once a refactoring no longer maps its edits into the preview, this frees the copies
+	 * of all changes instead of keeping them until the refactoring has been performed.
+	 *
+	 * @since 1.24
+	 */
+	public void releasePreviewEdits() {
+		for (TextChange change : fMap.values()) {
+			change.setKeepPreviewEdits(false);
+		}
+	}
+
 	/**
 	 * Clears all associations between resources and text changes.
 	 */
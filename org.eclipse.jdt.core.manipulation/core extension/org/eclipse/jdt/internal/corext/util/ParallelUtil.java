@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Runs independent pieces of work on a bounded number of worker threads.
+ */
+public final class ParallelUtil {
+
+	/**
+	 * An action applied to one item, allowed to throw a {@link CoreException}.
+	 *
+	 * @param <T> the type of the items
+	 */
+	@FunctionalInterface
+	public interface ICoreAction<T> {
+		void run(T item) throws CoreException;
+	}
+
+	/**
+	 * Applies the given action to all items, using at most one worker thread per available
+	 * processor. The calling thread waits until all items are processed and reports one unit of
+	 * work per item to the monitor. Items that have not been started yet are skipped once the
+	 * monitor is canceled.
+	 * <p>
+	 * The action has to be thread safe: it is called concurrently for different items.
+	 * </p>
+	 *
+	 * @param items the items to process
+	 * @param action the action to apply to each item
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @param <T> the type of the items
+	 * @throws CoreException the first exception thrown by the action
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	public static <T> void forEach(List<T> items, ICoreAction<T> action, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, items.size());
+		int threads= Math.min(items.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			for (T item : items) {
+				subMonitor.checkCanceled();
+				action.run(item);
+				subMonitor.worked(1);
+			}
+			return;
+		}
+		try (ExecutorService executor= Executors.newFixedThreadPool(threads)) {
+			List<Future<?>> futures= new ArrayList<>(items.size());
+			for (T item : items) {
+				futures.add(executor.submit(() -> {
+					if (!subMonitor.isCanceled()) {
+						action.run(item);
+					}
+					return null;
+				}));
+			}
+			try {
+				for (Future<?> future : futures) {
+					future.get();
+					subMonitor.worked(1);
+				}
+			} catch (ExecutionException e) {
+				executor.shutdownNow();
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException coreException) {
+					throw coreException;
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(cause);
+			} catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			}
+		}
+		subMonitor.checkCanceled();
+	}
+
+	private ParallelUtil() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
 package org.eclipse.jdt.internal.corext.refactoring.code;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.dom.ASTMatcher;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
@@ -148,12 +150,80 @@ public class SnippetFinder extends GenericVisitor {
 		}
 	}
 
+	/**
+	 * Computes fingerprints of subtrees that are equal for all subtrees the {@link Matcher} can
+	 * match: they only combine the node types of the subtree, in traversal order. Names, literals
+	 * and operators are left to the matcher, and so is the content of Javadoc comments, which the
+	 * matcher does not compare.
+	 * <p>
+	 * Fingerprints are only kept for candidates without names of local variables. A failed match
+	 * of any other candidate can leave local mappings in the current {@link Match}, which later
+	 * matches depend on, so these candidates are always passed to the matcher.
+	 * </p>
+	 */
+	private static class FingerprintCollector extends ASTVisitor {
+		private final ASTNode[] fSnippet;
+		private final Map<ASTNode, Integer> fFingerprints= new HashMap<>();
+		private int[] fStack= new int[32];
+		private boolean[] fHasLocals= new boolean[32];
+		private int fDepth;
+		private int fLastFingerprint;
+
+		FingerprintCollector(ASTNode[] snippet) {
+			super(true);
+			fSnippet= snippet;
+		}
+
+		@Override
+		public void preVisit(ASTNode node) {
+			if (fDepth == fStack.length) {
+				fStack= Arrays.copyOf(fStack, 2 * fDepth);
+				fHasLocals= Arrays.copyOf(fHasLocals, 2 * fDepth);
+			}
+			fStack[fDepth]= node.getNodeType();
+			fHasLocals[fDepth]= node instanceof SimpleName && ASTNodes.getLocalVariableBinding((SimpleName) node) != null;
+			fDepth++;
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			int fingerprint= fStack[--fDepth];
+			boolean hasLocals= fHasLocals[fDepth];
+			if (node.getNodeType() == ASTNode.JAVADOC)
+				fingerprint= ASTNode.JAVADOC;
+			if (fDepth > 0) {
+				fStack[fDepth - 1]= 31 * fStack[fDepth - 1] + fingerprint;
+				fHasLocals[fDepth - 1]|= hasLocals;
+			}
+			if (!hasLocals && isCandidate(node))
+				fFingerprints.put(node, Integer.valueOf(fingerprint));
+			fLastFingerprint= fingerprint;
+		}
+
+		private boolean isCandidate(ASTNode node) {
+			// only nodes of the type of a snippet node are compared with the snippet
+			for (ASTNode snippetNode : fSnippet) {
+				if (snippetNode.getNodeType() == node.getNodeType())
+					return true;
+			}
+			return false;
+		}
+
+		int getFingerprint(ASTNode node) {
+			fDepth= 0;
+			node.accept(this);
+			return fLastFingerprint;
+		}
+	}
+
 	private List<Match> fResult= new ArrayList<>(2);
 	private Match fMatch;
 	private ASTNode[] fSnippet;
 	private int fIndex;
 	private Matcher fMatcher;
 	private int fTypes;
+	private int[] fSnippetFingerprints;
+	private Map<ASTNode, Integer> fFingerprints;
 
 	private SnippetFinder(ASTNode[] snippet) {
 		super(true);
@@ -162,9 +232,20 @@ public class SnippetFinder extends GenericVisitor {
 		reset();
 	}
 
+	private void computeFingerprints(ASTNode start) {
+		FingerprintCollector collector= new FingerprintCollector(fSnippet);
+		fSnippetFingerprints= new int[fSnippet.length];
+		for (int i= 0; i < fSnippet.length; i++) {
+			fSnippetFingerprints[i]= collector.getFingerprint(fSnippet[i]);
+		}
+		start.accept(collector);
+		fFingerprints= collector.fFingerprints;
+	}
+
 	public static List<Match> perform(ASTNode start, ASTNode[] snippet) {
 		Assert.isTrue(start instanceof AbstractTypeDeclaration || start instanceof AnonymousClassDeclaration);
 		SnippetFinder finder= new SnippetFinder(snippet);
+		finder.computeFingerprints(start);
 		start.accept(finder);
 		for (Iterator<Match> iter = finder.fResult.iterator(); iter.hasNext();) {
 			Match match = iter.next();
@@ -258,6 +339,11 @@ public class SnippetFinder extends GenericVisitor {
 	private boolean matches(ASTNode node) {
 		if (isSnippetNode(node))
 			return false;
+		// subtrees with different fingerprints cannot match, and candidates with a fingerprint
+		// leave no local mappings when the matcher fails
+		Integer fingerprint= fFingerprints.get(node);
+		if (fingerprint != null && fingerprint.intValue() != fSnippetFingerprints[fIndex])
+			return false;
 		if (node.subtreeMatch(fMatcher, fSnippet[fIndex]) && fMatch.hasCorrectNesting(node)) {
 			fMatch.add(node);
 			fIndex++;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.corext.refactoring.nls;
 
 import java.util.Properties;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -283,11 +284,23 @@ public class NLSSubstitution {
 	}
 
 	public void generateKey(NLSSubstitution[] substitutions, Properties properties) {
+		generateKey(substitutions, properties.keySet());
+	}
+
+	/**
+	 * Generates a key that is neither in the given set of existing keys nor used by one of the
+	 * given substitutions.
+	 *
+	 * @param substitutions the substitutions
+	 * @param keys the keys defined in the properties file
+	 * @since 1.24
+	 */
+	public void generateKey(NLSSubstitution[] substitutions, Set<?> keys) {
 		if (fState != EXTERNALIZED || ((fState == EXTERNALIZED) && hasStateChanged())) {
 			int number= 0;
 			while (true) {
 				String ithKey= createKey(number);
-				if (!properties.containsKey(fPrefix + ithKey) && !containsKey(substitutions, ithKey)) {
+				if (!keys.contains(fPrefix + ithKey) && !containsKey(substitutions, ithKey)) {
 					fCachedPrefixPlusKey= null;
 					fKey= ithKey;
 					return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,9 +71,18 @@ public class RefactoringScanner {
 	}
 
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
-		char[] chars= cu.getBuffer().getCharacters();
+		scan(cu.getBuffer().getCharacters(), cu.getJavaProject());
+	}
+
+	/**
+	 * Scan the given contents of a compilation unit.
+	 *
+	 * @param chars the contents of the compilation unit
+	 * @param javaProject the project of the compilation unit, or <code>null</code>
+	 * @since 1.24
+	 */
+	public void scan(char[] chars, IJavaProject javaProject) {
 		fMatches= new HashSet<>();
-		IJavaProject javaProject= cu.getJavaProject();
         if (javaProject != null) {
             String sourceLevel = javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
             String complianceLevel = javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -868,6 +868,9 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		} else {
 			pm.worked(5);
 		}
+		// no more edits are mapped into the preview; a composite processor leaves this to its owner
+		if (!fIsComposite)
+			fChangeManager.releasePreviewEdits();
 		pm.done();
 		return result;
 	}
@@ -1091,15 +1094,15 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 					fChangeManager, newWCOwner, Progress.subMonitor(pm, 1));
 
 			SearchResultGroup[] newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			// the comparison only needs the search results
+			RenameAnalyzeUtil.discardWorkingCopies(newWorkingCopies);
+			newWorkingCopies= null;
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
 			return result;
 		} finally{
 			pm.done();
-			if (newWorkingCopies != null){
-				for (ICompilationUnit newWorkingCopy : newWorkingCopies) {
-					newWorkingCopy.discardWorkingCopy();
-				}
-			}
+			if (newWorkingCopies != null)
+				RenameAnalyzeUtil.discardWorkingCopies(newWorkingCopies);
 		}
 	}
 
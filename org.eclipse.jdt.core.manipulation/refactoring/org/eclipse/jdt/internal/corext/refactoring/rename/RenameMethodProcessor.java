@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -419,6 +419,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 				result.merge(analyzeRenameChanges(Progress.subMonitor(pm, 1)));
 			else
 				pm.worked(1);
+			// no more edits are mapped into the preview; a composite processor leaves this to its owner
+			if (!fIsComposite)
+				fChangeManager.releasePreviewEdits();
 
 			return result;
 		} finally{
@@ -575,16 +578,16 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 
 //			SearchResultGroup[] newOccurrences= findNewOccurrences(newMethods, newDeclarationWCs, Progress.subMonitor(pm, 3));
 			SearchResultGroup[] newOccurrences= batchFindNewOccurrences(wcNewMethods, wcOldMethods, newDeclarationWCs, Progress.subMonitor(pm, 3), result);
+			// the comparison only needs the search results
+			RenameAnalyzeUtil.discardWorkingCopies(newDeclarationWCs);
+			newDeclarationWCs= null;
 
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, fOccurrences, newOccurrences, getNewElementName()));
 			return result;
 		} finally{
 			pm.done();
-			if (newDeclarationWCs != null){
-				for (ICompilationUnit newDeclarationWC : newDeclarationWCs) {
-					newDeclarationWC.discardWorkingCopy();
-				}
-			}
+			if (newDeclarationWCs != null)
+				RenameAnalyzeUtil.discardWorkingCopies(newDeclarationWCs);
 		}
 	}
 
@@ -668,11 +671,8 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 			searchEngine.search(refsPattern, searchParticipants, scope,	requestor, Progress.subMonitor(pm, 1));
 		} finally {
 			pm.done();
-			if (otherWCs != null) {
-				for (ICompilationUnit otherWC : otherWCs) {
-					otherWC.discardWorkingCopy();
-				}
-			}
+			if (otherWCs != null)
+				RenameAnalyzeUtil.discardWorkingCopies(otherWCs);
 		}
 		SearchResultGroup[] newResults= RefactoringSearchEngine.groupByCu(requestor.getResults(), status);
 		return newResults;
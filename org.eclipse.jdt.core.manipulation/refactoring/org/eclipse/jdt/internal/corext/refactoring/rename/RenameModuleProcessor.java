@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -267,6 +267,8 @@ public class RenameModuleProcessor extends JavaRenameProcessor implements IRefer
 		} else {
 			pm.worked(3);
 		}
+		// no more edits are mapped into the preview
+		fChangeManager.releasePreviewEdits();
 
 		pm.done();
 		return result;
@@ -286,15 +288,15 @@ public class RenameModuleProcessor extends JavaRenameProcessor implements IRefer
 			newWorkingCopies= RenameAnalyzeUtil.createNewWorkingCopies(compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]),
 					fChangeManager, newWCOwner, Progress.subMonitor(pm, 1));
 			SearchResultGroup[] newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
+			// the comparison only needs the search results
+			RenameAnalyzeUtil.discardWorkingCopies(newWorkingCopies);
+			newWorkingCopies= null;
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
 			return result;
 		} finally{
 			pm.done();
-			if (newWorkingCopies != null){
-				for (ICompilationUnit newWorkingCopy : newWorkingCopies) {
-					newWorkingCopy.discardWorkingCopy();
-				}
-			}
+			if (newWorkingCopies != null)
+				RenameAnalyzeUtil.discardWorkingCopies(newWorkingCopies);
 		}
 	}
 
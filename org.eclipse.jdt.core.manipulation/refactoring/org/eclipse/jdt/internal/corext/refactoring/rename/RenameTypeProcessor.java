@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -566,6 +566,8 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			}
 
 			createChanges(Progress.subMonitor(pm, createChangeTicks));
+			// no more edits are mapped into the preview, also by the similar element processors
+			fChangeManager.releasePreviewEdits();
 
 			if (fUpdateQualifiedNames)
 				computeQualifiedNameMatches(Progress.subMonitor(pm, qualifiedNamesTicks));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -39,6 +44,7 @@ import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
@@ -50,6 +56,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibili
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
@@ -67,42 +74,71 @@ public class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
+	private int fSearchedCount;
+	private int fScannedCount;
+
 	private TextMatchUpdater(TextChangeManager manager, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, SearchResultGroup[] references, boolean onlyQualified){
 		Assert.isNotNull(manager);
 		Assert.isNotNull(scope);
 		Assert.isNotNull(references);
+		Assert.isNotNull(currentName);
+		Assert.isNotNull(currentQualifier);
 		fManager= manager;
 		fScope= scope;
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fNewName= newName;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
-	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
-		new TextMatchUpdater(manager, scope, currentName, currentQualifier, newName, references, onlyQualified).updateTextMatches(pm);
+	public static TextMatchUpdater perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
+		TextMatchUpdater updater= new TextMatchUpdater(manager, scope, currentName, currentQualifier, newName, references, onlyQualified);
+		updater.updateTextMatches(pm);
+		return updater;
+	}
+
+	public static TextMatchUpdater perform(IProgressMonitor pm, IJavaSearchScope scope, ITextUpdating processor, TextChangeManager manager, SearchResultGroup[] references) throws JavaModelException{
+		return perform(pm, scope, processor.getCurrentElementName(), processor.getCurrentElementQualifier(), processor.getNewElementName(), manager, references, false);
+	}
+
+	/**
+	 * @return the number of compilation units in scope whose contents were searched for the
+	 *         current name
+	 * @since 1.24
+	 */
+	public int getSearchedCount() {
+		return fSearchedCount;
 	}
 
-	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, ITextUpdating processor, TextChangeManager manager, SearchResultGroup[] references) throws JavaModelException{
-		new TextMatchUpdater(manager, scope, processor.getCurrentElementName(), processor.getCurrentElementQualifier(), processor.getNewElementName(), references, false).updateTextMatches(pm);
+	/**
+	 * @return the number of compilation units that contain the current name and were scanned
+	 *         for textual matches
+	 * @since 1.24
+	 */
+	public int getScannedCount() {
+		return fScannedCount;
 	}
 
 	private void updateTextMatches(IProgressMonitor pm) throws JavaModelException {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", projectsInScope.length + 10); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
 			}
+			addTextMatches(cus, Progress.subMonitor(pm, 10));
 		} finally{
 			pm.done();
 		}
@@ -121,7 +157,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +169,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +178,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, cus, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,15 +190,71 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
-			return;
+	private void addTextMatches(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		// the contents of compilation units with unsaved changes are taken from their buffers, the
+		// others are read from their files, without opening the compilation units
+		String[] contents= new String[cus.size()];
+		List<Integer> indices= new ArrayList<>(cus.size());
+		for (int i= 0; i < contents.length; i++) {
+			ICompilationUnit cu= cus.get(i);
+			if (cu.isWorkingCopy() || cu.hasUnsavedChanges())
+				contents[i]= cu.getBuffer().getContents();
+			indices.add(Integer.valueOf(i));
+		}
+
+		// only compilation units that contain the name can have textual matches: scan these in parallel
+		List<Set<TextMatch>> matches= new ArrayList<>(Collections.nCopies(contents.length, null));
+		AtomicInteger scannedCount= new AtomicInteger();
+		try {
+			ParallelUtil.forEach(indices, index -> {
+				int i= index.intValue();
+				ICompilationUnit cu= cus.get(i);
+				String content= contents[i] != null ? contents[i] : readContents(cu);
+				if (content == null || content.indexOf(fCurrentName) == -1)
+					return;
+				scannedCount.incrementAndGet();
+				RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+				scanner.scan(content.toCharArray(), cu.getJavaProject());
+				matches.set(i, scanner.getMatches());
+			}, pm);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		}
+		fSearchedCount= contents.length;
+		fScannedCount= scannedCount.get();
+
+		for (int i= 0; i < contents.length; i++) {
+			Set<TextMatch> cuMatches= matches.get(i);
+			if (cuMatches == null || cuMatches.isEmpty())
+				continue;
+			ICompilationUnit cu= cus.get(i);
+			removeReferences(cu, cuMatches);
+			if (!cuMatches.isEmpty())
+				addTextUpdates(cu, cuMatches);
+		}
+	}
 
-		removeReferences(cu, matches);
-		if (!matches.isEmpty())
-			addTextUpdates(cu, matches);
+	/*
+	 * Reads the contents of the file of the given compilation unit like its buffer would, or
+	 * returns null if there is no file.
+	 */
+	private static String readContents(ICompilationUnit cu) throws CoreException {
+		IResource resource= cu.getResource();
+		if (!(resource instanceof IFile) || !resource.exists())
+			return null;
+		IFile file= (IFile) resource;
+		String charset= file.getCharset();
+		try (InputStream stream= file.getContents(true)) {
+			String contents= new String(stream.readAllBytes(), charset);
+			// the buffer does not contain the byte order mark
+			if (!contents.isEmpty() && contents.charAt(0) == '\uFEFF')
+				contents= contents.substring(1);
+			return contents;
+		} catch (IOException e) {
+			throw new JavaModelException(e, IJavaModelStatusConstants.IO_EXCEPTION);
+		}
 	}
 
 	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
+import org.eclipse.jdt.internal.ui.text.Symbols;
 
 /**
  * SmartSemicolonAutoEditStrategyTest
@@ -1287,4 +1288,27 @@ public class JavaHeuristicScannerTest {
 		String indent= fScanner.computeIndentation(offset).toString();
 		assertEquals("\t", indent);
 	}
+
+	@Test
+	public void testScanAfterModification() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("class A {\n");
+		for (int i= 0; i < 1000; i++)
+			buf.append("\tint f").append(i).append("; // {\n");
+		buf.append("}\n");
+		fDocument.set(buf.toString());
+
+		// the scan reads across many chunks and skips the braces in comments
+		int end= buf.lastIndexOf("}");
+		assertEquals(end, fHeuristicScanner.findClosingPeer(buf.indexOf("{") + 1, '{', '}'));
+		assertEquals(8, fHeuristicScanner.findOpeningPeer(end - 1, '{', '}'));
+
+		// the same scanner sees the modified document
+		fDocument.replace(end, 0, "void m() {}\n");
+		int offset= end + "void m() {".length();
+		assertEquals(offset, fHeuristicScanner.findClosingPeer(offset, '{', '}'));
+		assertEquals(end + 12, fHeuristicScanner.findClosingPeer(buf.indexOf("{") + 1, '{', '}'));
+		assertEquals(Symbols.TokenIDENT, fHeuristicScanner.previousToken(end + 3, JavaHeuristicScanner.UNBOUND));
+		assertEquals(end - 1, fHeuristicScanner.getPosition());
+	}
 }
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
+
+/**
+ * Compares the occurrences looked up in an {@link OccurrencesIndex} with the occurrences found by
+ * {@link OccurrencesFinder} for every name in the sources used by {@link MarkOccurrenceTest}.
+ */
+public class OccurrencesIndexTest {
+
+	@RegisterExtension
+	public JUnitProjectTestSetup jpts= new JUnitProjectTestSetup();
+
+	@Test
+	public void junitSources() throws Exception {
+		IJavaProject project= JUnitProjectTestSetup.getProject();
+		int units= 0;
+		for (IPackageFragment fragment : project.getPackageFragments()) {
+			if (fragment.getKind() != IPackageFragmentRoot.K_SOURCE)
+				continue;
+			for (ICompilationUnit cu : fragment.getCompilationUnits()) {
+				ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+				parser.setSource(cu);
+				parser.setResolveBindings(true);
+				assertSameOccurrences((CompilationUnit) parser.createAST(null));
+				units++;
+			}
+		}
+		assertTrue(units > 0);
+	}
+
+	@Test
+	public void genericAndShadowedNames() throws Exception {
+		String source= """
+			package junit.framework;
+
+			import java.util.ArrayList;
+			import java.util.List;
+
+			public class OccurrencesFixture<T extends Comparable<T>> {
+				private T value;
+				private int count;
+				private List<T> values= new ArrayList<T>();
+
+				public OccurrencesFixture(T value) {
+					this.value= value;
+					count++;
+				}
+
+				public <E extends T> E first(List<E> list) {
+					E result= list.get(0);
+					return result;
+				}
+
+				public int shadow(int count) {
+					int sum= count + this.count;
+					for (int i= 0; i < count; i++) {
+						sum+= i;
+					}
+					for (int i= 0; i < this.count; i++) {
+						sum-= i;
+					}
+					class Local {
+						int value;
+						int get() {
+							return value + count;
+						}
+					}
+					Runnable runnable= new Runnable() {
+						int count= 0;
+						public void run() {
+							count++;
+						}
+					};
+					runnable.run();
+					return sum + new Local().get();
+				}
+
+				public boolean contains(T value) {
+					return values.contains(value) || this.value.compareTo(value) == 0;
+				}
+
+				public static <T> OccurrencesFixture<String> create(List<T> list) {
+					return new OccurrencesFixture<String>(String.valueOf(list.size()));
+				}
+			}
+			""";
+		IJavaProject project= JUnitProjectTestSetup.getProject();
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(project);
+		Map<String, String> options= project.getOptions(true);
+		JavaCore.setComplianceOptions(JavaCore.VERSION_1_8, options);
+		parser.setCompilerOptions(options);
+		parser.setUnitName("/" + project.getElementName() + "/src/junit/framework/OccurrencesFixture.java");
+		parser.setSource(source.toCharArray());
+		parser.setResolveBindings(true);
+		assertSameOccurrences((CompilationUnit) parser.createAST(null));
+	}
+
+	private static void assertSameOccurrences(CompilationUnit root) {
+		OccurrencesIndex index= new OccurrencesIndex(root);
+		root.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				IBinding binding= node.resolveBinding();
+				if (binding == null || binding.getKind() == IBinding.PACKAGE)
+					return false;
+				OccurrencesFinder finder= new OccurrencesFinder();
+				OccurrenceLocation[] expected= finder.initialize(root, node) == null ? finder.getOccurrences() : null;
+				assertEquals(toString(expected), toString(index.getOccurrences(node)), node.getIdentifier() + " at " + node.getStartPosition());
+				return false;
+			}
+		});
+	}
+
+	private static List<String> toString(OccurrenceLocation[] locations) {
+		List<String> result= new ArrayList<>();
+		if (locations != null) {
+			OccurrenceLocation[] sorted= locations.clone();
+			Arrays.sort(sorted, Comparator.comparingInt(OccurrenceLocation::getOffset));
+			for (OccurrenceLocation location : sorted) {
+				result.add(location.getOffset() + ":" + location.getLength() + ":" + location.getFlags() + ":" + location.getDescription());
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.text.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
+import org.eclipse.jdt.internal.ui.viewsupport.SelectionListenerWithASTManager;
+
+/**
+ * Measures the time to mark the occurrences of the identifier at the caret while moving the caret
+ * from identifier to identifier in a large file in the Java editor.
+ *
+ * @since 3.35
+ */
+public class MarkOccurrencesCaretNavigationTest extends TextPerformanceTestCase {
+
+	private static final Class<MarkOccurrencesCaretNavigationTest> THIS= MarkOccurrencesCaretNavigationTest.class;
+
+	private static final String FILE= PerformanceTestSetup.STYLED_TEXT;
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 5;
+
+	private static final int FIRST_LINE= 3300;
+
+	private static final int LINES= 100;
+
+	private static final int MAX_IDENTIFIERS= 50;
+
+	private static final long MAX_WAIT= 10000;
+
+	private JavaEditor fEditor;
+
+	private List<Integer> fOffsets;
+
+	private volatile int fMarkedOffset;
+
+	private ISelectionListenerWithAST fListener;
+
+	private boolean fWasMarkOccurrences;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		fWasMarkOccurrences= store.getBoolean(PreferenceConstants.EDITOR_MARK_OCCURRENCES);
+		store.setValue(PreferenceConstants.EDITOR_MARK_OCCURRENCES, true);
+		fEditor= (JavaEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(FILE), true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+		fOffsets= findIdentifiers(EditorTestHelper.getDocument(fEditor));
+		// the editor's listener is notified first, so the occurrences are marked when this one is notified
+		fListener= (part, selection, astRoot) -> fMarkedOffset= selection.getOffset();
+		SelectionListenerWithASTManager.getDefault().addListener(fEditor, fListener);
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		SelectionListenerWithASTManager.getDefault().removeListener(fEditor, fListener);
+		EditorTestHelper.closeAllEditors();
+		JavaPlugin.getDefault().getPreferenceStore().setValue(PreferenceConstants.EDITOR_MARK_OCCURRENCES, fWasMarkOccurrences);
+	}
+
+	/**
+	 * Measures the time to mark the occurrences of the identifier at the caret while moving the
+	 * caret from identifier to identifier in a large file in the Java editor.
+	 */
+	public void test() throws Exception {
+		measure(getNullPerformanceMeter(), getWarmUpRuns());
+		measure(createPerformanceMeter(), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int i= 0; i < runs; i++) {
+			fEditor.selectAndReveal(0, 0);
+			waitForMarked(0);
+			performanceMeter.start();
+			for (int offset : fOffsets) {
+				fEditor.selectAndReveal(offset, 0);
+				waitForMarked(offset);
+			}
+			performanceMeter.stop();
+		}
+	}
+
+	private void waitForMarked(final int offset) {
+		DisplayHelper helper= new DisplayHelper() {
+			@Override
+			public boolean condition() {
+				return fMarkedOffset == offset;
+			}
+		};
+		assertTrue(helper.waitForCondition(Display.getDefault(), MAX_WAIT, 10));
+	}
+
+	private static List<Integer> findIdentifiers(IDocument document) throws Exception {
+		IRegion first= document.getLineInformation(FIRST_LINE);
+		IRegion last= document.getLineInformation(FIRST_LINE + LINES);
+		int start= first.getOffset();
+		IScanner scanner= ToolFactory.createScanner(false, false, false, false);
+		scanner.setSource(document.get(start, last.getOffset() + last.getLength() - start).toCharArray());
+		List<Integer> offsets= new ArrayList<>();
+		try {
+			int token;
+			while ((token= scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF && offsets.size() < MAX_IDENTIFIERS) {
+				if (token == ITerminalSymbols.TokenNameIdentifier)
+					offsets.add(Integer.valueOf(start + scanner.getCurrentTokenStartPosition()));
+			}
+		} catch (InvalidInputException e) {
+			// use the identifiers found so far
+		}
+		assertFalse(offsets.isEmpty());
+		return offsets;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ public class PerformanceTestSuite extends TestSuite {
 		addTest(SaveJavaEditorTest.suite());
 		addTest(JavaFormatterTest.suite());
 		addTest(JavaExpandSelectionTest.suite());
+		addTest(MarkOccurrencesCaretNavigationTest.suite());
 		addTest(ConvertLineDelimitersProjectTest.suite());
 		addTest(JavaFormatterProjectTest.suite());
 		addTest(ContentTypeTest.suite());
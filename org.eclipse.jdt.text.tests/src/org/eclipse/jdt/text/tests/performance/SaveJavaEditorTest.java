@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,16 @@ package org.eclipse.jdt.text.tests.performance;
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpPostSaveListener;
+import org.eclipse.jdt.internal.corext.fix.CleanUpPreferenceUtil;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+
 /**
  * @since 3.1
  */
@@ -32,4 +42,30 @@ public class SaveJavaEditorTest extends SaveEditorTest {
 	protected String getEditorId() {
 		return EditorTestHelper.COMPILATION_UNIT_EDITOR_ID;
 	}
+
+	/**
+	 * Measures saving with the "Format edited lines" save action, which needs the changed lines.
+	 *
+	 * @throws Exception if something goes wrong
+	 * @since 3.36
+	 */
+	public void test2() throws Exception {
+		IEclipsePreferences node= InstanceScope.INSTANCE.getNode(JavaUI.ID_PLUGIN);
+		String participantKey= "editor_save_participant_" + CleanUpPostSaveListener.POSTSAVELISTENER_ID;
+		String formatKey= CleanUpPreferenceUtil.SAVE_PARTICIPANT_KEY_PREFIX + CleanUpConstants.FORMAT_SOURCE_CODE;
+		String changesOnlyKey= CleanUpPreferenceUtil.SAVE_PARTICIPANT_KEY_PREFIX + CleanUpConstants.FORMAT_SOURCE_CODE_CHANGES_ONLY;
+		node.putBoolean(participantKey, true);
+		node.put(formatKey, CleanUpOptions.TRUE);
+		node.put(changesOnlyKey, CleanUpOptions.TRUE);
+		try {
+			measureRevert(getNullPerformanceMeter(), getWarmUpRuns());
+			measureRevert(createPerformanceMeter(), getMeasuredRuns());
+			commitAllMeasurements();
+			assertAllPerformance();
+		} finally {
+			node.remove(participantKey);
+			node.remove(formatKey);
+			node.remove(changesOnlyKey);
+		}
+	}
 }
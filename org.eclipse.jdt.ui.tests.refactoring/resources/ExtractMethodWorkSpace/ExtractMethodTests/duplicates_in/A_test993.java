@@ -0,0 +1,17 @@
+package duplicates_in;
+
+public class A_test993 {
+	void foo() {
+		/*[*/System.out.println("Eclipse");/*]*/
+		System.out.println("Java");
+		System.err.println("Eclipse");
+		System.out.println("Eclipse" + 1);
+		System.out.println();
+	}
+
+	void bar() {
+		System.out.print("Eclipse");
+		System.out.println(new String("Eclipse"));
+		System.out.println("Eclipse");
+	}
+}
@@ -0,0 +1,23 @@
+package duplicates_in;
+
+public class A_test994 {
+	void foo() {
+		int i= 0;
+		int j= 1;
+		int k= 2;
+		/*[*/bar(i, j);
+		bar(j);/*]*/
+		bar(i, i);
+		bar(j);
+		bar(i, j);
+		bar(j, 0);
+		bar(k, j);
+		bar(j);
+	}
+
+	void bar(int x, int y) {
+	}
+
+	void bar(int x) {
+	}
+}
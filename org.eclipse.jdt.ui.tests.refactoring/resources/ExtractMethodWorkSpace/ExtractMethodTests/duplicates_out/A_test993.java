@@ -0,0 +1,21 @@
+package duplicates_out;
+
+public class A_test993 {
+	void foo() {
+		extracted();
+		System.out.println("Java");
+		System.err.println("Eclipse");
+		System.out.println("Eclipse" + 1);
+		System.out.println();
+	}
+
+	protected void extracted() {
+		/*[*/System.out.println("Eclipse");/*]*/
+	}
+
+	void bar() {
+		System.out.print("Eclipse");
+		System.out.println(new String("Eclipse"));
+		extracted();
+	}
+}
@@ -0,0 +1,26 @@
+package duplicates_out;
+
+public class A_test994 {
+	void foo() {
+		int i= 0;
+		int j= 1;
+		int k= 2;
+		extracted(i, j);
+		bar(i, i);
+		bar(j);
+		bar(i, j);
+		bar(j, 0);
+		extracted(k, j);
+	}
+
+	protected void extracted(int i, int j) {
+		/*[*/bar(i, j);
+		bar(j);/*]*/
+	}
+
+	void bar(int x, int y) {
+	}
+
+	void bar(int x) {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2408,6 +2408,16 @@ public class ExtractMethodTests extends AbstractJunit4SelectionTestCase {
 		duplicatesTest();
 	}
 
+	@Test
+	public void test993() throws Exception {
+		duplicatesTest(); // candidates of the same and of a different shape as the snippet
+	}
+
+	@Test
+	public void test994() throws Exception {
+		duplicatesTest(); // candidates with locals of the same and of a different shape as the snippet
+	}
+
 	//---- Test code in initializers -----------------------------------------------
 
 	@Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.refactoring;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -33,8 +34,10 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 
+import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextChange;
 import org.eclipse.ltk.core.refactoring.participants.RenameArguments;
 import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 
@@ -506,6 +509,24 @@ public class RenameNonPrivateFieldTests extends GenericRefactoringTest {
 		assertEqualLines(getExpectedFileConent("messages"), getContents(file));
 	}
 
+	@Test
+	public void testPreviewEditsReleased() throws Exception {
+		ICompilationUnit cu= getPackageP().createCompilationUnit("A.java", "package p;\nclass A {\n\tint f;\n\tint m() {\n\t\treturn f;\n\t}\n}\n", true, null);
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(getType(cu, "A").getField("f"));
+		descriptor.setNewName("g");
+		descriptor.setUpdateReferences(true);
+		RenameRefactoring refactoring= (RenameRefactoring) createRefactoring(descriptor);
+		assertTrue(refactoring.checkAllConditions(new NullProgressMonitor()).isOK());
+
+		// the changes keep the preview edits for the analysis only
+		CompositeChange change= (CompositeChange) refactoring.createChange(new NullProgressMonitor());
+		assertEquals(1, change.getChildren().length);
+		TextChange textChange= (TextChange) change.getChildren()[0];
+		assertFalse(textChange.getKeepPreviewEdits());
+		assertEquals("package p;\nclass A {\n\tint g;\n\tint m() {\n\t\treturn g;\n\t}\n}\n", textChange.getPreviewContent(new NullProgressMonitor()));
+	}
+
 	private String getExpectedFileConent(String propertyName) throws IOException {
 		String fileName= getOutputTestFileName(propertyName);
 		fileName= fileName.substring(0, fileName.length() - ".java".length()) + ".properties";
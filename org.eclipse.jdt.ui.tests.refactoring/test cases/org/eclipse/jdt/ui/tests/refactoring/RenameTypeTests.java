@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,11 +57,15 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.refactoring.IJavaElementMapper;
 import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
 import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+import org.eclipse.jdt.core.search.SearchEngine;
 
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RenameTypeProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RenamingNameSuggestor;
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchUpdater;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.INameUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.DebugUtils;
 import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
@@ -1926,4 +1930,26 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		// Test references in annotations and type parameters
 		helper3("Try", "Bla", true, false, true);
 	}
+
+	@Test
+	public void testTextMatchUpdaterScansOnlyCandidates() throws Exception {
+		IPackageFragment pack= getPackageP();
+		pack.createCompilationUnit("A.java", "package p;\n// Abc\nclass A {}\n", true, null);
+		pack.createCompilationUnit("B.java", "package p;\nclass B {}\n", true, null);
+		ICompilationUnit cuC= pack.createCompilationUnit("C.java", "package p;\nclass C {}\n", true, null);
+		cuC.becomeWorkingCopy(null);
+		try {
+			// the unsaved contents are scanned
+			cuC.getBuffer().setContents("package p;\n/* Abc */\nclass C {}\n");
+			TextChangeManager manager= new TextChangeManager();
+			TextMatchUpdater updater= TextMatchUpdater.perform(new NullProgressMonitor(), SearchEngine.createJavaSearchScope(new IJavaElement[] { pack }),
+					"Abc", "p", "Xyz", manager, new SearchResultGroup[0], false);
+			assertEquals(3, updater.getSearchedCount());
+			assertEquals(2, updater.getScannedCount());
+			assertEquals(2, manager.getAllCompilationUnits().length);
+			assertTrue(manager.containsChangesIn(cuC));
+		} finally {
+			cuC.discardWorkingCopy();
+		}
+	}
 }
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameVirtualMethodProcessor;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures the heap held by the change of a large method rename between condition checking and
+ * performing the change, and compares it with the heap held when the changes keep the copies of
+ * their preview edits.
+ */
+public class RenameMethodHeapTests extends RefactoringPerformanceTestCaseCommon {
+
+	private static final int NUMBER_OF_CUS= 1000;
+	private static final int NUMBER_OF_REFS= 50;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	private TestProject fTestProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fTestProject= new TestProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fTestProject.delete();
+	}
+
+	@Test
+	public void testHeldChange_1000_50() throws Exception {
+		ICompilationUnit cunit= generateSources();
+		IMethod method= cunit.findPrimaryType().getMethod("foo", new String[0]);
+		RenameVirtualMethodProcessor processor= new RenameVirtualMethodProcessor(method);
+		processor.setNewElementName("foo2");
+		RenameRefactoring refactoring= new RenameRefactoring(processor);
+
+		joinBackgroudActivities();
+		RefactoringCore.getUndoManager().flush();
+		long before= usedHeap();
+		startMeasuring();
+		assertTrue(refactoring.checkAllConditions(new NullProgressMonitor()).isOK());
+		CompositeChange change= (CompositeChange) refactoring.createChange(new NullProgressMonitor());
+		long released= usedHeap() - before;
+		stopMeasuring();
+		commitMeasurements();
+		try {
+			// keep the copies of the preview edits again, as the changes did before the analysis released them
+			keepPreviewEdits(change);
+			long kept= usedHeap() - before;
+			assertTrue("heap held with released preview edits: " + released + ", with kept preview edits: " + kept, released < kept);
+		} finally {
+			change.dispose();
+		}
+		assertPerformanceInRelativeBand(Dimension.USED_JAVA_HEAP, -100, +10);
+	}
+
+	private static void keepPreviewEdits(CompositeChange change) throws Exception {
+		for (Change child : change.getChildren()) {
+			if (child instanceof CompositeChange composite) {
+				keepPreviewEdits(composite);
+			} else if (child instanceof TextChange textChange) {
+				assertFalse(textChange.getKeepPreviewEdits());
+				textChange.setKeepPreviewEdits(true);
+				textChange.getPreviewContent(new NullProgressMonitor());
+			}
+		}
+	}
+
+	private static long usedHeap() {
+		Runtime runtime= Runtime.getRuntime();
+		for (int i= 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private ICompilationUnit generateSources() throws Exception {
+		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
+		String str= """
+			package def;
+			public class A {
+			    public void foo() {
+			    }
+			}
+			""";
+		ICompilationUnit result= definition.createCompilationUnit("A.java", str, false, null);
+
+		IPackageFragment references= fTestProject.getSourceFolder().createPackageFragment("ref", false, null);
+		for (int i= 0; i < NUMBER_OF_CUS; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package ref;\n");
+			buf.append("import def.A;\n");
+			buf.append("public class Ref" + i + " {\n");
+			buf.append("    public void ref(A a) {\n");
+			for (int j= 0; j < NUMBER_OF_REFS; j++) {
+				buf.append("        a.foo();\n");
+			}
+			buf.append("    }\n");
+			buf.append("}\n");
+			references.createCompilationUnit("Ref" + i + ".java", buf.toString(), false, null);
+		}
+		return result;
+	}
+}
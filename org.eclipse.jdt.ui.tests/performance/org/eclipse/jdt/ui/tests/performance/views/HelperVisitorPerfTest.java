@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+
+import org.eclipse.jdt.internal.ui.util.CoreUtility;
+
+/**
+ * Runs several {@link HelperVisitor}s over the compilation units of the SWT project, once with a
+ * traversal per visitor and once with a single traversal for all of them.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class HelperVisitorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int WARM_UP_RUNS= 3;
+
+	private static final int MEASURED_RUNS= 10;
+
+	private static final int VISITORS= 5;
+
+	private static class MyTestSetup extends ExternalResource {
+		private SWTTestProject fTestProject;
+		private boolean fAutoBuilding;
+
+		public static List<CompilationUnit> fUnits;
+
+		@Override
+		public void before() throws Throwable {
+			fAutoBuilding= CoreUtility.setAutoBuilding(false);
+			fTestProject= new SWTTestProject();
+
+			List<ICompilationUnit> units= new ArrayList<>();
+			addAllCUs(units, fTestProject.getProject().getChildren());
+			fUnits= new ArrayList<>();
+			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+			parser.setProject(fTestProject.getProject());
+			parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					fUnits.add(ast);
+				}
+			}, null);
+		}
+
+		@Override
+		public void after() {
+			fUnits= null;
+			try {
+				fTestProject.delete();
+				CoreUtility.setAutoBuilding(fAutoBuilding);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		private static void addAllCUs(List<ICompilationUnit> units, IJavaElement[] children) throws JavaModelException {
+			for (IJavaElement element : children) {
+				if (element instanceof ICompilationUnit) {
+					units.add((ICompilationUnit) element);
+				} else if (element instanceof IPackageFragmentRoot) {
+					addAllCUs(units, ((IPackageFragmentRoot) element).getChildren());
+				} else if (element instanceof IPackageFragment) {
+					addAllCUs(units, ((IPackageFragment) element).getChildren());
+				}
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testSeparateTraversals() throws Exception {
+		assertFalse(MyTestSetup.fUnits.isEmpty());
+		measure(false, Performance.getDefault().getNullPerformanceMeter(), WARM_UP_RUNS);
+		measure(false, fPerformanceMeter, MEASURED_RUNS);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testSingleTraversal() throws Exception {
+		assertFalse(MyTestSetup.fUnits.isEmpty());
+		assertArrayEquals(measure(false, Performance.getDefault().getNullPerformanceMeter(), 1),
+				measure(true, Performance.getDefault().getNullPerformanceMeter(), WARM_UP_RUNS));
+		measure(true, fPerformanceMeter, MEASURED_RUNS);
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private static int[] measure(boolean single, PerformanceMeter performanceMeter, int runs) {
+		int[] counts= null;
+		for (int i= 0; i < runs; i++) {
+			counts= new int[VISITORS];
+			performanceMeter.start();
+			for (CompilationUnit unit : MyTestSetup.fUnits) {
+				HelperVisitor<?, ?, ?>[] visitors= createVisitors(counts);
+				if (single) {
+					HelperVisitor.buildAll(unit, visitors);
+				} else {
+					for (HelperVisitor<?, ?, ?> visitor : visitors) {
+						visitor.build(unit);
+					}
+				}
+			}
+			performanceMeter.stop();
+		}
+		return counts;
+	}
+
+	private static HelperVisitor<?, ?, ?>[] createVisitors(int[] counts) {
+		HelperVisitor<ReferenceHolder<ASTNode, Object>, ASTNode, Object> invocations= new HelperVisitor<>(null, new ReferenceHolder<>());
+		invocations.addMethodInvocation((node, holder) -> {
+			counts[0]++;
+			return true;
+		});
+		HelperVisitor<ReferenceHolder<ASTNode, Object>, ASTNode, Object> names= new HelperVisitor<>(null, new ReferenceHolder<>());
+		names.addSimpleName((node, holder) -> {
+			counts[1]++;
+			return true;
+		});
+		HelperVisitor<ReferenceHolder<ASTNode, Object>, ASTNode, Object> ifStatements= new HelperVisitor<>(null, new ReferenceHolder<>());
+		ifStatements.addIfStatement((node, holder) -> {
+			counts[2]++;
+			return true;
+		});
+		HelperVisitor<ReferenceHolder<ASTNode, Object>, ASTNode, Object> infixExpressions= new HelperVisitor<>(null, new ReferenceHolder<>());
+		infixExpressions.addInfixExpression((node, holder) -> {
+			counts[3]++;
+			return true;
+		});
+		HelperVisitor<ReferenceHolder<ASTNode, Object>, ASTNode, Object> fragments= new HelperVisitor<>(null, new ReferenceHolder<>());
+		fragments.addVariableDeclarationFragment((node, holder) -> {
+			counts[4]++;
+			return true;
+		});
+		return new HelperVisitor<?, ?, ?>[] { invocations, names, ifStatements, infixExpressions, fragments };
+	}
+}
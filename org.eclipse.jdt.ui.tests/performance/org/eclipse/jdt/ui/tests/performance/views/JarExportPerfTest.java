@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.internal.jarpackager.JarArchiveOutputStream;
+import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Exports a runnable JAR that extracts many libraries, like the "Extract required libraries"
+ * option of the Runnable JAR File export.
+ */
+public class JarExportPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int LIBRARIES= 400;
+
+	private static final int ENTRIES_PER_LIBRARY= 100;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static File fDirectory;
+
+		public static File[] fLibraries;
+
+		@Override
+		public void before() throws Throwable {
+			fDirectory= Files.createTempDirectory("jarexport").toFile();
+			fLibraries= new File[LIBRARIES];
+			for (int i= 0; i < LIBRARIES; i++) {
+				fLibraries[i]= new File(fDirectory, "lib" + i + ".jar");
+				writeLibrary(fLibraries[i], i);
+			}
+		}
+
+		@Override
+		public void after() {
+			File[] files= fDirectory.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+			fDirectory.delete();
+		}
+
+		private static void writeLibrary(File file, int index) throws IOException {
+			try (JarOutputStream out= new JarOutputStream(new FileOutputStream(file))) {
+				for (int j= 0; j < ENTRIES_PER_LIBRARY; j++) {
+					out.putNextEntry(new JarEntry("lib" + index + "/C" + j + ".class"));
+					StringBuilder buf= new StringBuilder();
+					for (int k= 0; k < 200; k++) {
+						buf.append("content of lib").append(index).append("/C").append(j).append(' ').append(k).append('\n');
+					}
+					out.write(buf.toString().getBytes(StandardCharsets.UTF_8));
+					out.closeEntry();
+				}
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testExtractLibraries() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 1);
+		measure(fPerformanceMeter, 5);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
+		File target= new File(MyTestSetup.fDirectory, "export.jar");
+		for (int j= 0; j < runs; j++) {
+			MultiStatus status= new MultiStatus("org.eclipse.jdt.ui.tests", 0, "", null);
+
+			performanceMeter.start();
+			try (JarArchiveOutputStream out= new JarArchiveOutputStream(target, new Manifest())) {
+				HashSet<String> directories= new HashSet<>();
+				for (File library : MyTestSetup.fLibraries) {
+					try (ZipFile zipFile= new ZipFile(library)) {
+						JarPackagerUtilCore.writeArchive(zipFile, true, true, out, directories, status, new NullProgressMonitor());
+					}
+				}
+			}
+			performanceMeter.stop();
+
+			assertTrue(status.isOK());
+			try (JarFile jarFile= new JarFile(target)) {
+				assertEquals(1 + LIBRARIES * (1 + ENTRIES_PER_LIBRARY), jarFile.size());
+				ZipEntry entry= jarFile.getEntry("lib7/C3.class");
+				String content= new String(jarFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+				assertTrue(content.startsWith("content of lib7/C3 0\n"));
+			}
+			target.delete();
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackagerfat.FatJarRsrcUrlBuilder;
+
+/**
+ * Starts a runnable JAR with the Jar-in-Jar loader and many nested libraries, like the "Package
+ * required libraries into generated JAR" option of the Runnable JAR File export. The main class
+ * loads classes from all libraries.
+ */
+public class JarInJarLoaderPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int LIBRARIES= 200;
+
+	private static final int CLASSES_PER_LIBRARY= 10;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static File fDirectory;
+
+		public static File fStoredJar;
+
+		public static File fCompressedJar;
+
+		@Override
+		public void before() throws Throwable {
+			fDirectory= Files.createTempDirectory("jarinjar").toFile();
+			String[] classpath= { JavaProjectHelper.findRtJar(JavaProjectHelper.RT_STUBS_18)[0].toOSString() };
+			File[] libraries= new File[LIBRARIES];
+			for (int i= 0; i < LIBRARIES; i++) {
+				String[] pathsAndContents= new String[CLASSES_PER_LIBRARY * 2];
+				for (int j= 0; j < CLASSES_PER_LIBRARY; j++) {
+					pathsAndContents[j * 2]= "p" + i + "/C" + j + ".java";
+					pathsAndContents[j * 2 + 1]= "package p" + i + ";\npublic class C" + j + " {\n	public static int value() {\n		return " + j + ";\n	}\n}\n";
+				}
+				libraries[i]= new File(fDirectory, "lib" + i + ".jar");
+				JarUtil.createJar(pathsAndContents, null, libraries[i].getPath(), classpath, "1.8", null, null);
+			}
+			String main= """
+				package app;
+				public class Main {
+					public static void main(String[] args) throws Exception {
+						int sum= 0;
+						for (int i= 0; i < %d; i++)
+							for (int j= 0; j < %d; j++)
+								sum+= (Integer) Class.forName("p" + i + ".C" + j).getMethod("value").invoke(null);
+						System.out.print(sum);
+					}
+				}
+				""".formatted(LIBRARIES, CLASSES_PER_LIBRARY);
+			File app= new File(fDirectory, "app.jar");
+			JarUtil.createJar(new String[] { "app/Main.java", main }, null, app.getPath(), classpath, "1.8", null, null);
+
+			fStoredJar= new File(fDirectory, "stored.jar");
+			writeRunnableJar(fStoredJar, app, libraries, true);
+			fCompressedJar= new File(fDirectory, "compressed.jar");
+			writeRunnableJar(fCompressedJar, app, libraries, false);
+		}
+
+		@Override
+		public void after() {
+			JarUtil.delete(fDirectory);
+		}
+
+		private static void writeRunnableJar(File file, File app, File[] libraries, boolean storeLibraries) throws IOException {
+			Manifest manifest= new Manifest();
+			Attributes attributes= manifest.getMainAttributes();
+			attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+			attributes.put(Attributes.Name.MAIN_CLASS, "org.eclipse.jdt.internal.jarinjarloader.JarRsrcLoader");
+			attributes.putValue("Rsrc-Main-Class", "app.Main");
+			StringBuilder rsrcClassPath= new StringBuilder("./");
+			for (File library : libraries) {
+				rsrcClassPath.append(' ').append(library.getName());
+			}
+			attributes.putValue("Rsrc-Class-Path", rsrcClassPath.toString());
+			try (JarOutputStream out= new JarOutputStream(new FileOutputStream(file), manifest)) {
+				copyEntries(JavaPlugin.getDefault().getBundle().getEntry(FatJarRsrcUrlBuilder.JAR_RSRC_LOADER_ZIP).openStream(), out);
+				copyEntries(new FileInputStream(app), out);
+				for (File library : libraries) {
+					byte[] content= Files.readAllBytes(library.toPath());
+					JarEntry entry= new JarEntry(library.getName());
+					if (storeLibraries) {
+						CRC32 crc= new CRC32();
+						crc.update(content);
+						entry.setMethod(ZipEntry.STORED);
+						entry.setSize(content.length);
+						entry.setCrc(crc.getValue());
+					}
+					out.putNextEntry(entry);
+					out.write(content);
+					out.closeEntry();
+				}
+			}
+		}
+
+		private static void copyEntries(InputStream in, JarOutputStream out) throws IOException {
+			try (ZipInputStream zis= new ZipInputStream(in)) {
+				ZipEntry zipEntry;
+				while ((zipEntry= zis.getNextEntry()) != null) {
+					if (!zipEntry.isDirectory() && !zipEntry.getName().startsWith("META-INF/")) {
+						out.putNextEntry(new JarEntry(zipEntry.getName()));
+						out.write(zis.readAllBytes());
+						out.closeEntry();
+					}
+				}
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testStartupStoredLibraries() throws Exception {
+		measure(MyTestSetup.fStoredJar, Performance.getDefault().getNullPerformanceMeter(), 1);
+		measure(MyTestSetup.fStoredJar, fPerformanceMeter, 5);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testStartupCompressedLibraries() throws Exception {
+		measure(MyTestSetup.fCompressedJar, Performance.getDefault().getNullPerformanceMeter(), 1);
+		measure(MyTestSetup.fCompressedJar, fPerformanceMeter, 5);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(File jar, PerformanceMeter performanceMeter, int runs) throws Exception {
+		String java= new File(System.getProperty("java.home"), "bin/java").getPath();
+		int expected= LIBRARIES * (CLASSES_PER_LIBRARY * (CLASSES_PER_LIBRARY - 1) / 2);
+		for (int j= 0; j < runs; j++) {
+			ProcessBuilder builder= new ProcessBuilder(java, "-jar", jar.getPath()).redirectErrorStream(true);
+
+			performanceMeter.start();
+			Process process= builder.start();
+			String output= new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+			int exitCode= process.waitFor();
+			performanceMeter.stop();
+
+			assertEquals(output, 0, exitCode);
+			assertEquals(String.valueOf(expected), output.trim());
+		}
+	}
+}
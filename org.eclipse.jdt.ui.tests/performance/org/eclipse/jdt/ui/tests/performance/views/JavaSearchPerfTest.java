@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.search.ui.ISearchResultListener;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+public class JavaSearchPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int UNITS= 200;
+
+	private static final int REFERENCES_PER_UNIT= 1000;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		public static IField fField;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, SRC_CONTAINER);
+			IPackageFragment pack= root.createPackageFragment("p", true, null);
+			fField= pack.createCompilationUnit("Target.java", "package p;\npublic class Target {\n    public static int F;\n}\n", true, null).getType("Target").getField("F");
+			for (int i= 0; i < UNITS; i++) {
+				String name= "Client" + i;
+				StringBuilder buf= new StringBuilder();
+				buf.append("package p;\n");
+				buf.append("public class ").append(name).append(" {\n");
+				buf.append("    int m() {\n");
+				buf.append("        int x= 0;\n");
+				for (int j= 0; j < REFERENCES_PER_UNIT; j++) {
+					buf.append("        x+= Target.F;\n");
+				}
+				buf.append("        return x;\n");
+				buf.append("    }\n");
+				buf.append("}\n");
+				pack.createCompilationUnit(name + ".java", buf.toString(), true, null);
+			}
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testReferencesWithManyMatches() throws Exception {
+		measure(Performance.getDefault().getNullPerformanceMeter(), 1);
+		measure(fPerformanceMeter, 5);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
+		for (int j= 0; j < runs; j++) {
+			JavaSearchQuery query= new JavaSearchQuery(new ElementQuerySpecification(MyTestSetup.fField, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+			JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+			AtomicInteger events= new AtomicInteger();
+			ISearchResultListener listener= e -> events.incrementAndGet();
+			result.addListener(listener);
+
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			IStatus status= query.run(new NullProgressMonitor());
+			performanceMeter.stop();
+
+			result.removeListener(listener);
+			assertTrue(status.isOK());
+			assertEquals(UNITS * REFERENCES_PER_UNIT, result.getMatchCount());
+			assertTrue(events.get() < UNITS * REFERENCES_PER_UNIT);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocArchiveIndex;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Reads member documentation from a Javadoc archive through the {@link JavadocArchiveIndex}. The
+ * archive is the zip given by the system property <code>jdt.ui.tests.javadocZip</code> (e.g. the
+ * JDK documentation bundle) or a generated archive in the JDK 17 page format.
+ */
+public class JavadocArchiveIndexPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final String JAVADOC_ZIP_PROPERTY= "jdt.ui.tests.javadocZip";
+
+	private static final String PAGE_PREFIX= "docs/api/java.base/";
+
+	private static final int TYPES= 500;
+
+	private static final int METHODS_PER_TYPE= 40;
+
+	private static final int LOOKUPS= 1000;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static File fArchive;
+
+		private static File fGenerated;
+
+		@Override
+		public void before() throws Throwable {
+			String zip= System.getProperty(JAVADOC_ZIP_PROPERTY);
+			if (zip != null) {
+				fArchive= new File(zip);
+			} else {
+				fGenerated= File.createTempFile("javadoc", ".zip");
+				writeArchive(fGenerated);
+				fArchive= fGenerated;
+			}
+		}
+
+		@Override
+		public void after() {
+			if (fGenerated != null) {
+				fGenerated.delete();
+			}
+		}
+
+		private static void writeArchive(File file) throws IOException {
+			try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(file))) {
+				for (int i= 0; i < TYPES; i++) {
+					out.putNextEntry(new ZipEntry(PAGE_PREFIX + "java/lang/Type" + i + ".html"));
+					out.write(createPage("Type" + i).getBytes(StandardCharsets.UTF_8));
+					out.closeEntry();
+				}
+			}
+		}
+
+		private static String createPage(String typeName) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("<!DOCTYPE HTML>\n<html lang=\"en\">\n<head>\n");
+			buf.append("<meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">\n");
+			buf.append("<title>").append(typeName).append("</title>\n</head>\n<body>\n<main role=\"main\">\n");
+			buf.append("<section class=\"summary\">\n");
+			for (int m= 0; m < METHODS_PER_TYPE; m++) {
+				buf.append("<a href=\"#method").append(m).append("(int,java.lang.String)\">method").append(m).append("</a>\n");
+			}
+			buf.append("</section>\n<section class=\"details\">\n<ul class=\"details-list\">\n");
+			for (int m= 0; m < METHODS_PER_TYPE; m++) {
+				buf.append("<li>\n<section class=\"detail\" id=\"method").append(m).append("(int,java.lang.String)\">\n");
+				buf.append("<h3>method").append(m).append("</h3>\n");
+				buf.append("<div class=\"block\">");
+				for (int k= 0; k < 20; k++) {
+					buf.append("Documentation of method ").append(m).append(" in ").append(typeName).append(". ");
+				}
+				buf.append("</div>\n</section>\n</li>\n");
+			}
+			buf.append("</ul>\n</section>\n</main>\n<footer role=\"contentinfo\"></footer>\n</body>\n</html>\n");
+			return buf.toString();
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testIndexedLookup() throws Exception {
+		JavadocArchiveIndex index= JavadocArchiveIndex.getIndex(MyTestSetup.fArchive, true);
+		assertNotNull(index);
+
+		measure(index, Performance.getDefault().getNullPerformanceMeter(), 1);
+		measure(index, fPerformanceMeter, 10);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measure(JavadocArchiveIndex index, PerformanceMeter performanceMeter, int runs) {
+		boolean generated= System.getProperty(JAVADOC_ZIP_PROPERTY) == null;
+		for (int j= 0; j < runs; j++) {
+			performanceMeter.start();
+			int found= 0;
+			for (int i= 0; i < LOOKUPS; i++) {
+				String section;
+				if (generated) {
+					section= index.getSection(PAGE_PREFIX + "java/lang/Type" + (i % TYPES) + ".html", "method" + (i % METHODS_PER_TYPE) + "(int,java.lang.String)");
+				} else {
+					section= index.getSection(PAGE_PREFIX + "java/lang/String.html", i % 2 == 0 ? "indexOf(int)" : "substring(int,int)");
+				}
+				if (section != null) {
+					found++;
+				}
+			}
+			performanceMeter.stop();
+			assertEquals(LOOKUPS, found);
+		}
+	}
+}
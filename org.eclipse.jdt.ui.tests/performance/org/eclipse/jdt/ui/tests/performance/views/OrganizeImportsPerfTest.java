@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.performance.views;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,6 +33,8 @@ import org.eclipse.test.performance.PerformanceMeter;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -41,8 +45,14 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
+import org.eclipse.jdt.internal.corext.fix.ImportsFix;
+import org.eclipse.jdt.internal.corext.fix.ImportsFix.PrecomputedFix;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
 public class OrganizeImportsPerfTest extends JdtPerformanceTestCaseCommon {
 
 	private static class MyTestSetup extends ExternalResource {
@@ -107,6 +117,52 @@ public class OrganizeImportsPerfTest extends JdtPerformanceTestCaseCommon {
 		Performance.getDefault().assertPerformance(fPerformanceMeter);
 	}
 
+	@Test
+	public void testOrganizeImportsOnLargeFolder() throws Exception {
+		measureLargeFolder(Performance.getDefault().getNullPerformanceMeter(), 1);
+		measureLargeFolder(fPerformanceMeter, 3);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measureLargeFolder(PerformanceMeter performanceMeter, int runs) throws Exception {
+		final int nUnits= 5000;
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(MyTestSetup.fJProject1, "large");
+		for (int j= 0; j < runs; j++) {
+			IPackageFragment pack= root.createPackageFragment("large" + j, true, null);
+			ICompilationUnit[] cus= new ICompilationUnit[nUnits];
+			for (int i= 0; i < nUnits; i++) {
+				String name= "Unit" + i;
+				StringBuilder buf= new StringBuilder();
+				buf.append("package ").append(pack.getElementName()).append(";\n");
+				buf.append("public class ").append(name).append(" extends TestCase {\n");
+				buf.append("    Collection<String> fList= new ArrayList<>();\n");
+				buf.append("    Map<String, Vector<Integer>> fMap= new HashMap<>();\n");
+				buf.append("    public Test suite() { return new TestSuite(").append(name).append(".class); }\n");
+				buf.append("}\n");
+				cus[i]= pack.createCompilationUnit(name + ".java", buf.toString(), true, null);
+			}
+
+			joinBackgroudActivities();
+
+			// the organize imports clean up computes the fixes in batches like this
+			performanceMeter.start();
+			Map<ICompilationUnit, PrecomputedFix> fixes= ImportsFix.createCleanUps(MyTestSetup.fJProject1, cus,
+					JavaPreferencesSettings.getCodeGenerationSettings(MyTestSetup.fJProject1), new RefactoringStatus(), new NullProgressMonitor());
+			for (int i= 0; i < nUnits; i++) {
+				PrecomputedFix fix= fixes.get(cus[i]);
+				if (fix != null && fix.fix() != null) {
+					JavaModelUtil.applyEdit(cus[i], fix.fix().createChange(null).getEdit(), true, null);
+				}
+			}
+			performanceMeter.stop();
+
+			assertEquals(8, cus[0].getImports().length);
+			pack.delete(true, null);
+		}
+	}
+
 	private void measure(PerformanceMeter performanceMeter, int runs) throws Exception {
 		for (int j= 0; j < runs; j++) {
 			List<IJavaElement> cusList= new ArrayList<>();
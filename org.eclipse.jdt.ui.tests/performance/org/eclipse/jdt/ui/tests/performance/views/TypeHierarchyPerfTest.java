@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.performance.views;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 
@@ -36,14 +37,18 @@ import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
 import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyViewPart;
 import org.eclipse.jdt.internal.ui.util.OpenTypeHierarchyUtil;
 
@@ -124,6 +129,37 @@ public class TypeHierarchyPerfTest extends JdtPerformanceTestCaseCommon {
 		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
 	}
 
+	@Test
+	public void testDRefreshHierarchyAfterEdit() throws Exception {
+		tagAsSummary("Refresh type hierarchy after edit", Dimension.ELAPSED_PROCESS);
+
+		IType type= MyTestSetup.fJProject1.findType("junit.framework.TestCase");
+		IPackageFragment pack= MyTestSetup.fJunitSrcRoot.getPackageFragment("junit.framework");
+		IWorkbenchWindow workbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		try {
+			lifeCycle.ensureRefreshedTypeHierarchy(type, workbenchWindow);
+			for (int i= 0; i < 10; i++) {
+				String name= "AddedTest" + i;
+				ICompilationUnit cu= pack.createCompilationUnit(name + ".java", "package junit.framework;\npublic class " + name + " extends TestCase {\n}\n", true, null);
+				joinBackgroudActivities();
+
+				startMeasuring();
+				lifeCycle.ensureRefreshedTypeHierarchy(type, workbenchWindow);
+				stopMeasuring();
+
+				assertTrue(lifeCycle.getHierarchy().contains(cu.getType(name)));
+				cu.delete(true, null);
+			}
+		} finally {
+			lifeCycle.freeHierarchy();
+		}
+
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
 	private void measureOpenHierarchy(IJavaElement element) throws Exception {
 		IWorkbenchWindow activeWorkbenchWindow= JavaPlugin.getActiveWorkbenchWindow();
 		joinBackgroudActivities();
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TagElement;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+
+/**
+ * Compares the calls a visitor gets from a {@link FusedASTVisitor} with the calls it gets when it
+ * visits the AST on its own.
+ */
+public class FusedASTVisitorTest {
+
+	private static CompilationUnit fAst;
+
+	@BeforeAll
+	public static void init() {
+		String code= """
+			package test;
+			/**
+			 * Type doc with {@link String#length()} and {@code code}.
+			 * @see java.util.List
+			 */
+			public class E {
+				/** @param value the {@link Integer} value */
+				void method(int value) {
+					int local= value;
+					class Local {
+						/** {@link #skipped()} */
+						void skipped() {
+							String inner= "x";
+						}
+					}
+				}
+				void skipped() {
+					String inner= "x";
+				}
+				void empty() {
+				}
+				/** Nested type */
+				static class Skipped {
+					int field;
+				}
+			}
+			""";
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setSource(code.toCharArray());
+		fAst= (CompilationUnit) parser.createAST(null);
+	}
+
+	private record Call(String method, ASTNode node) {
+		@Override
+		public String toString() {
+			String name= node instanceof SimpleName simpleName ? " " + simpleName.getIdentifier() : ""; //$NON-NLS-1$ //$NON-NLS-2$
+			return method + " " + node.getClass().getSimpleName() + name + "@" + node.getStartPosition(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Records its calls, does not visit the method <code>skipped</code> and the type
+	 * <code>Skipped</code>.
+	 */
+	private static class RecordingVisitor extends ASTVisitor {
+		final List<Call> fCalls= new ArrayList<>();
+
+		RecordingVisitor(boolean visitDocTags) {
+			super(visitDocTags);
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			fCalls.add(new Call("preVisit2", node)); //$NON-NLS-1$
+			return !(node instanceof Block block && block.statements().isEmpty());
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			fCalls.add(new Call("postVisit", node)); //$NON-NLS-1$
+		}
+
+		@Override
+		public boolean visit(Javadoc node) {
+			fCalls.add(new Call("visit", node)); //$NON-NLS-1$
+			return super.visit(node);
+		}
+
+		@Override
+		public void endVisit(Javadoc node) {
+			fCalls.add(new Call("endVisit", node)); //$NON-NLS-1$
+		}
+
+		@Override
+		public boolean visit(TagElement node) {
+			fCalls.add(new Call("visit", node)); //$NON-NLS-1$
+			return true;
+		}
+
+		@Override
+		public void endVisit(TagElement node) {
+			fCalls.add(new Call("endVisit", node)); //$NON-NLS-1$
+		}
+
+		@Override
+		public boolean visit(TypeDeclaration node) {
+			fCalls.add(new Call("visit", node)); //$NON-NLS-1$
+			return !"Skipped".equals(node.getName().getIdentifier()); //$NON-NLS-1$
+		}
+
+		@Override
+		public void endVisit(TypeDeclaration node) {
+			fCalls.add(new Call("endVisit", node)); //$NON-NLS-1$
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			fCalls.add(new Call("visit", node)); //$NON-NLS-1$
+			return !"skipped".equals(node.getName().getIdentifier()); //$NON-NLS-1$
+		}
+
+		@Override
+		public void endVisit(MethodDeclaration node) {
+			fCalls.add(new Call("endVisit", node)); //$NON-NLS-1$
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			fCalls.add(new Call("visit", node)); //$NON-NLS-1$
+			return true;
+		}
+
+		@Override
+		public void endVisit(SimpleName node) {
+			fCalls.add(new Call("endVisit", node)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Visits doc comments only if they belong to a method.
+	 */
+	private static class MethodDocVisitor extends RecordingVisitor {
+		MethodDocVisitor() {
+			super(false);
+		}
+
+		@Override
+		public boolean visit(Javadoc node) {
+			super.visit(node);
+			return node.getParent() instanceof MethodDeclaration;
+		}
+	}
+
+	@Test
+	public void allNodeTypes() {
+		assertSameCalls(() -> new RecordingVisitor(false), null);
+		assertSameCalls(() -> new RecordingVisitor(true), null);
+		assertSameCalls(MethodDocVisitor::new, null);
+	}
+
+	@Test
+	public void someNodeTypes() {
+		Set<VisitorEnum> names= EnumSet.of(VisitorEnum.SimpleName);
+		assertSameCalls(() -> new RecordingVisitor(false), names);
+		assertSameCalls(() -> new RecordingVisitor(true), names);
+		assertSameCalls(MethodDocVisitor::new, names);
+
+		Set<VisitorEnum> declarations= EnumSet.of(VisitorEnum.TypeDeclaration, VisitorEnum.MethodDeclaration, VisitorEnum.SimpleName, VisitorEnum.TagElement);
+		assertSameCalls(() -> new RecordingVisitor(false), declarations);
+		assertSameCalls(() -> new RecordingVisitor(true), declarations);
+		assertSameCalls(MethodDocVisitor::new, declarations);
+
+		Set<VisitorEnum> docs= EnumSet.of(VisitorEnum.Javadoc, VisitorEnum.TagElement, VisitorEnum.SimpleName);
+		assertSameCalls(() -> new RecordingVisitor(false), docs);
+		assertSameCalls(() -> new RecordingVisitor(true), docs);
+		assertSameCalls(MethodDocVisitor::new, docs);
+	}
+
+	@Test
+	public void severalVisitors() {
+		List<Supplier<RecordingVisitor>> factories= List.of(
+				() -> new RecordingVisitor(false),
+				() -> new RecordingVisitor(true),
+				MethodDocVisitor::new,
+				() -> new RecordingVisitor(false),
+				() -> new RecordingVisitor(true),
+				MethodDocVisitor::new);
+		List<Set<VisitorEnum>> nodeTypes= new ArrayList<>();
+		nodeTypes.add(null);
+		nodeTypes.add(EnumSet.of(VisitorEnum.SimpleName));
+		nodeTypes.add(EnumSet.of(VisitorEnum.SimpleName, VisitorEnum.MethodDeclaration));
+		nodeTypes.add(EnumSet.of(VisitorEnum.Javadoc, VisitorEnum.TagElement));
+		nodeTypes.add(null);
+		nodeTypes.add(EnumSet.of(VisitorEnum.TypeDeclaration, VisitorEnum.SimpleName));
+
+		FusedASTVisitor fused= new FusedASTVisitor();
+		List<RecordingVisitor> fusedVisitors= new ArrayList<>();
+		for (int i= 0; i < factories.size(); i++) {
+			RecordingVisitor visitor= factories.get(i).get();
+			fusedVisitors.add(visitor);
+			if (nodeTypes.get(i) == null) {
+				fused.register(visitor);
+			} else {
+				fused.register(visitor, nodeTypes.get(i));
+			}
+		}
+		fAst.accept(fused);
+
+		for (int i= 0; i < factories.size(); i++) {
+			RecordingVisitor visitor= factories.get(i).get();
+			fAst.accept(visitor);
+			assertEquals(filter(visitor.fCalls, nodeTypes.get(i)), filter(fusedVisitors.get(i).fCalls, nodeTypes.get(i)), "visitor " + i); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void docTagsOnlyIfVisited() {
+		RecordingVisitor withoutDocTags= new RecordingVisitor(false);
+		RecordingVisitor withDocTags= new RecordingVisitor(true);
+		FusedASTVisitor fused= new FusedASTVisitor();
+		fused.register(withoutDocTags, EnumSet.of(VisitorEnum.SimpleName));
+		fused.register(withDocTags, EnumSet.of(VisitorEnum.SimpleName));
+		fAst.accept(fused);
+
+		assertFalse(withoutDocTags.fCalls.stream().anyMatch(call -> ASTNodes.getParent(call.node(), Javadoc.class) != null));
+		assertTrue(withDocTags.fCalls.stream().anyMatch(call -> ASTNodes.getParent(call.node(), Javadoc.class) != null));
+	}
+
+	private static void assertSameCalls(Supplier<RecordingVisitor> factory, Set<VisitorEnum> nodeTypes) {
+		RecordingVisitor separate= factory.get();
+		fAst.accept(separate);
+
+		RecordingVisitor visitor= factory.get();
+		FusedASTVisitor fused= new FusedASTVisitor();
+		if (nodeTypes == null) {
+			fused.register(visitor);
+		} else {
+			fused.register(visitor, nodeTypes);
+		}
+		fAst.accept(fused);
+
+		assertEquals(filter(separate.fCalls, nodeTypes), filter(visitor.fCalls, nodeTypes));
+	}
+
+	/*
+	 * Visitors are only called for the registered node types, except that visitors not registered
+	 * for Javadoc are asked whether they visit doc comments.
+	 */
+	private static List<Call> filter(List<Call> calls, Set<VisitorEnum> nodeTypes) {
+		if (nodeTypes == null)
+			return calls;
+		List<Call> filtered= new ArrayList<>();
+		for (Call call : calls) {
+			if (nodeTypes.contains(VisitorEnum.fromNode(call.node())))
+				filtered.add(call);
+		}
+		return filtered;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -593,16 +595,33 @@ public class VisitorTest {
 	@Test
 	public void modifyTest1() {
 		Set<ASTNode> nodesprocessed = null;
+		List<String> started= new ArrayList<>();
+		List<String> ended= new ArrayList<>();
 		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv = new HelperVisitor<>(nodesprocessed, new ReferenceHolder<>());
 		hv.addMethodInvocation("println",(node, holder) -> {
 			System.out.println("Start "+node.getNodeType() + " :" + node);
+			started.add(node.getName().getIdentifier());
 			return true;
 		});
 		hv.addMethodInvocation((node, holder) -> {
 			System.out.println("End "+node.getNodeType() + " :" + node);
+			ended.add(node.getName().getIdentifier());
 			holder.getHelperVisitor().removeVisitor(VisitorEnum.MethodInvocation);
 		});
 		hv.build(result);
+		// coll.add(var) is the first invocation, after it no callback is called any more
+		assertEquals(List.of(), started);
+		assertEquals(List.of("add"), ended);
+
+		List<String> added= new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String,NodeFound>,String,NodeFound> hv2 = new HelperVisitor<>(nodesprocessed, new ReferenceHolder<>());
+		hv2.addMethodInvocation((node, holder) -> {
+			holder.getHelperVisitor().addMethodInvocation((BiConsumer<MethodInvocation, ReferenceHolder<String, NodeFound>>) (n, h) -> added.add(n.getName().getIdentifier()));
+			return true;
+		});
+		hv2.build(result);
+		// the consumer added when visiting the first invocation is called for it and all following ones
+		assertEquals(List.of("add", "println", "println", "println"), added);
 	}
 
 	@Test
@@ -638,6 +657,48 @@ public class VisitorTest {
 		hv.build(result2);
 	}
 
+	/**
+	 * Show that several HelperVisitors can run in a single traversal of the AST with the same
+	 * result as running them one after the other.
+	 */
+	@Test
+	public void buildAllTest() {
+		ReferenceHolder<VisitorEnum, Integer> expected= new ReferenceHolder<>();
+		ReferenceHolder<ASTNode, Integer> expectedNext= new ReferenceHolder<>();
+		createCountingVisitor(expected).build(result2);
+		createNextVisitor(expectedNext).build(result2);
+
+		ReferenceHolder<VisitorEnum, Integer> counts= new ReferenceHolder<>();
+		ReferenceHolder<ASTNode, Integer> next= new ReferenceHolder<>();
+		HelperVisitor.buildAll(result2, createCountingVisitor(counts), createNextVisitor(next));
+
+		assertEquals(expected, counts);
+		assertEquals(expectedNext, next);
+	}
+
+	private static HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> createCountingVisitor(ReferenceHolder<VisitorEnum, Integer> dataholder) {
+		HelperVisitor<ReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> hv= new HelperVisitor<>(null, dataholder);
+		VisitorEnum.stream().forEach(ve -> {
+			hv.add(ve, (node, holder) -> {
+				holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+				return ve != VisitorEnum.WhileStatement;
+			});
+			hv.addEnd(ve, (node, holder) -> {
+				holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+			});
+		});
+		return hv;
+	}
+
+	private static HelperVisitor<ReferenceHolder<ASTNode, Integer>, ASTNode, Integer> createNextVisitor(ReferenceHolder<ASTNode, Integer> dataholder) {
+		HelperVisitor<ReferenceHolder<ASTNode, Integer>, ASTNode, Integer> hv= new HelperVisitor<>(null, dataholder);
+		hv.addMethodInvocation("next", (node, holder) -> {
+			holder.merge(node, 1, Integer::sum);
+			return true;
+		});
+		return hv;
+	}
+
 	Collection<String> getUsedVariableNames(ASTNode node) {
 		CompilationUnit root= (CompilationUnit) node.getRoot();
 		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
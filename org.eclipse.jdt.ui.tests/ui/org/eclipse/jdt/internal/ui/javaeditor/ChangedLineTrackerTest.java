@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+
+/**
+ * Compares the changed lines tracked by {@link ChangedLineTracker} with the changed lines computed
+ * by comparing the document with the file content.
+ */
+public class ChangedLineTrackerTest {
+
+	private static final int LINES= 20;
+
+	private IProject fProject;
+	private IFile fFile;
+	private ITextFileBuffer fBuffer;
+	private IDocument fDocument;
+	private ChangedLineTracker fTracker;
+
+	@BeforeEach
+	public void setUp() throws CoreException {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ChangedLineTrackerTest");
+		fProject.create(null);
+		fProject.open(null);
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < LINES; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		fFile= fProject.getFile("A.java");
+		fFile.create(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), true, null);
+
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		manager.connect(fFile.getFullPath(), LocationKind.IFILE, null);
+		fBuffer= manager.getTextFileBuffer(fFile.getFullPath(), LocationKind.IFILE);
+		fDocument= fBuffer.getDocument();
+		fTracker= new ChangedLineTracker(fBuffer);
+	}
+
+	@AfterEach
+	public void tearDown() throws CoreException {
+		fTracker.dispose();
+		FileBuffers.getTextFileBufferManager().disconnect(fFile.getFullPath(), LocationKind.IFILE, null);
+		fProject.delete(true, null);
+	}
+
+	@Test
+	public void unchanged() throws Exception {
+		assertEquals(0, fTracker.getChangedLineRegions().length);
+		assertSameRegions();
+	}
+
+	@Test
+	public void insert() throws Exception {
+		replace(3, 2, 0, "inserted ");
+		assertSameRegions();
+		replace(10, 0, 0, "new line\nanother line\n");
+		assertSameRegions();
+		replace(fDocument.getNumberOfLines() - 1, 0, 0, "at the end");
+		assertSameRegions();
+	}
+
+	@Test
+	public void delete() throws Exception {
+		replace(2, 0, fDocument.getLineLength(2), "");
+		assertSameRegions();
+		replace(8, 3, 7, "");
+		assertSameRegions();
+		replace(0, 0, 1, "");
+		assertSameRegions();
+	}
+
+	@Test
+	public void mergedHunks() throws Exception {
+		replace(5, 0, 1, "L");
+		replace(5, 3, 1, "E");
+		assertSameRegions();
+		// overlaps both previous changes
+		replace(5, 0, 6, "changed");
+		assertSameRegions();
+		// spans several lines with changes
+		replace(12, 2, 0, "x");
+		replace(14, 2, 0, "y");
+		int offset= fDocument.getLineOffset(11);
+		fDocument.replace(offset, fDocument.getLineOffset(15) - offset, "replaced\n");
+		assertSameRegions();
+	}
+
+	@Test
+	public void adjacentHunks() throws Exception {
+		replace(4, 0, 0, "a");
+		replace(5, 0, 0, "b");
+		replace(6, 0, 0, "c");
+		assertSameRegions();
+		// directly after the previous change
+		replace(7, 0, 0, "d");
+		replace(7, 1, 0, "e");
+		assertSameRegions();
+		replace(9, 0, 0, "f");
+		assertSameRegions();
+	}
+
+	@Test
+	public void revertToOriginal() throws Exception {
+		replace(3, 0, 4, "LINE");
+		replace(9, 0, 0, "x");
+		assertSameRegions();
+		replace(3, 0, 4, "line");
+		assertSameRegions();
+		replace(9, 0, 1, "");
+		assertTrue(fBuffer.isDirty());
+		assertEquals(0, fTracker.getChangedLineRegions().length);
+		assertSameRegions();
+
+		// a deleted line typed back
+		String line= fDocument.get(fDocument.getLineOffset(6), fDocument.getLineLength(6));
+		replace(6, 0, line.length(), "");
+		assertSameRegions();
+		replace(6, 0, 0, line);
+		assertEquals(0, fTracker.getChangedLineRegions().length);
+		assertSameRegions();
+	}
+
+	@Test
+	public void save() throws Exception {
+		replace(3, 0, 4, "LINE");
+		fBuffer.commit(null, true);
+		assertEquals(0, fTracker.getChangedLineRegions().length);
+		replace(7, 0, 4, "LINE");
+		assertSameRegions();
+	}
+
+	private void replace(int line, int column, int length, String text) throws BadLocationException {
+		fDocument.replace(fDocument.getLineOffset(line) + column, length, text);
+	}
+
+	private void assertSameRegions() throws CoreException {
+		IRegion[] expected= EditorUtility.calculateChangedLineRegions(fBuffer, new NullProgressMonitor());
+		IRegion[] actual= fTracker.getChangedLineRegions();
+		assertNotNull(actual);
+		assertEquals(toString(expected), toString(actual));
+	}
+
+	private static List<String> toString(IRegion[] regions) {
+		List<String> result= new ArrayList<>();
+		for (IRegion region : regions) {
+			result.add(region.getOffset() + ":" + region.getLength());
+		}
+		return result;
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+public class ProblemSeverityRollupTest {
+
+	private IWorkspace fWorkspace;
+	private IProject fProject;
+	private ProblemSeverityRollup fRollup;
+	private IResourceChangeListener fListener;
+
+	@BeforeEach
+	public void setUp() throws CoreException {
+		fWorkspace= ResourcesPlugin.getWorkspace();
+		fProject= fWorkspace.getRoot().getProject("ProblemSeverityRollupTest");
+		fProject.create(null);
+		fProject.open(null);
+		fRollup= new ProblemSeverityRollup(fWorkspace.getRoot());
+		fListener= event -> fRollup.update(event.getDelta());
+		fWorkspace.addResourceChangeListener(fListener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@AfterEach
+	public void tearDown() throws CoreException {
+		fWorkspace.removeResourceChangeListener(fListener);
+		fRollup.reset();
+		fProject.delete(true, null);
+	}
+
+	@Test
+	public void initialCounts() throws Exception {
+		IFile a= createFile("a/A.txt");
+		IFile b= createFile("b/B.txt");
+		addMarker(a, IMarker.SEVERITY_WARNING);
+		addMarker(b, IMarker.SEVERITY_INFO);
+		addMarker(b, IMarker.SEVERITY_ERROR);
+
+		waitUntilReady();
+		assertSeverity(IMarker.SEVERITY_ERROR, fProject, IResource.DEPTH_INFINITE);
+		assertSeverity(-1, fProject, IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_WARNING, a.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_WARNING, a, IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_ERROR, b.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_ERROR, b, IResource.DEPTH_ZERO);
+	}
+
+	@Test
+	public void markerAddedChangedRemoved() throws Exception {
+		IFile a= createFile("a/A.txt");
+		IFile b= createFile("b/c/B.txt");
+		waitUntilReady();
+		assertSeverity(-1, fProject, IResource.DEPTH_INFINITE);
+
+		IMarker warning= addMarker(a, IMarker.SEVERITY_WARNING);
+		assertSeverity(IMarker.SEVERITY_WARNING, a, IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_WARNING, a.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_WARNING, fProject, IResource.DEPTH_INFINITE);
+
+		IMarker error= addMarker(b, IMarker.SEVERITY_ERROR);
+		assertSeverity(IMarker.SEVERITY_ERROR, b.getParent().getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(-1, b.getParent().getParent(), IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_ERROR, fProject, IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_WARNING, a.getParent(), IResource.DEPTH_INFINITE);
+
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		assertSeverity(IMarker.SEVERITY_INFO, b, IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_WARNING, fProject, IResource.DEPTH_INFINITE);
+
+		warning.delete();
+		assertSeverity(-1, a, IResource.DEPTH_ZERO);
+		assertSeverity(-1, a.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_INFO, fProject, IResource.DEPTH_INFINITE);
+
+		error.delete();
+		assertSeverity(-1, fProject, IResource.DEPTH_INFINITE);
+	}
+
+	@Test
+	public void subtreeRemovedAndAdded() throws Exception {
+		IFile a= createFile("a/A.txt");
+		IFile b= createFile("a/b/B.txt");
+		IFile c= createFile("c/C.txt");
+		addMarker(a, IMarker.SEVERITY_WARNING);
+		addMarker(b, IMarker.SEVERITY_ERROR);
+		addMarker(c, IMarker.SEVERITY_INFO);
+		waitUntilReady();
+		assertSeverity(IMarker.SEVERITY_ERROR, fProject, IResource.DEPTH_INFINITE);
+
+		b.getParent().delete(true, null);
+		assertSeverity(IMarker.SEVERITY_WARNING, a.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_WARNING, fProject, IResource.DEPTH_INFINITE);
+
+		a.getParent().delete(true, null);
+		assertSeverity(-1, a.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_INFO, fProject, IResource.DEPTH_INFINITE);
+
+		IFile d= fProject.getFile("d/D.txt");
+		fWorkspace.run(monitor -> {
+			createFile("d/D.txt");
+			addMarker(d, IMarker.SEVERITY_ERROR);
+		}, null);
+		assertSeverity(IMarker.SEVERITY_ERROR, d, IResource.DEPTH_ZERO);
+		assertSeverity(IMarker.SEVERITY_ERROR, d.getParent(), IResource.DEPTH_INFINITE);
+		assertSeverity(IMarker.SEVERITY_ERROR, fProject, IResource.DEPTH_INFINITE);
+	}
+
+	private void waitUntilReady() throws InterruptedException {
+		assertEquals(ProblemSeverityRollup.SEVERITY_UNKNOWN, fRollup.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+		Job.getJobManager().join(fRollup, null);
+	}
+
+	private void assertSeverity(int expected, IResource resource, int depth) throws CoreException {
+		assertEquals(expected, resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth), "markers of " + resource);
+		assertEquals(expected, fRollup.getMaxSeverity(resource, depth), "rollup of " + resource);
+	}
+
+	private IFile createFile(String path) throws CoreException {
+		IFile file= fProject.getFile(path);
+		createFolders(file.getParent());
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		return file;
+	}
+
+	private static void createFolders(IResource resource) throws CoreException {
+		if (resource instanceof IFolder folder && !folder.exists()) {
+			createFolders(folder.getParent());
+			folder.create(true, true, null);
+		}
+	}
+
+	private IMarker addMarker(IResource resource, int severity) throws CoreException {
+		IMarker[] marker= new IMarker[1];
+		fWorkspace.run(monitor -> {
+			marker[0]= resource.createMarker(IMarker.PROBLEM);
+			marker[0].setAttribute(IMarker.SEVERITY, severity);
+		}, null);
+		return marker[0];
+	}
+}
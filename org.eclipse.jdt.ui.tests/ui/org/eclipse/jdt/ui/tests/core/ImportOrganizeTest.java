@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -43,11 +44,17 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
 import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.ui.IEditorPart;
 
+import org.eclipse.ltk.core.refactoring.CheckConditionsOperation;
+import org.eclipse.ltk.core.refactoring.CreateChangeOperation;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IImportDeclaration;
@@ -70,11 +77,14 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.core.CompilationUnit;
 import org.eclipse.jdt.internal.core.CompilationUnitElementInfo;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.fix.ImportsCleanUp;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 
 public class ImportOrganizeTest extends CoreTests {
@@ -4042,6 +4052,97 @@ public class ImportOrganizeTest extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testMultiOrganizeImportsInBatches() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack2= sourceFolder.createPackageFragment("test2", false, null);
+		String str= """
+			package test2;
+			public class Helper {
+			}
+			""";
+		pack2.createCompilationUnit("Helper.java", str, false, null);
+
+		// more units than fit into one batch
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] cus= new ICompilationUnit[120];
+		for (int i= 0; i < cus.length; i++) {
+			String str1= """
+				package test1;
+				import java.io.File;
+				public class C%d {
+				    List<String> list= new ArrayList<>();
+				    Helper helper;
+				}
+				""".formatted(Integer.valueOf(i));
+			cus[i]= pack1.createCompilationUnit("C" + i + ".java", str1, false, null);
+		}
+		setOrganizeImportSettings(new String[0], 99, 99, fJProject1);
+
+		CleanUpRefactoring refactoring= new CleanUpRefactoring();
+		for (ICompilationUnit cu : cus) {
+			refactoring.addCompilationUnit(cu);
+		}
+		Map<String, String> settings= new Hashtable<>();
+		settings.put(ORGANIZE_IMPORTS, CleanUpOptions.TRUE);
+		refactoring.addCleanUp(new ImportsCleanUp(settings, true));
+
+		CreateChangeOperation create= new CreateChangeOperation(new CheckConditionsOperation(refactoring, CheckConditionsOperation.ALL_CONDITIONS), RefactoringStatus.FATAL);
+		PerformChangeOperation perform= new PerformChangeOperation(create);
+		ResourcesPlugin.getWorkspace().run(perform, new NullProgressMonitor());
+		assertTrue(perform.changeExecuted());
+
+		for (ICompilationUnit cu : cus) {
+			assertImports(cu, new String[] { "java.util.ArrayList", "java.util.List", "test2.Helper" });
+		}
+	}
+
+	@Test
+	public void testMultiOrganizeImportsWithOpenChoices() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		String str= """
+			package %s;
+			public class Helper {
+			}
+			""";
+		sourceFolder.createPackageFragment("test2", false, null).createCompilationUnit("Helper.java", str.formatted("test2"), false, null);
+		sourceFolder.createPackageFragment("test3", false, null).createCompilationUnit("Helper.java", str.formatted("test3"), false, null);
+
+		// every other unit references the ambiguous Helper, the edits of the others are computed in parallel
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] cus= new ICompilationUnit[60];
+		for (int i= 0; i < cus.length; i++) {
+			String str1= """
+				package test1;
+				public class C%d {
+				    List<String> list= new ArrayList<>();
+				    %s
+				}
+				""".formatted(Integer.valueOf(i), i % 2 == 0 ? "Helper helper;" : "");
+			cus[i]= pack1.createCompilationUnit("C" + i + ".java", str1, false, null);
+		}
+		setOrganizeImportSettings(new String[0], 99, 99, fJProject1);
+
+		CleanUpRefactoring refactoring= new CleanUpRefactoring();
+		for (ICompilationUnit cu : cus) {
+			refactoring.addCompilationUnit(cu);
+		}
+		Map<String, String> settings= new Hashtable<>();
+		settings.put(ORGANIZE_IMPORTS, CleanUpOptions.TRUE);
+		refactoring.addCleanUp(new ImportsCleanUp(settings, true));
+
+		CreateChangeOperation create= new CreateChangeOperation(new CheckConditionsOperation(refactoring, CheckConditionsOperation.ALL_CONDITIONS), RefactoringStatus.FATAL);
+		PerformChangeOperation perform= new PerformChangeOperation(create);
+		ResourcesPlugin.getWorkspace().run(perform, new NullProgressMonitor());
+		assertTrue(perform.changeExecuted());
+
+		for (ICompilationUnit cu : cus) {
+			assertImports(cu, new String[] { "java.util.ArrayList", "java.util.List" });
+		}
+	}
+
 	private long getElementInfoTimestamp(CompilationUnit icu) throws NoSuchFieldException, IllegalAccessException, JavaModelException {
 		CompilationUnitElementInfo elementInfo= (CompilationUnitElementInfo) icu.getElementInfo();
 
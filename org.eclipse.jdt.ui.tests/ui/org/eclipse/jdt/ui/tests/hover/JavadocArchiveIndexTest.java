@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.tools.DocumentationTool;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocArchiveIndex;
+
+/**
+ * Compares the member documentation read through the {@link JavadocArchiveIndex} with
+ * {@link IMember#getAttachedJavadoc(org.eclipse.core.runtime.IProgressMonitor)}. The Javadoc
+ * archive is generated by the Javadoc tool of the running JDK.
+ */
+public class JavadocArchiveIndexTest {
+
+	private static final String[][] SOURCES= {
+		{ "A.java", """
+			package p;
+			/** Type A. */
+			public class A {
+				/** The field <code>f</code>. */
+				public int f;
+				/** A constant. */
+				public static final String CONSTANT= "c";
+				/** Creates an A. */
+				public A() {
+				}
+				/**
+				 * Creates an A with a value.
+				 * @param value the value
+				 */
+				public A(int value) {
+				}
+				/**
+				 * Returns a value.
+				 * @param i an int
+				 * @param s some strings
+				 * @return the value
+				 */
+				public int foo(int i, String... s) {
+					return i;
+				}
+				/**
+				 * Overloads foo.
+				 * @param d a double
+				 */
+				public void foo(double d) {
+				}
+				/**
+				 * Takes arrays.
+				 * @param a an array
+				 * @param b another array
+				 */
+				public void bar(String[][] a, java.util.List<String>[] b) {
+				}
+				/** A protected method. */
+				protected void baz() {
+				}
+				/** A nested type. */
+				public static class Inner {
+					/** The field of the nested type. */
+					public long g;
+					/** A method of the nested type. */
+					public void m() {
+					}
+				}
+			}
+			""" },
+		{ "B.java", """
+			package p;
+			/**
+			 * Type B, with a longer description.
+			 * <p>It is longer than the others.</p>
+			 */
+			public class B extends A {
+				/**
+				 * Overrides foo.
+				 * @see A#foo(int, String...)
+				 */
+				@Override
+				public int foo(int i, String... s) {
+					return 0;
+				}
+				/**
+				 * Uses a type of this package.
+				 * @param a an A
+				 * @return an inner
+				 * @throws IllegalArgumentException if <code>a</code> is <code>null</code>
+				 */
+				public A.Inner use(A a) {
+					return null;
+				}
+			}
+			""" }
+	};
+
+	@Rule
+	public TemporaryFolder fTemporaryFolder= new TemporaryFolder();
+
+	private IJavaProject fJProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar17(fJProject);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	@Test
+	public void testStoredPages() throws Exception {
+		assertSameAsAttachedJavadoc(ZipEntry.STORED);
+	}
+
+	@Test
+	public void testCompressedPages() throws Exception {
+		assertSameAsAttachedJavadoc(ZipEntry.DEFLATED);
+	}
+
+	private void assertSameAsAttachedJavadoc(int method) throws Exception {
+		DocumentationTool javadoc= ToolProvider.getSystemDocumentationTool();
+		JavaCompiler javac= ToolProvider.getSystemJavaCompiler();
+		assumeNotNull(javadoc, javac);
+
+		File src= fTemporaryFolder.newFolder("src");
+		File pack= new File(src, "p");
+		pack.mkdir();
+		List<String> files= new ArrayList<>();
+		for (String[] source : SOURCES) {
+			File file= new File(pack, source[0]);
+			Files.writeString(file.toPath(), source[1]);
+			files.add(file.getAbsolutePath());
+		}
+		File doc= fTemporaryFolder.newFolder("doc");
+		assertEquals(0, javadoc.run(null, null, null, "-quiet", "-d", doc.getAbsolutePath(), "-sourcepath", src.getAbsolutePath(), "p"));
+		File classes= fTemporaryFolder.newFolder("classes");
+		List<String> arguments= new ArrayList<>(List.of("-d", classes.getAbsolutePath()));
+		arguments.addAll(files);
+		assertEquals(0, javac.run(null, null, null, arguments.toArray(new String[arguments.size()])));
+
+		File docArchive= new File(fTemporaryFolder.getRoot(), "doc.zip");
+		zip(doc, docArchive, method);
+		File library= new File(fTemporaryFolder.getRoot(), "lib.jar");
+		zip(classes, library, ZipEntry.DEFLATED);
+
+		IClasspathAttribute attribute= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, "jar:" + docArchive.toURI() + "!/");
+		JavaProjectHelper.addToClasspath(fJProject, JavaCore.newLibraryEntry(new Path(library.getAbsolutePath()), null, null, null, new IClasspathAttribute[] { attribute }, false));
+		assertNotNull(JavadocArchiveIndex.getIndex(docArchive, true));
+
+		IPackageFragmentRoot root= fJProject.getPackageFragmentRoot(library.getAbsolutePath());
+		IPackageFragment fragment= root.getPackageFragment("p");
+		int compared= 0;
+		for (IOrdinaryClassFile classFile : fragment.getOrdinaryClassFiles()) {
+			IType type= classFile.getType();
+			List<IMember> members= new ArrayList<>();
+			members.addAll(List.of(type.getFields()));
+			members.addAll(List.of(type.getMethods()));
+			for (IMember member : members) {
+				String expected= member.getAttachedJavadoc(null);
+				if (expected == null) {
+					continue;
+				}
+				String name= type.getElementName() + '.' + member.getElementName();
+				String indexed= JavadocArchiveIndex.getIndexedJavadoc(member);
+				assertNotNull(name + " is not in the index", indexed);
+				assertEquals(name, normalize(expected), normalize(indexed));
+				compared++;
+			}
+		}
+		// the documented fields, constructors and methods of A, A.Inner and B
+		assertTrue("compared " + compared, compared >= 10);
+	}
+
+	private static void zip(File dir, File archive, int method) throws IOException {
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(archive))) {
+			addEntries(out, dir, "", method);
+		}
+	}
+
+	private static void addEntries(ZipOutputStream out, File dir, String prefix, int method) throws IOException {
+		for (File file : dir.listFiles()) {
+			if (file.isDirectory()) {
+				addEntries(out, file, prefix + file.getName() + '/', method);
+				continue;
+			}
+			byte[] bytes= Files.readAllBytes(file.toPath());
+			ZipEntry entry= new ZipEntry(prefix + file.getName());
+			entry.setMethod(method);
+			if (method == ZipEntry.STORED) {
+				CRC32 crc= new CRC32();
+				crc.update(bytes);
+				entry.setCrc(crc.getValue());
+				entry.setSize(bytes.length);
+				entry.setCompressedSize(bytes.length);
+			}
+			out.putNextEntry(entry);
+			out.write(bytes);
+			out.closeEntry();
+		}
+	}
+
+	/*
+	 * JDT Core and the index may cut the section at different tags, so only the text is compared.
+	 */
+	private static String normalize(String html) {
+		return html.replaceAll("(?s)<!--.*?-->", "")
+				.replaceAll("<[^>]*>", " ")
+				.replaceAll("\\s+", " ")
+				.trim();
+	}
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.jdt.internal.jarpackager.JarArchiveOutputStream;
+
+/**
+ * Writes archives with {@link JarArchiveOutputStream} and reads them back with {@link JarFile} and
+ * {@link ZipInputStream}.
+ */
+public class JarArchiveOutputStreamTest {
+
+	/** larger than the size up to which the content of an entry is kept in memory */
+	private static final int LARGE_SIZE= 3 * 1024 * 1024 + 17;
+
+	@Rule
+	public TemporaryFolder fTemporaryFolder= new TemporaryFolder();
+
+	@Test
+	public void storedAndDeflatedEntries() throws Exception {
+		File archive= fTemporaryFolder.newFile("entries.jar");
+		Manifest manifest= new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().putValue("Created-By", "JarArchiveOutputStreamTest");
+		byte[] deflated= createContent(10000);
+		byte[] stored= createContent(3000);
+		byte[] storedWithoutCrc= createContent(200);
+		try (JarArchiveOutputStream out= new JarArchiveOutputStream(archive, manifest)) {
+			out.setComment("archive comment");
+			out.putNextEntry(new ZipEntry("p/"));
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("p/Deflated.class"));
+			out.write(deflated);
+			out.closeEntry();
+			out.putNextEntry(createStoredEntry("p/Stored.class", stored));
+			out.write(stored);
+			out.closeEntry();
+			ZipEntry entry= new ZipEntry("p/StoredWithoutCrc.txt");
+			entry.setMethod(ZipEntry.STORED);
+			out.putNextEntry(entry);
+			out.write(storedWithoutCrc);
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("p/Empty.txt"));
+			out.closeEntry();
+		}
+
+		try (JarFile jarFile= new JarFile(archive)) {
+			assertEquals("archive comment", jarFile.getComment());
+			Manifest readManifest= jarFile.getManifest();
+			assertNotNull(readManifest);
+			assertEquals("JarArchiveOutputStreamTest", readManifest.getMainAttributes().getValue("Created-By"));
+			assertTrue(jarFile.getEntry("p/").isDirectory());
+			assertEntry(jarFile, "p/Deflated.class", ZipEntry.DEFLATED, deflated);
+			assertEntry(jarFile, "p/Stored.class", ZipEntry.STORED, stored);
+			assertEntry(jarFile, "p/StoredWithoutCrc.txt", ZipEntry.STORED, storedWithoutCrc);
+			assertEntry(jarFile, "p/Empty.txt", ZipEntry.DEFLATED, new byte[0]);
+			assertEquals(6, jarFile.size());
+		}
+		assertReadSequentially(archive, 6);
+	}
+
+	@Test
+	public void largeEntries() throws Exception {
+		File archive= fTemporaryFolder.newFile("large.jar");
+		byte[] large= createContent(LARGE_SIZE);
+		try (JarArchiveOutputStream out= new JarArchiveOutputStream(archive, null)) {
+			out.putNextEntry(new ZipEntry("small.txt"));
+			out.write("before".getBytes(StandardCharsets.UTF_8));
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("large.bin"));
+			for (int offset= 0; offset < large.length; offset+= 8192) {
+				out.write(large, offset, Math.min(8192, large.length - offset));
+			}
+			out.closeEntry();
+			out.putNextEntry(createStoredEntry("large-stored.bin", large));
+			out.write(large);
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("after.txt"));
+			out.write("after".getBytes(StandardCharsets.UTF_8));
+			out.closeEntry();
+		}
+
+		try (JarFile jarFile= new JarFile(archive)) {
+			assertEntry(jarFile, "small.txt", ZipEntry.DEFLATED, "before".getBytes(StandardCharsets.UTF_8));
+			assertEntry(jarFile, "large.bin", ZipEntry.DEFLATED, large);
+			assertEntry(jarFile, "large-stored.bin", ZipEntry.STORED, large);
+			assertEntry(jarFile, "after.txt", ZipEntry.DEFLATED, "after".getBytes(StandardCharsets.UTF_8));
+		}
+
+		// the sizes of an entry followed by a data descriptor are not in its local header
+		try (ZipInputStream in= new ZipInputStream(new FileInputStream(archive))) {
+			assertEquals("small.txt", in.getNextEntry().getName());
+			ZipEntry entry= in.getNextEntry();
+			assertEquals("large.bin", entry.getName());
+			assertEquals(-1, entry.getSize());
+			assertArrayEquals(large, in.readAllBytes());
+			entry= in.getNextEntry();
+			assertEquals("large-stored.bin", entry.getName());
+			assertEquals(LARGE_SIZE, entry.getSize());
+			assertArrayEquals(large, in.readAllBytes());
+			assertEquals("after.txt", in.getNextEntry().getName());
+			assertNull(in.getNextEntry());
+		}
+	}
+
+	@Test
+	public void copyEntry() throws Exception {
+		File source= fTemporaryFolder.newFile("source.zip");
+		byte[] deflated= createContent(20000);
+		byte[] stored= createContent(500);
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(source))) {
+			out.putNextEntry(new ZipEntry("a/Deflated.class"));
+			out.write(deflated);
+			out.closeEntry();
+			out.putNextEntry(createStoredEntry("a/Stored.txt", stored));
+			out.write(stored);
+			out.closeEntry();
+		}
+
+		File archive= fTemporaryFolder.newFile("copy.jar");
+		try (ZipFile zipFile= new ZipFile(source); JarArchiveOutputStream out= new JarArchiveOutputStream(archive, null)) {
+			ZipEntry deflatedEntry= zipFile.getEntry("a/Deflated.class");
+			assertTrue(out.copyEntry(zipFile, deflatedEntry, new ZipEntry("b/Deflated.class")));
+
+			ZipEntry storedEntry= zipFile.getEntry("a/Stored.txt");
+			ZipEntry target= new ZipEntry("b/Stored.txt");
+			target.setMethod(ZipEntry.STORED);
+			assertTrue(out.copyEntry(zipFile, storedEntry, target));
+
+			// the source entry is not compressed with the target's method, so it is not copied raw
+			assertFalse(out.copyEntry(zipFile, storedEntry, new ZipEntry("b/Recompressed.txt")));
+			out.putNextEntry(new ZipEntry("b/Recompressed.txt"));
+			try (InputStream in= zipFile.getInputStream(storedEntry)) {
+				in.transferTo(out);
+			}
+			out.closeEntry();
+		}
+
+		try (JarFile jarFile= new JarFile(archive)) {
+			assertEntry(jarFile, "b/Deflated.class", ZipEntry.DEFLATED, deflated);
+			assertEntry(jarFile, "b/Stored.txt", ZipEntry.STORED, stored);
+			assertEntry(jarFile, "b/Recompressed.txt", ZipEntry.DEFLATED, stored);
+			try (ZipFile zipFile= new ZipFile(source)) {
+				assertEquals(zipFile.getEntry("a/Deflated.class").getCompressedSize(), jarFile.getEntry("b/Deflated.class").getCompressedSize());
+			}
+		}
+		assertReadSequentially(archive, 3);
+	}
+
+	@Test
+	public void duplicateEntry() throws Exception {
+		File source= fTemporaryFolder.newFile("duplicate-source.zip");
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(source))) {
+			out.putNextEntry(new ZipEntry("a.txt"));
+			out.write(createContent(100));
+			out.closeEntry();
+		}
+
+		File archive= fTemporaryFolder.newFile("duplicate.jar");
+		try (ZipFile zipFile= new ZipFile(source); JarArchiveOutputStream out= new JarArchiveOutputStream(archive, new Manifest())) {
+			out.putNextEntry(new ZipEntry("a.txt"));
+			out.write(createContent(100));
+			out.closeEntry();
+			assertThrows(ZipException.class, () -> out.putNextEntry(new ZipEntry("a.txt")));
+			assertThrows(ZipException.class, () -> out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME)));
+			assertThrows(ZipException.class, () -> out.copyEntry(zipFile, zipFile.getEntry("a.txt"), new ZipEntry("a.txt")));
+		}
+
+		try (JarFile jarFile= new JarFile(archive)) {
+			assertEquals(2, jarFile.size());
+			assertEntry(jarFile, "a.txt", ZipEntry.DEFLATED, createContent(100));
+		}
+	}
+
+	private static byte[] createContent(int size) {
+		byte[] content= new byte[size];
+		for (int i= 0; i < size; i++) {
+			content[i]= (byte) (i % 251 ^ i / 4099);
+		}
+		return content;
+	}
+
+	private static ZipEntry createStoredEntry(String name, byte[] content) {
+		ZipEntry entry= new ZipEntry(name);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(content.length);
+		CRC32 crc= new CRC32();
+		crc.update(content);
+		entry.setCrc(crc.getValue());
+		return entry;
+	}
+
+	private static void assertEntry(ZipFile zipFile, String name, int method, byte[] content) throws IOException {
+		ZipEntry entry= zipFile.getEntry(name);
+		assertNotNull(name, entry);
+		assertEquals(name, method, entry.getMethod());
+		assertEquals(name, content.length, entry.getSize());
+		CRC32 crc= new CRC32();
+		crc.update(content);
+		assertEquals(name, crc.getValue(), entry.getCrc());
+		try (InputStream in= zipFile.getInputStream(entry)) {
+			assertArrayEquals(name, content, in.readAllBytes());
+		}
+	}
+
+	/*
+	 * Reading the local headers and data descriptors in order also checks them against the content.
+	 */
+	private static void assertReadSequentially(File archive, int entries) throws IOException {
+		int count= 0;
+		try (ZipInputStream in= new ZipInputStream(new FileInputStream(archive))) {
+			while (in.getNextEntry() != null) {
+				in.readAllBytes();
+				count++;
+			}
+		}
+		assertEquals(entries, count);
+	}
+}
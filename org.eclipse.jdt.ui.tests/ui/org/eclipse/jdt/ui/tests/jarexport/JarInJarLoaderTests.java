@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackagerfat.FatJarRsrcUrlBuilder;
+
+/**
+ * Starts runnable JARs with the Jar-in-Jar loader. Nested JARs that are stored are loaded in place
+ * by the <code>NestedJarClassLoader</code>, compressed ones through "rsrc" URLs; classes and
+ * resources have to be found the same way in both cases.
+ */
+public class JarInJarLoaderTests {
+
+	private static final String MAIN= """
+		package app;
+		import java.io.BufferedReader;
+		import java.io.InputStreamReader;
+		import java.util.Collections;
+		public class Main {
+			public static void main(String[] args) throws Exception {
+				ClassLoader loader= Thread.currentThread().getContextClassLoader();
+				System.out.println(loader.getClass().getName());
+				Class<?> lib= Class.forName("lib.Lib");
+				System.out.println(lib.getClassLoader() == loader);
+				System.out.println(lib.getMethod("value").invoke(null));
+				System.out.println(lib.getPackage().getImplementationVersion());
+				System.out.println(loader.getResource("lib/resource.txt"));
+				try (BufferedReader reader= new BufferedReader(new InputStreamReader(loader.getResourceAsStream("lib/resource.txt"), "UTF-8"))) {
+					System.out.println(reader.readLine());
+				}
+				System.out.println(Collections.list(loader.getResources("shared.txt")));
+			}
+		}
+		""";
+
+	private static final String LIB= """
+		package lib;
+		public class Lib {
+			public static String value() {
+				return "value";
+			}
+		}
+		""";
+
+	private static final String EXPECTED_OUTPUT= """
+		true
+		value
+		1.2
+		jar:rsrc:lib.jar!/lib/resource.txt
+		resource in lib
+		[rsrc:shared.txt, jar:rsrc:lib.jar!/shared.txt, jar:rsrc:lib2.jar!/shared.txt]
+		""";
+
+	private File fDirectory;
+
+	private File fApp;
+
+	private File[] fLibraries;
+
+	@Before
+	public void setUp() throws Exception {
+		fDirectory= Files.createTempDirectory("jarinjar").toFile();
+		String[] classpath= { JavaProjectHelper.findRtJar(JavaProjectHelper.RT_STUBS_18)[0].toOSString() };
+		fApp= new File(fDirectory, "app.jar");
+		JarUtil.createJar(new String[] { "app/Main.java", MAIN }, new String[] { "shared.txt", "app" }, fApp.getPath(), classpath, "1.8", null, null);
+		File lib= new File(fDirectory, "lib.jar");
+		String manifest= "Manifest-Version: 1.0\n\nName: lib/\nImplementation-Version: 1.2\n\n";
+		JarUtil.createJar(new String[] { "lib/Lib.java", LIB },
+				new String[] { "lib/resource.txt", "resource in lib", "shared.txt", "lib", "META-INF/MANIFEST.MF", manifest },
+				lib.getPath(), classpath, "1.8", null, null);
+		File lib2= new File(fDirectory, "lib2.jar");
+		JarUtil.createJar(null, new String[] { "shared.txt", "lib2" }, lib2.getPath(), classpath, "1.8", null, null);
+		fLibraries= new File[] { lib, lib2 };
+	}
+
+	@After
+	public void tearDown() {
+		JarUtil.delete(fDirectory);
+	}
+
+	@Test
+	public void storedLibraries() throws Exception {
+		File jar= new File(fDirectory, "stored.jar");
+		writeRunnableJar(jar, true);
+		assertEquals("org.eclipse.jdt.internal.jarinjarloader.NestedJarClassLoader\n" + EXPECTED_OUTPUT, run(jar));
+	}
+
+	@Test
+	public void compressedLibraries() throws Exception {
+		File jar= new File(fDirectory, "compressed.jar");
+		writeRunnableJar(jar, false);
+		assertEquals("java.net.URLClassLoader\n" + EXPECTED_OUTPUT, run(jar));
+	}
+
+	private void writeRunnableJar(File file, boolean storeLibraries) throws IOException {
+		Manifest manifest= new Manifest();
+		Attributes attributes= manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.put(Attributes.Name.MAIN_CLASS, "org.eclipse.jdt.internal.jarinjarloader.JarRsrcLoader");
+		attributes.putValue("Rsrc-Main-Class", "app.Main");
+		StringBuilder rsrcClassPath= new StringBuilder("./");
+		for (File library : fLibraries) {
+			rsrcClassPath.append(' ').append(library.getName());
+		}
+		attributes.putValue("Rsrc-Class-Path", rsrcClassPath.toString());
+		try (JarOutputStream out= new JarOutputStream(new FileOutputStream(file), manifest)) {
+			copyEntries(JavaPlugin.getDefault().getBundle().getEntry(FatJarRsrcUrlBuilder.JAR_RSRC_LOADER_ZIP).openStream(), out);
+			copyEntries(new FileInputStream(fApp), out);
+			for (File library : fLibraries) {
+				byte[] content= Files.readAllBytes(library.toPath());
+				JarEntry entry= new JarEntry(library.getName());
+				if (storeLibraries) {
+					CRC32 crc= new CRC32();
+					crc.update(content);
+					entry.setMethod(ZipEntry.STORED);
+					entry.setSize(content.length);
+					entry.setCrc(crc.getValue());
+				}
+				out.putNextEntry(entry);
+				out.write(content);
+				out.closeEntry();
+			}
+		}
+	}
+
+	private static void copyEntries(InputStream in, JarOutputStream out) throws IOException {
+		try (ZipInputStream zis= new ZipInputStream(in)) {
+			ZipEntry zipEntry;
+			while ((zipEntry= zis.getNextEntry()) != null) {
+				if (!zipEntry.isDirectory() && !zipEntry.getName().startsWith("META-INF/")) {
+					out.putNextEntry(new JarEntry(zipEntry.getName()));
+					out.write(zis.readAllBytes());
+					out.closeEntry();
+				}
+			}
+		}
+	}
+
+	private static String run(File jar) throws Exception {
+		String java= new File(System.getProperty("java.home"), "bin/java").getPath();
+		Process process= new ProcessBuilder(java, "-jar", jar.getPath()).redirectErrorStream(true).start();
+		String output= new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+		assertEquals(output, 0, process.waitFor());
+		return output.replace("\r\n", "\n");
+	}
+}
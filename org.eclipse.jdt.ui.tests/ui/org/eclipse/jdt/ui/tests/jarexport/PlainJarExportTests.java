@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,6 +41,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.ui.IWorkbenchWindow;
@@ -52,6 +55,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 
 import org.eclipse.jdt.ui.jarpackager.IJarExportRunnable;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
+import org.eclipse.jdt.ui.jarpackager.JarWriter3;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
@@ -150,6 +154,83 @@ public class PlainJarExportTests {
 		assertEquals(expected.toString(), entries.toString());
 	}
 
+	@Test
+	public void exportIncremental() throws Exception {
+		JarPackageData data= createJarPackageData();
+
+		data.setElements(new Object[] { fCU });
+		data.setExportClassFiles(true);
+		data.setIncremental(true);
+
+		IStatus status= export(data);
+		assertTrue(getInfo(status), getInfo(status).contains("0 entries reused, 3 entries rewritten"));
+
+		status= export(data);
+		assertTrue(getInfo(status), getInfo(status).contains("3 entries reused, 0 entries rewritten"));
+
+		ArrayList<String> entries;
+		try (ZipFile jar= JarPackagerUtil.createZipFile(data.getJarLocation())) {
+			entries= getSortedEntries(jar);
+			assertTrue(jar.getInputStream(jar.getEntry("org/eclipse/jdt/ui/test/Main.class")).readAllBytes().length > 0);
+		}
+		List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Main$1.class\n", "org/eclipse/jdt/ui/test/Main$MainInner.class\n", "org/eclipse/jdt/ui/test/Main.class\n");
+		assertEquals(expected.toString(), entries.toString());
+	}
+
+	@Test
+	public void exportIncrementalWithChangedAndDeletedFiles() throws Exception {
+		IFolder folder= fProject.getProject().getFolder("resources");
+		folder.create(true, true, null);
+		IFile unchanged= createFile(folder, "unchanged.txt", "unchanged");
+		IFile changed= createFile(folder, "changed.txt", "before");
+		IFile deleted= createFile(folder, "deleted.txt", "deleted");
+
+		JarPackageData data= createJarPackageData();
+		data.setElements(new Object[] { unchanged, changed, deleted });
+		data.setExportClassFiles(true);
+		data.setIncremental(true);
+
+		JarWriter3 writer= write(data, unchanged, changed, deleted);
+		assertEquals(0, writer.getReusedEntryCount());
+		assertEquals(3, writer.getRewrittenEntryCount());
+
+		// same size and modification time, only the content differs
+		long timeStamp= changed.getLocalTimeStamp();
+		changed.setContents(new ByteArrayInputStream("after!".getBytes()), true, false, null);
+		changed.setLocalTimeStamp(timeStamp);
+		deleted.delete(true, null);
+		data.setElements(new Object[] { unchanged, changed });
+
+		writer= write(data, unchanged, changed);
+		assertEquals(1, writer.getReusedEntryCount());
+		assertEquals(1, writer.getRewrittenEntryCount());
+
+		try (ZipFile jar= JarPackagerUtil.createZipFile(data.getJarLocation())) {
+			List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "changed.txt\n", "unchanged.txt\n");
+			assertEquals(expected.toString(), getSortedEntries(jar).toString());
+			assertEquals("after!", new String(jar.getInputStream(jar.getEntry("changed.txt")).readAllBytes()));
+			assertEquals("unchanged", new String(jar.getInputStream(jar.getEntry("unchanged.txt")).readAllBytes()));
+		}
+	}
+
+	private static IFile createFile(IFolder folder, String name, String content) throws CoreException {
+		IFile file= folder.getFile(name);
+		file.create(new ByteArrayInputStream(content.getBytes()), true, null);
+		return file;
+	}
+
+	private static JarWriter3 write(JarPackageData data, IFile... files) throws CoreException {
+		JarWriter3 writer= new JarWriter3(data, null);
+		try {
+			for (IFile file : files) {
+				writer.write(file, file.getProjectRelativePath().removeFirstSegments(1));
+			}
+		} finally {
+			writer.close();
+		}
+		return writer;
+	}
+
 	private JarPackageData createJarPackageData() {
 		JarPackageData data= new JarPackageData();
 		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar"));
@@ -163,6 +244,11 @@ public class PlainJarExportTests {
 	}
 
 	private static ZipFile createArchive(JarPackageData data) throws Exception, CoreException {
+		export(data);
+		return JarPackagerUtil.createZipFile(data.getJarLocation());
+	}
+
+	private static IStatus export(JarPackageData data) throws Exception, CoreException {
 		IWorkbenchWindow window= PlatformUI.getWorkbench().getActiveWorkbenchWindow();
 
 		IJarExportRunnable op= data.createJarExportRunnable(window.getShell());
@@ -171,8 +257,16 @@ public class PlainJarExportTests {
 		IStatus status= op.getStatus();
 		if (status.getSeverity() == IStatus.ERROR)
 			throw new CoreException(status);
+		return status;
+	}
 
-		return JarPackagerUtil.createZipFile(data.getJarLocation());
+	private static String getInfo(IStatus status) {
+		StringBuilder buf= new StringBuilder();
+		for (IStatus child : status.getChildren()) {
+			if (child.getSeverity() == IStatus.INFO)
+				buf.append(child.getMessage()).append('\n');
+		}
+		return buf.toString();
 	}
 
 	private static ArrayList<String> getSortedEntries(ZipFile jar) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,10 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jface.text.Document;
+
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
 
@@ -70,8 +74,10 @@ import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.core.rules.Java13ProjectTestSetup;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.actions.IndentAction;
 import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.Java50CleanUp;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
@@ -29550,6 +29556,41 @@ public class CleanUpTest extends CleanUpTestCase {
 		assertRefactoringResultAsExpected(new ICompilationUnit[] {cu1}, new String[] {expected1}, null);
 	}
 
+	@Test
+	public void testCorrectIndentationMultipleUnits() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		// more units than the clean up indents together
+		ICompilationUnit[] units= new ICompilationUnit[60];
+		String[] expected= new String[units.length];
+		for (int i= 0; i < units.length; i++) {
+			String sample= """
+				package test1;
+				   public class E%d {
+				/**
+				      * Javadoc
+				 */
+				  public void foo(int i) {
+				        if (i > %d) {
+				  i++;
+				          }
+				}
+				    }
+				""".formatted(i, i);
+			units[i]= pack1.createCompilationUnit("E" + i + ".java", sample, false, null);
+
+			Document document= new Document(sample);
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			TextEdit edit= IndentAction.indent(document, fJProject1);
+			edit.apply(document);
+			expected[i]= document.get();
+			assertNotEquals(sample, expected[i]);
+		}
+
+		enable(CleanUpConstants.FORMAT_CORRECT_INDENTATION);
+
+		assertRefactoringResultAsExpected(units, expected, null);
+	}
+
 	@Test
 	public void testSortMembers01() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
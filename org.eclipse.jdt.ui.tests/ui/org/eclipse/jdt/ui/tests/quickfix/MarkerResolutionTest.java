@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.quickfix;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -25,9 +30,12 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.TestOptions;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -40,20 +48,32 @@ import org.eclipse.ui.IEditorPart;
 
 import org.eclipse.ui.texteditor.ITextEditor;
 
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
+
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaModelMarker;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.MultiFixTarget;
+
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.examples.AddTestMarkersAction;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.UnusedCodeCleanUpCore;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.correction.CorrectionMarkerResolutionGenerator.CorrectionMarkerResolution;
 import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionAssistant;
 import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
 
@@ -237,4 +257,58 @@ public class MarkerResolutionTest extends QuickFixTest {
 		}
 	}
 
+	@Test
+	public void testMultiFixInParallel() throws Exception {
+		fJProject1.setOption(JavaCore.COMPILER_PB_UNUSED_IMPORT, JavaCore.WARNING);
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		// enough units to parse them in several batches
+		int count= 50;
+		for (int i= 0; i < count; i++) {
+			String str= """
+				package test1;
+				import java.util.List;
+				import java.util.Map;
+				public class E%d {
+				    Map<String, String> map;
+				}
+				""".formatted(Integer.valueOf(i));
+			pack1.createCompilationUnit("E" + i + ".java", str, false, null);
+		}
+		fJProject1.getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		IMarker[] markers= pack1.getResource().findMarkers(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+		assertEquals(count, markers.length);
+		MultiFixTarget[] targets= CorrectionMarkerResolution.getCleanUpTargets(markers);
+		assertEquals(count, targets.length);
+
+		Map<String, String> serial= computeMultiFix(targets, false);
+		Map<String, String> parallel= computeMultiFix(targets, true);
+
+		assertEquals(count, serial.size());
+		for (String preview : serial.values()) {
+			assertFalse(preview, preview.contains("java.util.List"));
+		}
+		assertEquals(serial, parallel);
+	}
+
+	private static Map<String, String> computeMultiFix(MultiFixTarget[] targets, boolean parallel) throws CoreException {
+		CleanUpRefactoring refactoring= new CleanUpRefactoring();
+		for (MultiFixTarget target : targets) {
+			refactoring.addCleanUpTarget(target);
+		}
+		Map<String, String> options= new Hashtable<>();
+		options.put(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS, CleanUpOptions.TRUE);
+		refactoring.addCleanUp(new UnusedCodeCleanUpCore(options));
+		refactoring.setParallel(parallel);
+
+		refactoring.checkAllConditions(new NullProgressMonitor());
+		CompositeChange change= (CompositeChange) refactoring.createChange(null);
+		Map<String, String> previews= new HashMap<>();
+		for (Change child : change.getChildren()) {
+			TextEditBasedChange textChange= (TextEditBasedChange) child;
+			previews.put(((ICompilationUnit) textChange.getModifiedElement()).getElementName(), textChange.getPreviewContent(null));
+		}
+		return previews;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.search;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
 import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -44,7 +49,10 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertyKeyHyperlink;
+import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertyKeyHyperlink.KeyReference;
 import org.eclipse.jdt.internal.ui.refactoring.nls.search.NLSSearchQuery;
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.PropertiesKeyIndex;
 
 public class NLSSearchTest {
 
@@ -207,6 +215,49 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertHasUnusedKey(accessor, propertiesFile, "Client_s1", propertiesFile, false);
 	}
 
+	@Test
+	public void testMultipleBundles() throws Exception {
+		String accessorSource= """
+			package %s;
+			import org.eclipse.osgi.util.NLS;
+			public class Accessor extends NLS {
+			
+			    public static String Client_s1;
+			
+			    private Accessor() {}
+			    private static final String BUNDLE_NAME = "%s.Accessor"; //$NON-NLS-1$
+			    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}
+			}
+			""";
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit accessor1= pack1.createCompilationUnit("Accessor.java", accessorSource.formatted("test1", "test1"), false, null);
+		String str1= """
+			package test1;
+			public class Client {
+			    public String s1= Accessor.Client_s1;
+			}
+			""";
+		pack1.createCompilationUnit("Client.java", str1, false, null);
+		IFile propertiesFile1= write((IFolder)pack1.getCorrespondingResource(), "", "Accessor.properties");
+
+		IPackageFragment pack2= fSourceFolder.createPackageFragment("test2", false, null);
+		ICompilationUnit accessor2= pack2.createCompilationUnit("Accessor.java", accessorSource.formatted("test2", "test2"), false, null);
+		String str2= """
+			package test2;
+			public class Client {
+			}
+			""";
+		pack2.createCompilationUnit("Client.java", str2, false, null);
+		String str3= """
+			Client_s1=foo
+			""";
+		IFile propertiesFile2= write((IFolder)pack2.getCorrespondingResource(), str3, "Accessor.properties");
+
+		// undefined key in test1, unused key in test2
+		NLSSearchTestHelper.assertNumberOfProblems(new ICompilationUnit[] {accessor1, accessor2}, new IFile[] {propertiesFile1, propertiesFile2}, 4);
+	}
+
 	@Test
 	public void test05() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
@@ -721,4 +772,181 @@ public class NLSSearchTest {
 		NLSSearchTestHelper.assertNumberOfProblems(accessor, propertiesFile, 1);
 	}
 
+	@Test
+	public void testKeyReferencesOfAccessorFields() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
+		String str= """
+			package test;
+			import org.eclipse.osgi.util.NLS;
+			public class Accessor extends NLS {
+			    public static String key;
+			    private Accessor() {}
+			    private static final String BUNDLE_NAME = "test.Accessor"; //$NON-NLS-1$
+			    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}
+			}
+			""";
+		pack1.createCompilationUnit("Accessor.java", str, false, null);
+
+		String str1= """
+			package test;
+			public class Other {
+			    public String key() { return "key"; }
+			}
+			""";
+		pack1.createCompilationUnit("Other.java", str1, false, null);
+
+		String str2= """
+			package test;
+			import static test.Accessor.key;
+			public class Client {
+			    String qualified= Accessor.key;
+			    String imported= key;
+			    String lookalike= new Other().key();
+			}
+			""";
+		ICompilationUnit client= pack1.createCompilationUnit("Client.java", str2, false, null);
+
+		IFile propertiesFile= write((IFolder)pack1.getCorrespondingResource(), "key=value\n", "Accessor.properties");
+
+		List<KeyReference> references= PropertyKeyHyperlink.search("key", propertiesFile, true, null);
+		IFile file= (IFile) client.getResource();
+		assertReference(references, file, str2.indexOf("test.Accessor.key") + "test.Accessor.".length());
+		assertReference(references, file, str2.indexOf("= Accessor.key") + "= Accessor.".length());
+		assertReference(references, file, str2.indexOf("= key;") + "= ".length());
+		assertNoReference(references, file, str2.indexOf(".key()") + 1);
+		assertEquals(3, countReferences(references, file));
+	}
+
+	@Test
+	public void testKeyReferencesOfStringLiterals() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
+		String str= """
+			package test;
+			import java.util.ResourceBundle;
+			public class Client {
+			    String text= ResourceBundle.getBundle("test.messages").getString("greeting.text"); //$NON-NLS-1$ //$NON-NLS-2$
+			    String other= ResourceBundle.getBundle("test.messages").getString("greeting.text.other"); //$NON-NLS-1$ //$NON-NLS-2$
+			    Object lookalike= greeting();
+			    Object greeting() { return null; }
+			}
+			""";
+		ICompilationUnit client= pack1.createCompilationUnit("Client.java", str, false, null);
+
+		IFile propertiesFile= write((IFolder)pack1.getCorrespondingResource(), "greeting.text=Hello\ngreeting.text.other=Bye\n", "messages.properties");
+
+		List<KeyReference> references= PropertyKeyHyperlink.search("greeting.text", propertiesFile, true, null);
+		IFile file= (IFile) client.getResource();
+		assertReference(references, file, str.indexOf("\"greeting.text\"") + 1);
+		assertEquals(1, countReferences(references, file));
+	}
+
+	@Test
+	public void testKeyReferencesOfAccessorFieldsFromIndex() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
+		String str= """
+			package test;
+			import org.eclipse.osgi.util.NLS;
+			public class Accessor extends NLS {
+			    public static String key;
+			    private Accessor() {}
+			    private static final String BUNDLE_NAME = "test.Accessor"; //$NON-NLS-1$
+			    static {NLS.initializeMessages(BUNDLE_NAME, Accessor.class);}
+			}
+			""";
+		pack1.createCompilationUnit("Accessor.java", str, false, null);
+
+		String str1= """
+			package test;
+			public class Client {
+			    String qualified= Accessor.key;
+			}
+			""";
+		ICompilationUnit client= pack1.createCompilationUnit("Client.java", str1, false, null);
+
+		String str2= """
+			package test;
+			public class Unrelated {
+			    String text= "value";
+			}
+			""";
+		pack1.createCompilationUnit("Unrelated.java", str2, false, null);
+
+		IFile propertiesFile= write((IFolder)pack1.getCorrespondingResource(), "key=value\n", "Accessor.properties");
+		waitForIndex("key");
+
+		List<KeyReference> references= PropertyKeyHyperlink.search("key", propertiesFile, true, null);
+		IFile file= (IFile) client.getResource();
+		assertReference(references, file, str1.indexOf("Accessor.key") + "Accessor.".length());
+		assertEquals(1, countReferences(references, file));
+		assertEquals(1, references.size());
+	}
+
+	@Test
+	public void testKeyReferencesOfStringLiteralsFromIndex() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test", false, null);
+		String str= """
+			package test;
+			import java.util.ResourceBundle;
+			public class Client {
+			    String text= ResourceBundle.getBundle("test.messages").getString("greeting.text"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			""";
+		ICompilationUnit client= pack1.createCompilationUnit("Client.java", str, false, null);
+
+		String str1= """
+			package test;
+			public class Other {
+			    // the key "greeting.text" is used by Client
+			    String text= "greeting";
+			}
+			""";
+		ICompilationUnit other= pack1.createCompilationUnit("Other.java", str1, false, null);
+
+		IFile propertiesFile= write((IFolder)pack1.getCorrespondingResource(), "greeting.text=Hello\n", "messages.properties");
+		waitForIndex("greeting.text");
+
+		List<KeyReference> references= PropertyKeyHyperlink.search("greeting.text", propertiesFile, true, null);
+		IFile file= (IFile) client.getResource();
+		assertReference(references, file, str.indexOf("\"greeting.text\"") + 1);
+		assertEquals(1, countReferences(references, file));
+		IFile otherFile= (IFile) other.getResource();
+		assertReference(references, otherFile, str1.indexOf("\"greeting.text\"") + 1);
+		assertEquals(1, countReferences(references, otherFile));
+	}
+
+	private static void waitForIndex(String key) throws InterruptedException {
+		long end= System.currentTimeMillis() + 10000;
+		while (PropertiesKeyIndex.getDefault().getFilesWithLiteral(key) == null) {
+			if (System.currentTimeMillis() > end)
+				fail("index not built");
+			Thread.sleep(20);
+		}
+	}
+
+	private static void assertReference(List<KeyReference> references, IFile file, int offset) {
+		if (!containsReference(references, file, offset))
+			fail("no reference at " + offset);
+	}
+
+	private static void assertNoReference(List<KeyReference> references, IFile file, int offset) {
+		assertFalse("reference at " + offset, containsReference(references, file, offset));
+	}
+
+	private static int countReferences(List<KeyReference> references, IFile file) {
+		int count= 0;
+		for (KeyReference reference : references) {
+			if (file.equals(reference.getResource()))
+				count++;
+		}
+		return count;
+	}
+
+	private static boolean containsReference(List<KeyReference> references, IFile file, int offset) {
+		for (KeyReference reference : references) {
+			if (file.equals(reference.getResource()) && reference.getOffset() <= offset && offset < reference.getOffset() + reference.getLength())
+				return true;
+		}
+		return false;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2013 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,16 @@ public class NLSSearchTestHelper {
 		assertNumberResults(searchProblems(accessor, propertiesFile), expected);
 	}
 
+	public static void assertNumberOfProblems(ICompilationUnit[] accessors, IFile[] propertiesFiles, int expected) {
+		IType[] types= new IType[accessors.length];
+		for (int i= 0; i < accessors.length; i++) {
+			types[i]= accessors[i].getType("Accessor");
+		}
+		NLSSearchQuery query= new NLSSearchQuery(types, propertiesFiles, SearchEngine.createWorkspaceScope(), ""); //$NON-NLS-1$
+		NewSearchUI.runQueryInForeground(new BusyIndicatorRunnableContext(), query);
+		assertNumberResults((NLSSearchResult)query.getSearchResult(), expected);
+	}
+
 	public static void assertHasUndefinedKey(ICompilationUnit accessor, IFile propertiesFile, String key, IFile file, boolean isAccessor) throws CoreException {
 		assertResultHasUndefinedKey(key, file, isAccessor, searchProblems(accessor, propertiesFile));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.IBinding;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -50,6 +60,12 @@ public class ASTBatchParser {
 		else                        MAX_AT_ONCE=  25;
 	}
 
+	/**
+	 * Smallest number of compilation units parsed together when parsing in parallel, smaller
+	 * batches would resolve the same bindings over and over again.
+	 */
+	private static final int MIN_PARALLEL_BATCH= 20;
+
 	/**
 	 * Creates ASTs for each compilation unit in <code>units</code>.
 	 * <p>
@@ -100,6 +116,139 @@ public class ASTBatchParser {
 		}
 	}
 
+	/**
+	 * Creates ASTs for each compilation unit in <code>units</code> like
+	 * {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}, but
+	 * parses several subsets concurrently, each with its own parser. The subsets are made
+	 * smaller so that the number of ASTs alive at the same time stays about the same as in
+	 * the sequential case.
+	 * <p>
+	 * Only the parsing is done on other threads. <code>ASTRequestor.acceptAST</code> and the
+	 * progress monitor are only called from the calling thread, one AST after the other.
+	 * </p>
+	 *
+	 * @param compilationUnits the compilation units to create ASTs for
+	 * @param bindingKeys the binding keys to create bindings for, the compilation units are
+	 *   parsed sequentially if there are any
+	 * @param requestor the AST requestor that collects abstract syntax trees and bindings
+	 * @param monitor the progress monitor used to report progress and request cancelation,
+	 *   or <code>null</code> if none
+	 * @since 3.36
+	 */
+	public final void createASTsInParallel(ICompilationUnit[] compilationUnits, String[] bindingKeys, ASTRequestor requestor, IProgressMonitor monitor) {
+		if (compilationUnits.length == 0)
+			return;
+
+		int threads= Runtime.getRuntime().availableProcessors();
+		int batchSize= Math.max(MAX_AT_ONCE / threads, Math.min(MAX_AT_ONCE, MIN_PARALLEL_BATCH));
+		List<ICompilationUnit[]> batches= new ArrayList<>();
+		for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
+			for (int cursor= 0; cursor < units.length; cursor+= batchSize) {
+				batches.add(Arrays.copyOfRange(units, cursor, Math.min(cursor + batchSize, units.length)));
+			}
+		}
+		if (batches.size() == 1 || threads == 1 || bindingKeys.length > 0) {
+			createASTs(compilationUnits, bindingKeys, requestor, monitor);
+			return;
+		}
+
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		monitor.beginTask("", compilationUnits.length); //$NON-NLS-1$
+		threads= Math.min(threads, batches.size());
+		// the parsers hand their ASTs over to the calling thread, they wait while it is behind
+		BlockingQueue<ParsedUnit> parsed= new ArrayBlockingQueue<>(threads);
+		AtomicBoolean canceled= new AtomicBoolean();
+		IProgressMonitor parserMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return canceled.get();
+			}
+		};
+		ExecutorService executor= Executors.newFixedThreadPool(threads);
+		boolean completed= false;
+		try {
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			for (ICompilationUnit[] units : batches) {
+				futures.add(executor.submit(() -> {
+					try {
+						createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, new ASTRequestor() {
+							@Override
+							public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+								handOver(parsed, new ParsedUnit(source, ast));
+							}
+						}, parserMonitor);
+					} finally {
+						handOver(parsed, ParsedUnit.END);
+					}
+					return null;
+				}));
+			}
+
+			int running= batches.size();
+			while (running > 0) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				ParsedUnit unit= parsed.poll(100, TimeUnit.MILLISECONDS);
+				if (unit == ParsedUnit.END) {
+					running--;
+				} else if (unit != null) {
+					monitor.worked(1);
+					requestor.acceptAST(unit.fSource, unit.fAST);
+				}
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			completed= true;
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			if (cause instanceof Error error)
+				throw error;
+			throw new IllegalStateException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			if (!completed) {
+				canceled.set(true);
+				executor.shutdownNow();
+			}
+			executor.close();
+			monitor.done();
+		}
+	}
+
+	/**
+	 * An AST created by a parser thread for the calling thread.
+	 */
+	private static final class ParsedUnit {
+
+		/** marks the end of the ASTs of one parser thread */
+		static final ParsedUnit END= new ParsedUnit(null, null);
+
+		final ICompilationUnit fSource;
+		final CompilationUnit fAST;
+
+		ParsedUnit(ICompilationUnit source, CompilationUnit ast) {
+			fSource= source;
+			fAST= ast;
+		}
+	}
+
+	private static void handOver(BlockingQueue<ParsedUnit> parsed, ParsedUnit unit) {
+		try {
+			parsed.put(unit);
+		} catch (InterruptedException e) {
+			// the calling thread gave up
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
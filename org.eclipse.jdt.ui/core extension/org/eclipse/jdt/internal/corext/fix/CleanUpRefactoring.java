@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,8 +87,11 @@ import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.IFusedFix;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -407,7 +410,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					};
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						if (fParallel) {
+							parser.createASTsInParallel(units, new String[0], requestor, cuMonitor);
+						} else {
+							parser.createASTs(units, new String[0], requestor, cuMonitor);
+						}
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -525,6 +532,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	private static final IFusedFix NO_FIX= () -> null;
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -533,6 +542,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private boolean fParallel;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -548,6 +559,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets whether the compilation units of a project are parsed concurrently, in several
+	 * smaller batches. The fixes are still computed one compilation unit after the other, on
+	 * the thread running the refactoring.
+	 *
+	 * @param parallel <code>true</code> to parse compilation units in parallel
+	 */
+	public void setParallel(boolean parallel) {
+		fParallel= parallel;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -782,6 +804,30 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		if (cleanUps.length == 0)
 			return null;
 
+		int end= 1;
+		while (end < cleanUps.length && (context.getAST() == null || !cleanUps[end].getRequirements().requiresFreshAST()))
+			end++;
+
+		IFusedFix[] fusedFixes= new IFusedFix[end];
+		long[] fusedTimes= new long[end];
+		FusedASTVisitor traversal= null;
+		CompilationUnit ast= context.getAST();
+		if (ast != null && !(context instanceof MultiFixContext)) {
+			// clean ups that support it find what to fix in a single traversal of the AST
+			traversal= new FusedASTVisitor(slowCleanUps != null);
+			for (int j= 0; j < end; j++) {
+				if (cleanUps[j] instanceof IFusedCleanUp) {
+					long timeBefore= System.currentTimeMillis();
+					traversal.beginGroup(cleanUps[j]);
+					IFusedFix fusedFix= ((IFusedCleanUp) cleanUps[j]).prepareFix(ast, traversal);
+					fusedFixes[j]= fusedFix != null ? fusedFix : NO_FIX;
+					fusedTimes[j]= System.currentTimeMillis() - timeBefore;
+				}
+			}
+			if (!traversal.isEmpty())
+				ast.accept(traversal);
+		}
+
 		CleanUpChange solution= null;
 		int i= 0;
 		do {
@@ -789,11 +835,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			ICleanUpFix fix;
 			if (slowCleanUps != null) {
 				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
+				fix= fusedFixes[i] != null ? fusedFixes[i].createFix() : cleanUp.createFix(context);
+				long time= System.currentTimeMillis() - timeBefore;
+				if (fusedFixes[i] != null)
+					time+= fusedTimes[i] + traversal.getElapsedTime(cleanUp);
+				if (time > SLOW_CLEAN_UP_THRESHOLD)
 					slowCleanUps.add(cleanUp);
 			} else {
-				fix= cleanUp.createFix(context);
+				fix= fusedFixes[i] != null ? fusedFixes[i].createFix() : cleanUp.createFix(context);
 			}
 			if (fix != null) {
 				CompilationUnitChange current= fix.createChange(null);
@@ -819,7 +868,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 			}
 			i++;
-		} while (i < cleanUps.length && (context.getAST() == null || !cleanUps[i].getRequirements().requiresFreshAST()));
+		} while (i < end);
 
 		for (; i < cleanUps.length; i++) {
 			undoneCleanUps.add(cleanUps[i]);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.ltk.core.refactoring.GroupCategory;
 import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
@@ -56,7 +57,72 @@ import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileManager
 
 public class CodeFormatFix implements ICleanUpFix {
 
+	/**
+	 * The edit correcting the indentation of a compilation unit, computed in advance from a
+	 * snapshot of its content. The edit is only used for exactly the same content.
+	 *
+	 * @since 3.36
+	 */
+	public static final class PrecomputedIndentation {
+
+		private final String fContent;
+		private final TextEdit fEdit;
+
+		private PrecomputedIndentation(String content, TextEdit edit) {
+			fContent= content;
+			fEdit= edit;
+		}
+
+		private boolean isComputedFrom(String content) {
+			return fContent.equals(content);
+		}
+	}
+
+	/**
+	 * Computes the edit correcting the indentation of the given content. Unlike
+	 * {@link #createCleanUp(ICompilationUnit, IRegion[], boolean, boolean, boolean, boolean)} this
+	 * does not access the compilation unit, it can therefore run concurrently for different
+	 * contents.
+	 *
+	 * @param content the content of the compilation unit
+	 * @param project the project to retrieve the indentation settings from
+	 * @return the indentation to pass to
+	 *         {@link #createCleanUp(ICompilationUnit, IRegion[], boolean, boolean, boolean, boolean, PrecomputedIndentation)}
+	 * @throws CoreException if the indentation cannot be computed
+	 * @since 3.36
+	 */
+	public static PrecomputedIndentation precomputeIndentation(String content, IJavaProject project) throws CoreException {
+		try {
+			Document document= new Document(content);
+			JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+			return new PrecomputedIndentation(content, IndentAction.indent(document, project));
+		} catch (BadLocationException x) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, "", x)); //$NON-NLS-1$
+		}
+	}
+
 	public static ICleanUpFix createCleanUp(ICompilationUnit cu, IRegion[] regions, boolean format, boolean removeTrailingWhitespacesAll, boolean removeTrailingWhitespacesIgnorEmpty, boolean correctIndentation) throws CoreException {
+		return createCleanUp(cu, regions, format, removeTrailingWhitespacesAll, removeTrailingWhitespacesIgnorEmpty, correctIndentation, null);
+	}
+
+	/**
+	 * Creates the fix like
+	 * {@link #createCleanUp(ICompilationUnit, IRegion[], boolean, boolean, boolean, boolean)}, but
+	 * uses the given indentation if it was computed from the current content of the compilation
+	 * unit. The indentation must not be used again.
+	 *
+	 * @param cu the compilation unit
+	 * @param regions the regions to format or <code>null</code> to format all
+	 * @param format whether to format
+	 * @param removeTrailingWhitespacesAll whether to remove all trailing whitespaces
+	 * @param removeTrailingWhitespacesIgnorEmpty whether to remove trailing whitespaces of lines that are not empty
+	 * @param correctIndentation whether to correct the indentation
+	 * @param indentation the indentation computed in advance, can be <code>null</code>
+	 * @return the fix or <code>null</code> if there is nothing to do
+	 * @throws CoreException if the fix cannot be created
+	 * @since 3.36
+	 */
+	public static ICleanUpFix createCleanUp(ICompilationUnit cu, IRegion[] regions, boolean format, boolean removeTrailingWhitespacesAll, boolean removeTrailingWhitespacesIgnorEmpty, boolean correctIndentation, PrecomputedIndentation indentation) throws CoreException {
 		if (!format && !removeTrailingWhitespacesAll && !removeTrailingWhitespacesIgnorEmpty && !correctIndentation)
 			return null;
 
@@ -117,7 +183,8 @@ public class CodeFormatFix implements ICleanUpFix {
 		MultiTextEdit otherEdit= new MultiTextEdit();
 		if ((removeTrailingWhitespacesAll || removeTrailingWhitespacesIgnorEmpty || correctIndentation)) {
 			try {
-				Document document= new Document(cu.getBuffer().getContents());
+				String content= cu.getBuffer().getContents();
+				Document document= new Document(content);
 				if (removeTrailingWhitespacesAll || removeTrailingWhitespacesIgnorEmpty) {
 					String label= MultiFixMessages.CodeFormatFix_RemoveTrailingWhitespace_changeDescription;
 					CategorizedTextEditGroup group= new CategorizedTextEditGroup(label, new GroupCategorySet(new GroupCategory(label, label, label)));
@@ -166,8 +233,13 @@ public class CodeFormatFix implements ICleanUpFix {
 
 				// Don't apply correct indentation if already formatting all lines
 				if (correctIndentation && (!format || regions != null)) {
-					JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
-					TextEdit edit= IndentAction.indent(document, cu.getJavaProject());
+					TextEdit edit;
+					if (indentation != null && indentation.isComputedFrom(content)) {
+						edit= indentation.fEdit;
+					} else {
+						JavaPlugin.getDefault().getJavaTextTools().setupJavaDocumentPartitioner(document, IJavaPartitions.JAVA_PARTITIONING);
+						edit= IndentAction.indent(document, cu.getJavaProject());
+					}
 					if (edit != null) {
 
 						String label= MultiFixMessages.CodeFormatFix_correctIndentation_changeGroupLabel;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,17 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -32,6 +37,10 @@ import org.eclipse.ui.progress.IWorkbenchSiteProgressService;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
@@ -39,6 +48,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
@@ -47,6 +57,114 @@ import org.eclipse.jdt.internal.ui.actions.ActionMessages;
 
 public class ImportsFix extends TextEditFix {
 
+	/**
+	 * Number of compilation units whose ASTs are in memory at the same time in
+	 * {@link #createCleanUps(IJavaProject, ICompilationUnit[], CodeGenerationSettings, RefactoringStatus, IProgressMonitor)}.
+	 */
+	private static final int BATCH_SIZE= 50;
+
+	/**
+	 * An organize imports fix computed in advance.
+	 *
+	 * @param sourceHash the hash code of the source the fix was computed for
+	 * @param fix the fix or <code>null</code> if the imports are organized already
+	 */
+	public record PrecomputedFix(int sourceHash, ICleanUpFix fix) {
+
+		/**
+		 * @param unit the compilation unit
+		 * @return <code>true</code> if the source of the unit is still the one the fix was
+		 *         computed for
+		 * @throws JavaModelException if the source cannot be accessed
+		 */
+		public boolean isValid(ICompilationUnit unit) throws JavaModelException {
+			String source= unit.getSource();
+			return source != null && source.hashCode() == sourceHash;
+		}
+	}
+
+	/**
+	 * Computes the organize imports fixes of the given compilation units. The units are parsed in
+	 * batches, and the imports of each batch are organized with
+	 * {@link OrganizeImportsOperation#createTextEdits(OrganizeImportsOperation[], IProgressMonitor)},
+	 * which looks up the unresolved types of all units of the batch at once. Only the ASTs of one
+	 * batch are in memory at a time.
+	 *
+	 * @param project the project of the units
+	 * @param units the compilation units
+	 * @param settings the code generation settings
+	 * @param status the status to add unresolvable and parse error infos to
+	 * @param monitor the progress monitor
+	 * @return the fixes by compilation unit
+	 * @throws CoreException if the imports cannot be organized
+	 */
+	public static Map<ICompilationUnit, PrecomputedFix> createCleanUps(IJavaProject project, ICompilationUnit[] units, CodeGenerationSettings settings, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+		Map<ICompilationUnit, PrecomputedFix> result= new HashMap<>();
+		SubMonitor subMonitor= SubMonitor.convert(monitor, 2 * units.length);
+		for (int start= 0; start < units.length; start+= BATCH_SIZE) {
+			ICompilationUnit[] batch= new ICompilationUnit[Math.min(BATCH_SIZE, units.length - start)];
+			System.arraycopy(units, start, batch, 0, batch.length);
+
+			List<ICompilationUnit> parsedUnits= new ArrayList<>(batch.length);
+			List<OrganizeImportsOperation> operations= new ArrayList<>(batch.length);
+			List<boolean[]> ambiguities= new ArrayList<>(batch.length);
+			List<String> sources= new ArrayList<>(batch.length);
+			ASTParser parser= createParser(project);
+			parser.createASTs(batch, new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					boolean[] hasAmbiguity= new boolean[] { false };
+					IChooseImportQuery query= (openChoices, ranges) -> {
+						hasAmbiguity[0]= true;
+						return new TypeNameMatch[0];
+					};
+					parsedUnits.add(source);
+					operations.add(new OrganizeImportsOperation(source, ast, settings.importIgnoreLowercase, false, false, query));
+					ambiguities.add(hasAmbiguity);
+					try {
+						sources.add(source.getSource());
+					} catch (JavaModelException e) {
+						sources.add(null);
+					}
+				}
+			}, subMonitor.split(batch.length));
+
+			OrganizeImportsOperation[] batchOperations= operations.toArray(new OrganizeImportsOperation[operations.size()]);
+			TextEdit[] edits= OrganizeImportsOperation.createTextEdits(batchOperations, subMonitor.split(batch.length));
+			for (int i= 0; i < batchOperations.length; i++) {
+				String source= sources.get(i);
+				if (source == null)
+					continue;
+				ICompilationUnit unit= parsedUnits.get(i);
+				ICleanUpFix fix= createCleanUp(unit, edits[i], batchOperations[i], ambiguities.get(i)[0], status);
+				result.put(unit, new PrecomputedFix(source.hashCode(), fix));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Parses the given compilation unit and computes its organize imports fix.
+	 *
+	 * @param unit the compilation unit
+	 * @param settings the code generation settings
+	 * @param status the status to add unresolvable and parse error infos to
+	 * @return the fix or <code>null</code> if the imports are organized already
+	 * @throws CoreException if the imports cannot be organized
+	 */
+	public static ICleanUpFix createCleanUp(ICompilationUnit unit, CodeGenerationSettings settings, RefactoringStatus status) throws CoreException {
+		ASTParser parser= createParser(unit.getJavaProject());
+		parser.setSource(unit);
+		return createCleanUp((CompilationUnit) parser.createAST(null), settings, true, status);
+	}
+
+	private static ASTParser createParser(IJavaProject project) {
+		ASTParser parser= CleanUpRefactoring.createCleanUpASTParser();
+		parser.setProject(project);
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+		return parser;
+	}
+
 	public static ICleanUpFix createCleanUp(final CompilationUnit cu, CodeGenerationSettings settings, boolean organizeImports, RefactoringStatus status) throws CoreException {
 		if (!organizeImports)
 			return null;
@@ -62,12 +180,16 @@ public class ImportsFix extends TextEditFix {
 
 		TextEdit edit= runUsingProgressService(op);
 
-		if (hasAmbiguity[0]) {
-			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_unresolvable, getLocationString(cu)));
+		return createCleanUp(unit, edit, op, hasAmbiguity[0], status);
+    }
+
+	private static ICleanUpFix createCleanUp(ICompilationUnit unit, TextEdit edit, OrganizeImportsOperation op, boolean hasAmbiguity, RefactoringStatus status) {
+		if (hasAmbiguity) {
+			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_unresolvable, getLocationString(unit)));
 		}
 
 		if (op.getParseError() != null) {
-			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_parse, getLocationString(cu)));
+			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_parse, getLocationString(unit)));
 			return null;
 		}
 
@@ -75,7 +197,7 @@ public class ImportsFix extends TextEditFix {
 			return null;
 
 		return new ImportsFix(edit, unit, FixMessages.ImportsFix_OrganizeImports_Description);
-    }
+	}
 
 	private static TextEdit runUsingProgressService(OrganizeImportsOperation op) throws CoreException {
 
@@ -117,8 +239,8 @@ public class ImportsFix extends TextEditFix {
 		return edit.get();
 	}
 
-	private static String getLocationString(final CompilationUnit cu) {
-		return BasicElementLabels.getPathLabel(cu.getJavaElement().getPath(), false);
+	private static String getLocationString(ICompilationUnit unit) {
+		return BasicElementLabels.getPathLabel(unit.getPath(), false);
 	}
 
 	public ImportsFix(TextEdit edit, ICompilationUnit unit, String description) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,8 +55,14 @@ public class JarRsrcLoader {
 			else
 				rsrcUrls[i] = new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR);
 		}
-		@SuppressWarnings("resource")
-		ClassLoader jceClassLoader = new URLClassLoader(rsrcUrls, getParentClassLoader());
+		ClassLoader parent = getParentClassLoader();
+		ClassLoader jceClassLoader = NestedJarClassLoader.create(mi.rsrcClassPath, rsrcUrls, parent);
+		if (jceClassLoader == null) {
+			// nested JARs cannot be read in place, e.g. because they are compressed
+			@SuppressWarnings("resource")
+			URLClassLoader urlClassLoader = new URLClassLoader(rsrcUrls, parent);
+			jceClassLoader = urlClassLoader;
+		}
 		Thread.currentThread().setContextClassLoader(jceClassLoader);
 		Class<?> c = Class.forName(mi.rsrcMainClass, true, jceClassLoader);
 		Method main = c.getMethod(JIJConstants.MAIN_METHOD_NAME, args.getClass());
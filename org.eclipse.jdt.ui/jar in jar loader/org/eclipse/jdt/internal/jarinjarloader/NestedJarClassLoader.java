@@ -0,0 +1,437 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * This class will be compiled into the binary jar-in-jar-loader.zip. This ZIP is used for the
+ * "Runnable JAR File Exporter".
+ * Source has to comply to java 1.8 - see <a href="file:../../../../../../scripts/build_jar-in-jar-loader.xml">build_jar-in-jar-loader.xml</a>
+ *
+ * Loads classes and resources of the "Rsrc-Class-Path" in place from the runnable JAR. The JAR is
+ * mapped into memory once and the central directories of the JAR and of all nested JARs are read
+ * into a single index, so that a class is found with one lookup instead of searching the nested
+ * JARs one after the other, and nested JARs are never extracted or streamed. This requires the
+ * nested JARs to be stored uncompressed; {@link #create(String[], URL[], ClassLoader)} returns
+ * <code>null</code> for JARs that cannot be read in place, which are then loaded through "rsrc"
+ * URLs.
+ */
+final class NestedJarClassLoader extends ClassLoader {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+	private static final int END_SIZE = 22;
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	/**
+	 * An entry of the runnable JAR or of a nested JAR.
+	 */
+	private static final class Resource {
+		final Source source;
+		final String name;
+		final int method;
+		/** offset of the local header in the runnable JAR */
+		final long headerOffset;
+		final int compressedSize;
+		final int size;
+
+		Resource(Source source, String name, int method, long headerOffset, int compressedSize, int size) {
+			this.source = source;
+			this.name = name;
+			this.method = method;
+			this.headerOffset = headerOffset;
+			this.compressedSize = compressedSize;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * An entry of the "Rsrc-Class-Path": the runnable JAR itself or a nested JAR.
+	 */
+	private static final class Source {
+		/** "rsrc:" for the runnable JAR, "jar:rsrc:lib.jar!/" for a nested JAR */
+		final String urlPrefix;
+		final Map<String, Resource> entries = new HashMap<String, Resource>();
+		ProtectionDomain protectionDomain;
+		private Manifest manifest;
+		private boolean manifestRead;
+
+		Source(String urlPrefix) {
+			this.urlPrefix = urlPrefix;
+		}
+	}
+
+	private final ByteBuffer buffer;
+	private final Source[] sources;
+	private final Map<String, Source> sourcesByPrefix = new HashMap<String, Source>();
+	/** the first resource of each name on the class path */
+	private final Map<String, Resource> index = new HashMap<String, Resource>();
+	private final Map<String, Boolean> packages = new ConcurrentHashMap<String, Boolean>();
+	private final URLStreamHandler handler = new NestedURLStreamHandler();
+
+	private NestedJarClassLoader(ByteBuffer buffer, Source[] sources, URL[] rsrcUrls, ClassLoader parent) {
+		super(parent);
+		this.buffer = buffer;
+		this.sources = sources;
+		for (int i = 0; i < sources.length; i++) {
+			Source source = sources[i];
+			source.protectionDomain = new ProtectionDomain(new CodeSource(rsrcUrls[i], (Certificate[]) null), null, this, null);
+			sourcesByPrefix.put(source.urlPrefix, source);
+			for (Resource resource : source.entries.values()) {
+				if (!index.containsKey(resource.name))
+					index.put(resource.name, resource);
+			}
+		}
+	}
+
+	/**
+	 * Creates a class loader reading the given class path in place from the runnable JAR.
+	 *
+	 * @param rsrcClassPath the "Rsrc-Class-Path" entries
+	 * @param rsrcUrls the "rsrc" URLs of the class path entries, used as code sources
+	 * @param parent the parent class loader
+	 * @return the class loader, or <code>null</code> if the class path cannot be read in place
+	 */
+	static NestedJarClassLoader create(String[] rsrcClassPath, URL[] rsrcUrls, ClassLoader parent) {
+		File jar = getRunnableJar();
+		if (jar == null)
+			return null;
+		ByteBuffer buffer;
+		try (RandomAccessFile file = new RandomAccessFile(jar, "r"); FileChannel channel = file.getChannel()) { //$NON-NLS-1$
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				return null;
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+		} catch (IOException e) {
+			return null;
+		}
+		Source root = new Source(JIJConstants.INTERNAL_URL_PROTOCOL_WITH_COLON);
+		if (!readCentralDirectory(buffer, 0, buffer.capacity(), root))
+			return null;
+		Source[] sources = new Source[rsrcClassPath.length];
+		for (int i = 0; i < rsrcClassPath.length; i++) {
+			String rsrcPath = rsrcClassPath[i];
+			if (JIJConstants.CURRENT_DIR.equals(rsrcPath)) {
+				sources[i] = root;
+			} else if (rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR)) {
+				return null;
+			} else {
+				Resource nestedJar = root.entries.get(rsrcPath);
+				if (nestedJar == null || nestedJar.method != ZipEntry.STORED)
+					return null;
+				long start = getDataOffset(buffer, nestedJar);
+				if (start < 0 || start + nestedJar.size > buffer.capacity())
+					return null;
+				Source source = new Source(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR);
+				if (!readCentralDirectory(buffer, (int) start, nestedJar.size, source))
+					return null;
+				sources[i] = source;
+			}
+		}
+		return new NestedJarClassLoader(buffer, sources, rsrcUrls, parent);
+	}
+
+	private static File getRunnableJar() {
+		try {
+			CodeSource codeSource = NestedJarClassLoader.class.getProtectionDomain().getCodeSource();
+			if (codeSource == null || codeSource.getLocation() == null || !"file".equals(codeSource.getLocation().getProtocol())) //$NON-NLS-1$
+				return null;
+			File file = new File(codeSource.getLocation().toURI());
+			return file.isFile() ? file : null;
+		} catch (SecurityException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the central directory of the ZIP at the given range of the buffer into the entries of
+	 * the source. Returns <code>false</code> for ZIPs that cannot be read in place: ZIP64 archives,
+	 * archives with data in front of the first entry, and encrypted or signed archives.
+	 */
+	private static boolean readCentralDirectory(ByteBuffer buffer, int start, int length, Source source) {
+		int end = start + length;
+		int endOffset = -1;
+		for (int pos = end - END_SIZE; pos >= Math.max(start, end - END_SIZE - 0xFFFF); pos--) {
+			if (buffer.getInt(pos) == END_SIGNATURE) {
+				endOffset = pos;
+				break;
+			}
+		}
+		if (endOffset < 0)
+			return false;
+		int count = buffer.getShort(endOffset + 10) & 0xFFFF;
+		long directorySize = buffer.getInt(endOffset + 12) & 0xFFFFFFFFL;
+		long directoryOffset = buffer.getInt(endOffset + 16) & 0xFFFFFFFFL;
+		if (count == 0xFFFF || directoryOffset == 0xFFFFFFFFL || start + directoryOffset + directorySize != endOffset)
+			return false;
+		int pos = (int) (start + directoryOffset);
+		for (int i = 0; i < count; i++) {
+			if (pos + CENTRAL_HEADER_SIZE > endOffset || buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE)
+				return false;
+			int flags = buffer.getShort(pos + 8) & 0xFFFF;
+			int method = buffer.getShort(pos + 10) & 0xFFFF;
+			long compressedSize = buffer.getInt(pos + 20) & 0xFFFFFFFFL;
+			long size = buffer.getInt(pos + 24) & 0xFFFFFFFFL;
+			int nameLength = buffer.getShort(pos + 28) & 0xFFFF;
+			int extraLength = buffer.getShort(pos + 30) & 0xFFFF;
+			int commentLength = buffer.getShort(pos + 32) & 0xFFFF;
+			long headerOffset = buffer.getInt(pos + 42) & 0xFFFFFFFFL;
+			if ((flags & 1) != 0 || compressedSize > Integer.MAX_VALUE || size > Integer.MAX_VALUE || headerOffset >= length)
+				return false;
+			byte[] nameBytes = new byte[nameLength];
+			ByteBuffer name = buffer.duplicate();
+			name.position(pos + CENTRAL_HEADER_SIZE);
+			name.get(nameBytes);
+			String entryName = new String(nameBytes, StandardCharsets.UTF_8);
+			if (entryName.startsWith("META-INF/") && entryName.toUpperCase(Locale.ENGLISH).endsWith(".SF")) //$NON-NLS-1$ //$NON-NLS-2$
+				return false; // signed JARs have to be verified by the URLClassLoader
+			if (!source.entries.containsKey(entryName))
+				source.entries.put(entryName, new Resource(source, entryName, method, start + headerOffset, (int) compressedSize, (int) size));
+			pos += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return true;
+	}
+
+	private static long getDataOffset(ByteBuffer buffer, Resource resource) {
+		long pos = resource.headerOffset;
+		if (pos + LOCAL_HEADER_SIZE > buffer.capacity() || buffer.getInt((int) pos) != LOCAL_HEADER_SIGNATURE)
+			return -1;
+		int nameLength = buffer.getShort((int) pos + 26) & 0xFFFF;
+		int extraLength = buffer.getShort((int) pos + 28) & 0xFFFF;
+		return pos + LOCAL_HEADER_SIZE + nameLength + extraLength;
+	}
+
+	private byte[] read(Resource resource) throws IOException {
+		long offset = getDataOffset(buffer, resource);
+		if (offset < 0 || offset + resource.compressedSize > buffer.capacity())
+			throw new ZipException("invalid entry: " + resource.name); //$NON-NLS-1$
+		ByteBuffer data = buffer.duplicate();
+		data.position((int) offset);
+		byte[] bytes = new byte[resource.size];
+		if (resource.method == ZipEntry.STORED) {
+			data.get(bytes);
+		} else if (resource.method == ZipEntry.DEFLATED) {
+			// the inflater may need an additional dummy byte when reading raw deflate data
+			byte[] compressed = new byte[resource.compressedSize + 1];
+			data.get(compressed, 0, resource.compressedSize);
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(compressed);
+				int read = 0;
+				while (read < bytes.length) {
+					int n = inflater.inflate(bytes, read, bytes.length - read);
+					if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+						throw new ZipException("invalid entry size: " + resource.name); //$NON-NLS-1$
+					read += n;
+				}
+			} catch (DataFormatException e) {
+				throw new ZipException(e.getMessage());
+			} finally {
+				inflater.end();
+			}
+		} else {
+			throw new ZipException("invalid compression method: " + resource.name); //$NON-NLS-1$
+		}
+		return bytes;
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		Resource resource = index.get(name.replace('.', '/').concat(".class")); //$NON-NLS-1$
+		if (resource == null)
+			throw new ClassNotFoundException(name);
+		byte[] bytes;
+		try {
+			bytes = read(resource);
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+		definePackage(name, resource.source);
+		return defineClass(name, bytes, 0, bytes.length, resource.source.protectionDomain);
+	}
+
+	private void definePackage(String className, Source source) {
+		int i = className.lastIndexOf('.');
+		if (i < 0)
+			return;
+		String packageName = className.substring(0, i);
+		if (packages.put(packageName, Boolean.TRUE) != null)
+			return;
+		try {
+			Manifest manifest = getManifest(source);
+			if (manifest != null) {
+				Attributes main = manifest.getMainAttributes();
+				Attributes attributes = manifest.getAttributes(packageName.replace('.', '/').concat(JIJConstants.PATH_SEPARATOR));
+				definePackage(packageName,
+						getAttribute(Attributes.Name.SPECIFICATION_TITLE, attributes, main),
+						getAttribute(Attributes.Name.SPECIFICATION_VERSION, attributes, main),
+						getAttribute(Attributes.Name.SPECIFICATION_VENDOR, attributes, main),
+						getAttribute(Attributes.Name.IMPLEMENTATION_TITLE, attributes, main),
+						getAttribute(Attributes.Name.IMPLEMENTATION_VERSION, attributes, main),
+						getAttribute(Attributes.Name.IMPLEMENTATION_VENDOR, attributes, main),
+						null);
+			} else {
+				definePackage(packageName, null, null, null, null, null, null, null);
+			}
+		} catch (IllegalArgumentException e) {
+			// already defined by a concurrently loaded class
+		}
+	}
+
+	private static String getAttribute(Attributes.Name name, Attributes attributes, Attributes main) {
+		String value = attributes != null ? attributes.getValue(name) : null;
+		return value != null ? value : main.getValue(name);
+	}
+
+	private Manifest getManifest(Source source) {
+		synchronized (source) {
+			if (!source.manifestRead) {
+				source.manifestRead = true;
+				Resource resource = source.entries.get(JarFile.MANIFEST_NAME);
+				if (resource != null) {
+					try {
+						source.manifest = new Manifest(new ByteArrayInputStream(read(resource)));
+					} catch (IOException e) {
+						// no package attributes
+					}
+				}
+			}
+			return source.manifest;
+		}
+	}
+
+	@Override
+	protected URL findResource(String name) {
+		Resource resource = index.get(name);
+		return resource != null ? toURL(resource) : null;
+	}
+
+	@Override
+	protected Enumeration<URL> findResources(String name) throws IOException {
+		List<URL> urls = new ArrayList<URL>();
+		for (Source source : sources) {
+			Resource resource = source.entries.get(name);
+			if (resource != null) {
+				URL url = toURL(resource);
+				if (url != null)
+					urls.add(url);
+			}
+		}
+		return Collections.enumeration(urls);
+	}
+
+	/*
+	 * Returns the URL the resource has when loaded through the "rsrc" URLs: "rsrc:name" for the
+	 * runnable JAR and "jar:rsrc:lib.jar!/name" for a nested JAR.
+	 */
+	private URL toURL(Resource resource) {
+		try {
+			String prefix = resource.source.urlPrefix;
+			int colon = prefix.indexOf(':');
+			return new URL(prefix.substring(0, colon), "", -1, prefix.substring(colon + 1) + resource.name, handler); //$NON-NLS-1$
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Opens the URLs of the resources from the index.
+	 */
+	private final class NestedURLStreamHandler extends URLStreamHandler {
+
+		@Override
+		protected URLConnection openConnection(URL u) throws IOException {
+			String prefix;
+			String name;
+			String file = u.getFile();
+			int separator = file.indexOf(JIJConstants.JAR_INTERNAL_SEPARATOR);
+			if (separator >= 0) {
+				prefix = u.getProtocol() + ':' + file.substring(0, separator + JIJConstants.JAR_INTERNAL_SEPARATOR.length());
+				name = file.substring(separator + JIJConstants.JAR_INTERNAL_SEPARATOR.length());
+			} else {
+				prefix = u.getProtocol() + ':';
+				name = file;
+			}
+			Source source = sourcesByPrefix.get(prefix);
+			Resource resource = source != null ? source.entries.get(name) : null;
+			if (resource == null)
+				throw new FileNotFoundException(u.toString());
+			return new NestedURLConnection(u, resource);
+		}
+	}
+
+	private final class NestedURLConnection extends URLConnection {
+
+		private final Resource resource;
+
+		NestedURLConnection(URL url, Resource resource) {
+			super(url);
+			this.resource = resource;
+		}
+
+		@Override
+		public void connect() {
+			connected = true;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return new ByteArrayInputStream(read(resource));
+		}
+
+		@Override
+		public long getContentLengthLong() {
+			return resource.size;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.SashForm;
@@ -109,6 +110,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.dialogs.StatusInfo;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
 import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileEscapes;
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.PropertiesKeyIndex;
 import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
 import org.eclipse.jdt.internal.ui.util.SWTUtil;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
@@ -216,7 +218,7 @@ class ExternalizeWizardPage extends UserInputWizardPage {
 					if (PROPERTIES[STATE_PROP].equals(property)) {
 						substitution.setState(((Integer) value));
 						if ((substitution.getState() == NLSSubstitution.EXTERNALIZED) && substitution.hasStateChanged()) {
-							substitution.generateKey(fSubstitutions, getProperties(fNLSRefactoring.getPropertyFileHandle()));
+							substitution.generateKey(fSubstitutions, getPropertyKeys());
 						}
 					}
 				}
@@ -694,6 +696,10 @@ class ExternalizeWizardPage extends UserInputWizardPage {
 		}
 	}
 
+	private Set<String> getPropertyKeys() {
+		return PropertiesKeyIndex.getDefault().getKeys(fNLSRefactoring.getPropertyFileHandle()).keySet();
+	}
+
 	private Properties getProperties(IFile propertyFile) {
 		Properties props= new Properties();
 		try {
@@ -770,7 +776,7 @@ class ExternalizeWizardPage extends UserInputWizardPage {
 		for (NLSSubstitution substitution : substitutions) {
 			if (substitution.getState() == NLSSubstitution.INTERNALIZED) {
 				substitution.setState(NLSSubstitution.EXTERNALIZED);
-				substitution.generateKey(substitutions, getProperties(fNLSRefactoring.getPropertyFileHandle()));
+				substitution.generateKey(substitutions, getPropertyKeys());
 			}
 		}
 	}
@@ -1161,7 +1167,7 @@ class ExternalizeWizardPage extends UserInputWizardPage {
 			NLSSubstitution substitution= (NLSSubstitution) name;
 			substitution.setState(state);
 			if ((substitution.getState() == NLSSubstitution.EXTERNALIZED) && substitution.hasStateChanged()) {
-				substitution.generateKey(fSubstitutions, getProperties(fNLSRefactoring.getPropertyFileHandle()));
+				substitution.generateKey(fSubstitutions, getPropertyKeys());
 			}
 		}
 		fTableViewer.update(selected.toArray(), props);
@@ -39,6 +39,8 @@ final class NLSSearchMessages extends NLS {
 	public static String NLSSearchResultLabelProvider2_undefinedKeys;
 	public static String NLSSearchResultRequestor_searching;
 
+	public static String PropertiesKeyIndex_job_name;
+
 	public static String SearchOperation_pluralLabelPatternPostfix;
 	public static String SearchOperation_singularLabelPostfix;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,11 @@
 
 package org.eclipse.jdt.internal.ui.refactoring.nls.search;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -58,8 +58,9 @@ public class NLSSearchResult extends AbstractTextSearchResult implements IEditor
 
 	public NLSSearchResult(NLSSearchQuery query) {
 		fQuery= query;
-		fFileEntryGroups= new ArrayList<>();
-		fCompilationUnitGroups= new ArrayList<>();
+		// groups are added concurrently by the bundle searches
+		fFileEntryGroups= new CopyOnWriteArrayList<>();
+		fCompilationUnitGroups= new CopyOnWriteArrayList<>();
 	}
 
 	public void addFileEntryGroup(FileEntry group) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,9 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -52,10 +52,8 @@ import org.eclipse.jdt.core.compiler.InvalidInputException;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
-import org.eclipse.jdt.internal.corext.refactoring.nls.PropertyFileDocumentModel;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
-import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIStatus;
 import org.eclipse.jdt.internal.ui.util.StringMatcher;
 
@@ -83,7 +81,7 @@ class NLSSearchResultRequestor extends SearchRequestor {
 
 	private NLSSearchResult fResult;
 	private IFile fPropertiesFile;
-	private Properties fProperties;
+	private Map<String, PropertiesKeyIndex.Occurrence> fKeys;
 	private Properties fSpecifiedAsUsedProperties;
 	private HashSet<String> fUsedPropertyNames;
 
@@ -98,7 +96,7 @@ class NLSSearchResultRequestor extends SearchRequestor {
 	@Override
 	public void beginReporting() {
 		loadProperties();
-		fUsedPropertyNames= new HashSet<>(fProperties.size());
+		fUsedPropertyNames= new HashSet<>(fKeys.size());
 	}
 
 	/*
@@ -159,13 +157,12 @@ class NLSSearchResultRequestor extends SearchRequestor {
 
 	public void reportUnusedPropertyNames(IProgressMonitor pm) {
 		//Don't use endReporting() for long running operation.
-		pm.beginTask("", fProperties.size()); //$NON-NLS-1$
+		pm.beginTask("", fKeys.size()); //$NON-NLS-1$
 		boolean hasUnused= false;
 		pm.setTaskName(NLSSearchMessages.NLSSearchResultRequestor_searching);
 		FileEntry groupElement= new FileEntry(fPropertiesFile, NLSSearchMessages.NLSSearchResultCollector_unusedKeys);
 
-		for (Enumeration<?> enumeration= fProperties.propertyNames(); enumeration.hasMoreElements();) {
-			String propertyName= (String) enumeration.nextElement();
+		for (String propertyName : fKeys.keySet()) {
 			if (!fUsedPropertyNames.contains(propertyName) && !fSpecifiedAsUsedProperties.containsKey(propertyName)) {
 				addMatch(groupElement, propertyName);
 				hasUnused= true;
@@ -180,25 +177,12 @@ class NLSSearchResultRequestor extends SearchRequestor {
 
 
 	private void addMatch(FileEntry groupElement, String propertyName) {
-		/*
-		 * TODO (bug 63794): Should read in .properties file with our own reader and not
-		 * with Properties.load(InputStream) . Then, we can remember start position and
-		 * original version (not interpreting escape characters) for each property.
-		 *
-		 * The current workaround is to escape the key again before searching in the
-		 * .properties file. However, this can fail if the key is escaped in a different
-		 * manner than what PropertyFileDocumentModel.unwindEscapeChars(.) produces.
-		 */
-		String escapedPropertyName= PropertyFileDocumentModel.escape(propertyName, false);
-		int start= findPropertyNameStartPosition(escapedPropertyName);
-		int length;
-		if (start == -1) { // not found -> report at beginning
-			start= 0;
-			length= 0;
+		PropertiesKeyIndex.Occurrence occurrence= fKeys.get(propertyName);
+		if (occurrence == null) { // not found -> report at beginning
+			fResult.addMatch(new Match(groupElement, 0, 0));
 		} else {
-			length= escapedPropertyName.length();
+			fResult.addMatch(new Match(groupElement, occurrence.getOffset(), occurrence.getLength()));
 		}
-		fResult.addMatch(new Match(groupElement, start, length));
 	}
 
 	/**
@@ -213,14 +197,11 @@ class NLSSearchResultRequestor extends SearchRequestor {
 			return false;
 
 		fUsedPropertyNames.add(key);
-		if (fProperties.getProperty(key) != null) {
-			return true;
-		}
-		return false;
+		return fKeys.containsKey(key);
 	}
 
 	public boolean hasPropertyKey(String key) {
-		return fProperties.containsKey(key);
+		return fKeys.containsKey(key);
 	}
 
 	public boolean isUsedPropertyKey(String key) {
@@ -331,68 +312,11 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		}
 	}
 
-	/**
-	 * Finds the start position in the property file. We assume that
-	 * the key is the first match on a line.
-	 *
-	 * @param propertyName the property name
-	 * @return	the start position of the property name in the file, -1 if not found
-	 */
-	private int findPropertyNameStartPosition(String propertyName) {
-		// Fix for http://dev.eclipse.org/bugs/show_bug.cgi?id=19319
-		String encoding;
-		try {
-			encoding= fPropertiesFile.getCharset();
-		} catch (CoreException e1) {
-			encoding= "ISO-8859-1";  //$NON-NLS-1$
-		}
-		try (InputStream stream= createInputStream(fPropertiesFile); LineReader lineReader= new LineReader(stream, encoding)) {
-			int start= 0;
-			StringBuffer buf= new StringBuffer(80);
-			int eols= lineReader.readLine(buf);
-			int keyLength= propertyName.length();
-			while (eols > 0) {
-				String line= buf.toString();
-				int i= line.indexOf(propertyName);
-				int charPos= i + keyLength;
-				char terminatorChar= 0;
-				boolean hasNoValue= (charPos >= line.length());
-				if (i > -1 && !hasNoValue) {
-					terminatorChar= line.charAt(charPos);
-				}
-				if (line.trim().startsWith(propertyName) &&
-						(hasNoValue || Character.isWhitespace(terminatorChar) || terminatorChar == '=')) {
-					start+= line.indexOf(propertyName);
-					eols= -17; // found key
-				} else {
-					start+= line.length() + eols;
-					buf.setLength(0);
-					eols= lineReader.readLine(buf);
-				}
-			}
-			if (eols != -17) {
-				start= -1; //key not found in file. See bug 63794. This can happen if the key contains escaped characters.
-			}
-			return start;
-		} catch (CoreException | IOException ex) {
-			JavaPlugin.log(ex);
-			return -1;
-		}
-	}
-
 	private void loadProperties() {
-		Set<Object> duplicateKeys= new HashSet<>();
-		fProperties= new Properties(duplicateKeys);
-		Set<Object> duplicateKeys2= new HashSet<>();
-		fSpecifiedAsUsedProperties= new Properties(duplicateKeys2);
-		try (InputStream stream= new BufferedInputStream(createInputStream(fPropertiesFile))) {
-			fProperties.load(stream);
-		} catch (CoreException | IOException ex) {
-			fProperties= new Properties();
-			return;
-		} finally {
-			reportDuplicateKeys(duplicateKeys);
-		}
+		fSpecifiedAsUsedProperties= new Properties();
+		PropertiesKeyIndex.PropertiesFileState state= PropertiesKeyIndex.getDefault().getPropertiesFile(fPropertiesFile);
+		fKeys= state.getKeys();
+		reportDuplicateKeys(state.getDuplicateKeys());
 		if (!"properties".equalsIgnoreCase(fPropertiesFile.getFileExtension())) { //$NON-NLS-1$
 			return;
 		}
@@ -421,14 +345,12 @@ class NLSSearchResultRequestor extends SearchRequestor {
 		return propertiesFile.getContents();
 	}
 
-	private void reportDuplicateKeys(Set<Object> duplicateKeys) {
+	private void reportDuplicateKeys(Set<String> duplicateKeys) {
 		if (duplicateKeys.isEmpty())
 			return;
 
 		FileEntry groupElement= new FileEntry(fPropertiesFile, NLSSearchMessages.NLSSearchResultCollector_duplicateKeys);
-		Iterator<Object> iter= duplicateKeys.iterator();
-		while (iter.hasNext()) {
-			String propertyName= (String) iter.next();
+		for (String propertyName : duplicateKeys) {
 			addMatch(groupElement, propertyName);
 		}
 		fResult.addFileEntryGroup(groupElement);
@@ -0,0 +1,642 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.refactoring.nls.search;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Index of the keys defined in the properties files of the workspace. For every key, the index
+ * knows the properties files defining it and the Java files containing it in double quotes, like
+ * <code>"key"</code> as used with <code>ResourceBundle</code> accessors, or as identifier, like
+ * the fields of Eclipse-style NLS accessor classes. Both are found textually in the saved files,
+ * comments included, so they are only candidates for references to be searched further.
+ * <p>
+ * The index is built by a background job on first use and updated on resource deltas. Occurrences
+ * are only recorded for keys that are defined in a properties file; the Java files are scanned
+ * again in the background for keys added later when such a key is looked up.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class PropertiesKeyIndex implements IResourceChangeListener {
+
+	/**
+	 * The definition of a key in a properties file or an occurrence of a key in a Java file.
+	 */
+	public static final class Occurrence {
+
+		private final String fKey;
+		private final IFile fFile;
+		private final int fOffset;
+		private final int fLength;
+
+		Occurrence(String key, IFile file, int offset, int length) {
+			fKey= key;
+			fFile= file;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		public String getKey() {
+			return fKey;
+		}
+
+		public IFile getFile() {
+			return fFile;
+		}
+
+		public int getOffset() {
+			return fOffset;
+		}
+
+		public int getLength() {
+			return fLength;
+		}
+	}
+
+	private static final class KeyEntry {
+		final List<Occurrence> fDefinitions= new ArrayList<>(1);
+		final List<Occurrence> fLiterals= new ArrayList<>(1);
+		final List<Occurrence> fIdentifiers= new ArrayList<>(1);
+	}
+
+	/**
+	 * The keys of a properties file.
+	 */
+	static final class PropertiesFileState {
+
+		private static final PropertiesFileState EMPTY= new PropertiesFileState(-1, Collections.emptyList());
+
+		final long fStamp;
+		/** key to first definition, in file order */
+		private final Map<String, Occurrence> fKeys;
+		private final Set<String> fDuplicateKeys;
+
+		PropertiesFileState(long stamp, List<Occurrence> definitions) {
+			fStamp= stamp;
+			fKeys= new LinkedHashMap<>(definitions.size() * 4 / 3 + 1);
+			Set<String> duplicateKeys= null;
+			for (Occurrence definition : definitions) {
+				if (fKeys.putIfAbsent(definition.fKey, definition) != null) {
+					if (duplicateKeys == null)
+						duplicateKeys= new LinkedHashSet<>();
+					duplicateKeys.add(definition.fKey);
+				}
+			}
+			fDuplicateKeys= duplicateKeys != null ? duplicateKeys : Collections.emptySet();
+		}
+
+		/**
+		 * @return the keys mapped to their first definition, in file order
+		 */
+		Map<String, Occurrence> getKeys() {
+			return Collections.unmodifiableMap(fKeys);
+		}
+
+		/**
+		 * @return the keys defined more than once
+		 */
+		Set<String> getDuplicateKeys() {
+			return Collections.unmodifiableSet(fDuplicateKeys);
+		}
+	}
+
+	private static PropertiesKeyIndex fgDefault;
+
+	private final Object fLock= new Object();
+	private final Map<String, KeyEntry> fKeys= new HashMap<>();
+	private final Map<IFile, PropertiesFileState> fPropertiesFiles= new HashMap<>();
+	/** Java file to the keys it references */
+	private final Map<IFile, Set<String>> fJavaFiles= new HashMap<>();
+	/** keys added since the Java files have been scanned */
+	private final Set<String> fPendingKeys= new HashSet<>();
+	private final Set<IProject> fPendingProjects= new LinkedHashSet<>();
+	private final Set<IFile> fPendingFiles= new LinkedHashSet<>();
+	private boolean fRescanJavaFiles;
+
+	private final Job fJob;
+
+	private PropertiesKeyIndex() {
+		fJob= Job.create(NLSSearchMessages.PropertiesKeyIndex_job_name, this::update);
+		fJob.setSystem(true);
+		fJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the index. The index is created and starts to build in the background on first
+	 * call.
+	 *
+	 * @return the index
+	 */
+	public static synchronized PropertiesKeyIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new PropertiesKeyIndex();
+			fgDefault.start();
+		}
+		return fgDefault;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgDefault);
+			fgDefault.fJob.cancel();
+			fgDefault= null;
+		}
+	}
+
+	private void start() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		synchronized (fLock) {
+			Collections.addAll(fPendingProjects, ResourcesPlugin.getWorkspace().getRoot().getProjects());
+		}
+		fJob.schedule();
+	}
+
+	/**
+	 * Returns the Java files that contain the given key in double quotes. Does not wait for the
+	 * index: if it is not up to date for the key, an update is started in the background.
+	 *
+	 * @param key the key
+	 * @return the files, or <code>null</code> if they are not known yet or the key is empty or
+	 *         contains a double quote
+	 */
+	public Set<IFile> getFilesWithLiteral(String key) {
+		if (key.isEmpty() || key.indexOf('"') != -1)
+			return null;
+		return getFiles(key, false);
+	}
+
+	/**
+	 * Returns the Java files that contain the given key as identifier. Does not wait for the
+	 * index: if it is not up to date for the key, an update is started in the background.
+	 *
+	 * @param key the key
+	 * @return the files, or <code>null</code> if they are not known yet or the key is not an
+	 *         identifier
+	 */
+	public Set<IFile> getFilesWithIdentifier(String key) {
+		if (!isIdentifier(key))
+			return null;
+		return getFiles(key, true);
+	}
+
+	private Set<IFile> getFiles(String key, boolean identifiers) {
+		synchronized (fLock) {
+			if (fPendingKeys.contains(key)) {
+				fRescanJavaFiles= true;
+				fJob.schedule();
+				return null;
+			}
+			if (!fPendingProjects.isEmpty() || !fPendingFiles.isEmpty() || fJob.getState() != Job.NONE)
+				return null;
+			KeyEntry entry= fKeys.get(key);
+			Set<IFile> files= new HashSet<>();
+			if (entry != null) {
+				for (Occurrence occurrence : identifiers ? entry.fIdentifiers : entry.fLiterals) {
+					files.add(occurrence.fFile);
+				}
+			}
+			return files;
+		}
+	}
+
+	/**
+	 * Returns the keys defined in the given properties file, mapped to their first definition. Does
+	 * not wait for the index: the file is read if it is not up to date. The content of a dirty
+	 * editor buffer is read but not indexed.
+	 *
+	 * @param file the properties file
+	 * @return the keys in file order, empty if the file does not exist
+	 */
+	public Map<String, Occurrence> getKeys(IFile file) {
+		return getPropertiesFile(file).getKeys();
+	}
+
+	/**
+	 * Returns the keys of the given properties file like {@link #getKeys(IFile)}, together with
+	 * the keys defined more than once.
+	 *
+	 * @param file the properties file
+	 * @return the keys of the file
+	 */
+	PropertiesFileState getPropertiesFile(IFile file) {
+		ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		if (buffer != null && buffer.isDirty()) {
+			return new PropertiesFileState(-1, parseProperties(buffer.getDocument().get(), file));
+		}
+		synchronized (fLock) {
+			PropertiesFileState state= fPropertiesFiles.get(file);
+			if (state != null && state.fStamp == file.getModificationStamp()) {
+				return state;
+			}
+		}
+		updatePropertiesFile(file);
+		synchronized (fLock) {
+			PropertiesFileState state= fPropertiesFiles.get(file);
+			return state != null ? state : PropertiesFileState.EMPTY;
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		boolean[] changed= { false };
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				switch (resource.getType()) {
+					case IResource.PROJECT:
+						if (child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & IResourceDelta.OPEN) != 0) {
+							synchronized (fLock) {
+								fPendingProjects.add((IProject) resource);
+							}
+							changed[0]= true;
+							return false;
+						}
+						return true;
+					case IResource.FILE:
+						if ((child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0)
+								&& (isPropertiesFile(resource.getName()) || JavaCore.isJavaLikeFileName(resource.getName()))) {
+							synchronized (fLock) {
+								fPendingFiles.add((IFile) resource);
+							}
+							changed[0]= true;
+						}
+						return false;
+					default:
+						return true;
+				}
+			});
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+		}
+		if (changed[0])
+			fJob.schedule();
+	}
+
+	private IStatus update(IProgressMonitor monitor) {
+		while (true) {
+			Set<IProject> projects;
+			Set<IFile> files;
+			boolean rescan;
+			synchronized (fLock) {
+				if (fPendingProjects.isEmpty() && fPendingFiles.isEmpty() && !fRescanJavaFiles)
+					return Status.OK_STATUS;
+				projects= new LinkedHashSet<>(fPendingProjects);
+				files= new LinkedHashSet<>(fPendingFiles);
+				rescan= fRescanJavaFiles;
+				fPendingProjects.clear();
+				fPendingFiles.clear();
+				fRescanJavaFiles= false;
+			}
+
+			List<IFile> propertiesFiles= new ArrayList<>();
+			List<IFile> javaFiles= new ArrayList<>();
+			for (IProject project : projects) {
+				removeProject(project);
+				collectFiles(project, propertiesFiles, javaFiles);
+			}
+			for (IFile file : files) {
+				if (isPropertiesFile(file.getName()))
+					propertiesFiles.add(file);
+				else
+					javaFiles.add(file);
+			}
+
+			// properties first, so that the Java files are scanned for the new keys
+			for (IFile file : propertiesFiles) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				updatePropertiesFile(file);
+			}
+			Set<String> scannedKeys;
+			synchronized (fLock) {
+				if (rescan || (!projects.isEmpty() && fJavaFiles.isEmpty())) {
+					rescan= true;
+					javaFiles.addAll(fJavaFiles.keySet());
+				}
+				scannedKeys= rescan ? new HashSet<>(fPendingKeys) : Collections.emptySet();
+			}
+			for (IFile file : new LinkedHashSet<>(javaFiles)) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				updateJavaFile(file);
+			}
+			synchronized (fLock) {
+				fPendingKeys.removeAll(scannedKeys);
+			}
+		}
+	}
+
+	private void removeProject(IProject project) {
+		synchronized (fLock) {
+			for (IFile file : new ArrayList<>(fPropertiesFiles.keySet())) {
+				if (project.equals(file.getProject()))
+					applyPropertiesFile(file, -1, null);
+			}
+			for (IFile file : new ArrayList<>(fJavaFiles.keySet())) {
+				if (project.equals(file.getProject()))
+					applyJavaFile(file, null);
+			}
+		}
+	}
+
+	private static void collectFiles(IProject project, List<IFile> propertiesFiles, List<IFile> javaFiles) {
+		if (!project.isAccessible())
+			return;
+		try {
+			project.accept((IResourceProxy proxy) -> {
+				if (proxy.isDerived())
+					return false;
+				if (proxy.getType() == IResource.FILE) {
+					String name= proxy.getName();
+					if (isPropertiesFile(name))
+						propertiesFiles.add((IFile) proxy.requestResource());
+					else if (JavaCore.isJavaLikeFileName(name))
+						javaFiles.add((IFile) proxy.requestResource());
+					return false;
+				}
+				return true;
+			}, IResource.NONE);
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static boolean isPropertiesFile(String name) {
+		return name.endsWith(".properties"); //$NON-NLS-1$
+	}
+
+	private void updatePropertiesFile(IFile file) {
+		if (!file.isAccessible()) {
+			synchronized (fLock) {
+				applyPropertiesFile(file, -1, null);
+			}
+			return;
+		}
+		long stamp= file.getModificationStamp();
+		String content= readContent(file);
+		List<Occurrence> definitions= content != null ? parseProperties(content, file) : null;
+		synchronized (fLock) {
+			applyPropertiesFile(file, stamp, definitions);
+		}
+	}
+
+	private void applyPropertiesFile(IFile file, long stamp, List<Occurrence> definitions) {
+		PropertiesFileState old= fPropertiesFiles.remove(file);
+		Set<String> keys= new HashSet<>();
+		if (definitions != null) {
+			for (Occurrence definition : definitions) {
+				keys.add(definition.fKey);
+			}
+		}
+		if (old != null) {
+			for (String key : old.fKeys.keySet()) {
+				KeyEntry entry= fKeys.get(key);
+				if (entry != null) {
+					entry.fDefinitions.removeIf(definition -> definition.fFile.equals(file));
+					// a key that is still defined keeps its references and is not scanned for again
+					if (entry.fDefinitions.isEmpty() && !keys.contains(key)) {
+						fKeys.remove(key);
+						fPendingKeys.remove(key);
+					}
+				}
+			}
+		}
+		if (definitions == null)
+			return;
+		for (Occurrence definition : definitions) {
+			KeyEntry entry= fKeys.get(definition.fKey);
+			if (entry == null) {
+				entry= new KeyEntry();
+				fKeys.put(definition.fKey, entry);
+				fPendingKeys.add(definition.fKey);
+			}
+			entry.fDefinitions.add(definition);
+		}
+		fPropertiesFiles.put(file, new PropertiesFileState(stamp, definitions));
+	}
+
+	private void updateJavaFile(IFile file) {
+		String content= file.isAccessible() ? readContent(file) : null;
+		synchronized (fLock) {
+			applyJavaFile(file, content);
+		}
+	}
+
+	private void applyJavaFile(IFile file, String content) {
+		Set<String> old= fJavaFiles.remove(file);
+		if (old != null) {
+			for (String key : old) {
+				KeyEntry entry= fKeys.get(key);
+				if (entry != null) {
+					entry.fLiterals.removeIf(literal -> literal.fFile.equals(file));
+					entry.fIdentifiers.removeIf(identifier -> identifier.fFile.equals(file));
+				}
+			}
+		}
+		if (content == null)
+			return;
+		Set<String> keys= new HashSet<>();
+		scanJava(content, file, keys);
+		fJavaFiles.put(file, keys.isEmpty() ? Collections.emptySet() : keys);
+	}
+
+	private static String readContent(IFile file) {
+		try (InputStream in= file.getContents()) {
+			return new String(in.readAllBytes(), file.getCharset());
+		} catch (CoreException | IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Records the keys found in the given Java source, between two consecutive double quotes or
+	 * as identifier. The source is not tokenized, so that every text match of <code>"key"</code>
+	 * or of a field named like the key is found, also in comments.
+	 */
+	private void scanJava(String source, IFile file, Set<String> keys) {
+		int length= source.length();
+		int quote= -1;
+		int pos= 0;
+		while (pos < length) {
+			char c= source.charAt(pos);
+			if (c == '"') {
+				if (quote != -1 && pos > quote + 1)
+					addOccurrence(source.substring(quote + 1, pos), file, quote + 1, false, keys);
+				quote= pos++;
+			} else if (Character.isJavaIdentifierStart(c)) {
+				int start= pos++;
+				while (pos < length && Character.isJavaIdentifierPart(source.charAt(pos)))
+					pos++;
+				addOccurrence(source.substring(start, pos), file, start, true, keys);
+			} else {
+				pos++;
+			}
+		}
+	}
+
+	private void addOccurrence(String key, IFile file, int offset, boolean identifier, Set<String> keys) {
+		KeyEntry entry= fKeys.get(key);
+		if (entry != null) {
+			Occurrence occurrence= new Occurrence(key, file, offset, key.length());
+			(identifier ? entry.fIdentifiers : entry.fLiterals).add(occurrence);
+			keys.add(key);
+		}
+	}
+
+	private static boolean isIdentifier(String key) {
+		if (key.isEmpty() || !Character.isJavaIdentifierStart(key.charAt(0)))
+			return false;
+		for (int i= 1; i < key.length(); i++) {
+			if (!Character.isJavaIdentifierPart(key.charAt(i)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the key definitions in the given properties file content, with the key unescaped as
+	 * by {@link java.util.Properties#load(java.io.Reader)} and the range of the key as written in
+	 * the file.
+	 */
+	static List<Occurrence> parseProperties(String content, IFile file) {
+		List<Occurrence> definitions= new ArrayList<>();
+		int length= content.length();
+		int pos= 0;
+		StringBuilder key= new StringBuilder();
+		while (pos < length) {
+			// skip leading white space and blank lines
+			char c= content.charAt(pos);
+			if (c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n') {
+				pos++;
+				continue;
+			}
+			if (c == '#' || c == '!') {
+				pos= skipLine(content, pos);
+				continue;
+			}
+			int keyStart= pos;
+			int keyEnd= pos;
+			key.setLength(0);
+			while (pos < length) {
+				c= content.charAt(pos);
+				if (c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n')
+					break;
+				if (c == '\\' && pos + 1 < length) {
+					char next= content.charAt(pos + 1);
+					if (next == '\r' || next == '\n') {
+						// line continuation: skip the line break and the leading white space of the next line
+						pos+= 2;
+						if (next == '\r' && pos < length && content.charAt(pos) == '\n')
+							pos++;
+						while (pos < length && isWhitespace(content.charAt(pos)))
+							pos++;
+						continue;
+					}
+					pos+= 2;
+					switch (next) {
+						case 't': key.append('\t'); break;
+						case 'n': key.append('\n'); break;
+						case 'r': key.append('\r'); break;
+						case 'f': key.append('\f'); break;
+						case 'u':
+							if (pos + 4 <= length) {
+								try {
+									key.append((char) Integer.parseInt(content.substring(pos, pos + 4), 16));
+									pos+= 4;
+									break;
+								} catch (NumberFormatException e) {
+									// malformed, take the characters as they are
+								}
+							}
+							key.append(next);
+							break;
+						default: key.append(next); break;
+					}
+				} else {
+					key.append(c);
+					pos++;
+				}
+				keyEnd= pos;
+			}
+			definitions.add(new Occurrence(key.toString(), file, keyStart, keyEnd - keyStart));
+			pos= skipLine(content, pos);
+		}
+		return definitions;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+	/*
+	 * Skips to the start of the next logical line, following line continuations of values.
+	 */
+	private static int skipLine(String content, int pos) {
+		int length= content.length();
+		boolean comment= pos < length && (content.charAt(pos) == '#' || content.charAt(pos) == '!');
+		int backslashes= 0;
+		while (pos < length) {
+			char c= content.charAt(pos++);
+			if (c == '\r' || c == '\n') {
+				if (c == '\r' && pos < length && content.charAt(pos) == '\n')
+					pos++;
+				if (comment || backslashes % 2 == 0)
+					return pos;
+				backslashes= 0;
+			} else if (c == '\\') {
+				backslashes++;
+			} else {
+				backslashes= 0;
+			}
+		}
+		return pos;
+	}
+}
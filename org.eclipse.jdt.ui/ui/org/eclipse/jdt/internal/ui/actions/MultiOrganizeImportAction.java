@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,7 +56,8 @@ public class MultiOrganizeImportAction extends CleanUpAction {
 	protected ICleanUp[] getCleanUps(ICompilationUnit[] units) {
 		Map<String, String> settings= new Hashtable<>();
 		settings.put(CleanUpConstants.ORGANIZE_IMPORTS, CleanUpOptions.TRUE);
-		ImportsCleanUp importsCleanUp= new ImportsCleanUp(settings);
+		// the only clean up: the imports of all units are organized in batches up front
+		ImportsCleanUp importsCleanUp= new ImportsCleanUp(settings, true);
 
 		return new ICleanUp[] {
 			importsCleanUp
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2024 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,8 @@ import org.eclipse.jdt.core.dom.QualifiedName;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
@@ -47,7 +50,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that replaces Boolean.TRUE/Boolean.FALSE by true/false when used as primitive.
  */
-public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpFix, IFusedCleanUp {
 	public BooleanLiteralCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -82,13 +85,18 @@ public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpF
 
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.PREFER_BOOLEAN_LITERAL)) {
 			return null;
 		}
 
 		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			@Override
 			public boolean visit(final QualifiedName node) {
 				ITypeBinding typeBinding= ASTNodes.getTargetType(node);
@@ -107,14 +115,16 @@ public class BooleanLiteralCleanUp extends AbstractMultiFix implements ICleanUpF
 
 				return true;
 			}
-		});
+		}, EnumSet.of(VisitorEnum.QualifiedName));
 
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.BooleanLiteralCleanup_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+			return new CompilationUnitRewriteOperationsFix(MultiFixMessages.BooleanLiteralCleanup_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,17 +14,26 @@
 package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jface.text.IRegion;
 
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CodeFormatFix;
+import org.eclipse.jdt.internal.corext.fix.CodeFormatFix.PrecomputedIndentation;
+import org.eclipse.jdt.internal.corext.util.ParallelUtil;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
@@ -34,6 +43,28 @@ import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext
 
 public class CodeFormatCleanUp extends AbstractCleanUp {
 
+	/** number of compilation units whose indentation is computed together */
+	private static final int BATCH_SIZE= 50;
+
+	/**
+	 * The compilation units of the current project whose indentation is computed in advance,
+	 * mapped to their position in {@link #fUnits}
+	 */
+	private Map<ICompilationUnit, Integer> fUnitIndices;
+
+	private ICompilationUnit[] fUnits;
+
+	/** whether the indentation of the compilation unit at the same position has been computed */
+	private boolean[] fPrecomputed;
+
+	private IJavaProject fProject;
+
+	/**
+	 * The indentation computed in advance for compilation units that have not been fixed yet, an
+	 * entry is removed once it is used
+	 */
+	private Map<ICompilationUnit, PrecomputedIndentation> fIndentations;
+
 	public CodeFormatCleanUp() {
 		super();
 	}
@@ -42,6 +73,82 @@ public class CodeFormatCleanUp extends AbstractCleanUp {
 		super(options);
 	}
 
+	@Override
+	public RefactoringStatus checkPreConditions(IJavaProject project, ICompilationUnit[] compilationUnits, IProgressMonitor monitor) throws CoreException {
+		// the indentation is not corrected if all lines are formatted
+		if (compilationUnits.length > 1 && isEnabled(CleanUpConstants.FORMAT_CORRECT_INDENTATION) && !isEnabled(CleanUpConstants.FORMAT_SOURCE_CODE)) {
+			fProject= project;
+			fUnits= compilationUnits;
+			fPrecomputed= new boolean[compilationUnits.length];
+			fUnitIndices= new HashMap<>();
+			for (int i= 0; i < compilationUnits.length; i++) {
+				fUnitIndices.put(compilationUnits[i].getPrimary(), Integer.valueOf(i));
+			}
+			fIndentations= new ConcurrentHashMap<>();
+		}
+
+		return super.checkPreConditions(project, compilationUnits, monitor);
+	}
+
+	/*
+	 * Returns the indentation computed in advance for the given compilation unit. If there is
+	 * none, computes it together with the next compilation units that have not been computed yet.
+	 *
+	 * The indentation is only computed in advance while the compilation units are fixed for the
+	 * first time, from their unchanged content. In later passes of the clean up, a compilation unit
+	 * is a working copy containing the changes of the earlier passes, and its indentation is
+	 * computed on its own.
+	 */
+	private synchronized PrecomputedIndentation getIndentation(ICompilationUnit compilationUnit) throws CoreException {
+		if (fIndentations == null)
+			return null;
+
+		ICompilationUnit primary= compilationUnit.getPrimary();
+		PrecomputedIndentation indentation= fIndentations.remove(primary);
+		if (indentation != null || !compilationUnit.equals(primary))
+			return indentation;
+
+		Integer index= fUnitIndices.get(primary);
+		if (index == null || fPrecomputed[index.intValue()])
+			return null;
+
+		List<Integer> batch= new ArrayList<>(BATCH_SIZE);
+		for (int i= index.intValue(); i < fUnits.length && batch.size() < BATCH_SIZE; i++) {
+			if (!fPrecomputed[i]) {
+				fPrecomputed[i]= true;
+				batch.add(Integer.valueOf(i));
+			}
+		}
+		precomputeIndentations(fProject, fUnits, batch, fIndentations);
+		return fIndentations.remove(primary);
+	}
+
+	/*
+	 * Correcting the indentation of a compilation unit only depends on its content, so it is
+	 * computed for a batch of compilation units in parallel. The contents are read first, the
+	 * compilation units themselves are not accessed concurrently.
+	 */
+	private static void precomputeIndentations(IJavaProject project, ICompilationUnit[] compilationUnits, List<Integer> indices, Map<ICompilationUnit, PrecomputedIndentation> result) throws CoreException {
+		Map<Integer, String> contents= new HashMap<>();
+		for (Integer i : indices) {
+			contents.put(i, compilationUnits[i.intValue()].getBuffer().getContents());
+		}
+
+		ParallelUtil.forEach(indices, i -> result.put(compilationUnits[i.intValue()].getPrimary(), CodeFormatFix.precomputeIndentation(contents.get(i), project)), null);
+	}
+
+	@Override
+	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
+		synchronized (this) {
+			fProject= null;
+			fUnits= null;
+			fPrecomputed= null;
+			fUnitIndices= null;
+			fIndentations= null;
+		}
+		return super.checkPostConditions(monitor);
+	}
+
 	@Override
 	public CleanUpRequirements getRequirements() {
 		boolean requiresChangedRegions= isEnabled(CleanUpConstants.FORMAT_SOURCE_CODE) && isEnabled(CleanUpConstants.FORMAT_SOURCE_CODE_CHANGES_ONLY);
@@ -62,12 +169,14 @@ public class CodeFormatCleanUp extends AbstractCleanUp {
 				regions= null;
 			}
 			boolean removeWhitespaces= isEnabled(CleanUpConstants.FORMAT_REMOVE_TRAILING_WHITESPACES);
+			boolean correctIndentation= isEnabled(CleanUpConstants.FORMAT_CORRECT_INDENTATION);
 			return CodeFormatFix.createCleanUp(compilationUnit,
 					regions,
 					isEnabled(CleanUpConstants.FORMAT_SOURCE_CODE),
 					removeWhitespaces && isEnabled(CleanUpConstants.FORMAT_REMOVE_TRAILING_WHITESPACES_ALL),
 					removeWhitespaces && isEnabled(CleanUpConstants.FORMAT_REMOVE_TRAILING_WHITESPACES_IGNORE_EMPTY),
-					isEnabled(CleanUpConstants.FORMAT_CORRECT_INDENTATION));
+					correctIndentation,
+					correctIndentation ? getIndentation(compilationUnit) : null);
 		} catch (CoreException e) {
 			throw new CoreException(Status.error("Error formating " + compilationUnit.getPath(), e)); //$NON-NLS-1$
 		} catch (RuntimeException e) {
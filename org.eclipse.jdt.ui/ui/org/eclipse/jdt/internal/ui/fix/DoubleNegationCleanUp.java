@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,8 @@ import org.eclipse.jdt.core.dom.PrefixExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
@@ -51,7 +54,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Prefer equality/difference operation rather than negated operand.</li>
  * </ul>
  */
-public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpFix, IFusedCleanUp {
 	public DoubleNegationCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -94,13 +97,18 @@ public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpF
 
 	@Override
 	protected ICleanUpFix createFix(final CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(final CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.DOUBLE_NEGATION)) {
 			return null;
 		}
 
 		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			@Override
 			public boolean visit(final InfixExpression visited) {
 				if (ASTNodes.hasOperator(visited, InfixExpression.Operator.EQUALS, InfixExpression.Operator.NOT_EQUALS, InfixExpression.Operator.XOR)
@@ -128,14 +136,16 @@ public class DoubleNegationCleanUp extends AbstractMultiFix implements ICleanUpF
 
 				return true;
 			}
-		});
+		}, EnumSet.of(VisitorEnum.InfixExpression));
 
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.DoubleNegationCleanUp_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+			return new CompilationUnitRewriteOperationsFix(MultiFixMessages.DoubleNegationCleanUp_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Fabrice TIERCELIN and others.
+ * Copyright (c) 2020, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +45,8 @@ import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
@@ -60,7 +63,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 /**
  * A fix that raises embedded if into parent if.
  */
-public class EmbeddedIfCleanUp extends AbstractMultiFix implements ICleanUpFix {
+public class EmbeddedIfCleanUp extends AbstractMultiFix implements ICleanUpFix, IFusedCleanUp {
 	public EmbeddedIfCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -107,13 +110,18 @@ public class EmbeddedIfCleanUp extends AbstractMultiFix implements ICleanUpFix {
 
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.RAISE_EMBEDDED_IF)) {
 			return null;
 		}
 
 		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			@Override
 			public boolean visit(final IfStatement visited) {
 				if (visited.getElseStatement() == null) {
@@ -136,14 +144,16 @@ public class EmbeddedIfCleanUp extends AbstractMultiFix implements ICleanUpFix {
 
 				return true;
 			}
-		});
+		}, EnumSet.of(VisitorEnum.IfStatement));
 
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.EmbeddedIfCleanup_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+			return new CompilationUnitRewriteOperationsFix(MultiFixMessages.EmbeddedIfCleanup_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[0]));
+		};
 	}
 
 	@Override
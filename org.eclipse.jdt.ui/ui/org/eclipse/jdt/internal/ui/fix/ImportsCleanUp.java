@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.fix;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -27,6 +28,7 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.ImportsFix;
+import org.eclipse.jdt.internal.corext.fix.ImportsFix.PrecomputedFix;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
@@ -39,22 +41,52 @@ public class ImportsCleanUp extends AbstractCleanUp {
 	private CodeGenerationSettings fCodeGeneratorSettings;
 	private RefactoringStatus fStatus;
 
+	/**
+	 * <code>true</code> if no other clean up runs with this one, the fixes of all units are then
+	 * computed in {@link #checkPreConditions(IJavaProject, ICompilationUnit[], IProgressMonitor)}
+	 */
+	private final boolean fPrecomputeFixes;
+	private Map<ICompilationUnit, PrecomputedFix> fPrecomputedFixes;
+
 	public ImportsCleanUp(Map<String, String> options) {
-		super(options);
+		this(options, false);
     }
 
+	/**
+	 * @param options the options
+	 * @param onlyCleanUp <code>true</code> if no other clean up runs with this one. The imports of
+	 *            all units are then organized in batches before the units are cleaned up, and
+	 *            the clean up does not need the ASTs of the clean up refactoring.
+	 */
+	public ImportsCleanUp(Map<String, String> options, boolean onlyCleanUp) {
+		super(options);
+		fPrecomputeFixes= onlyCleanUp;
+	}
+
 	public ImportsCleanUp() {
 		super();
+		fPrecomputeFixes= false;
     }
 
 	@Override
 	public CleanUpRequirements getRequirements() {
 		boolean isOrganizeImports= isEnabled(CleanUpConstants.ORGANIZE_IMPORTS);
+		if (fPrecomputeFixes)
+			return new CleanUpRequirements(false, false, false, null);
 		return new CleanUpRequirements(isOrganizeImports, isOrganizeImports, false, null);
 	}
 
     @Override
 	public ICleanUpFix createFix(CleanUpContext context) throws CoreException {
+		if (fPrecomputedFixes != null) {
+			ICompilationUnit unit= context.getCompilationUnit();
+			PrecomputedFix precomputed= fPrecomputedFixes.remove(unit.getPrimary());
+			if (precomputed != null && precomputed.isValid(unit))
+				return precomputed.fix();
+			// changed since the fixes were computed
+			return ImportsFix.createCleanUp(unit, fCodeGeneratorSettings, fStatus);
+		}
+
     	CompilationUnit compilationUnit= context.getAST();
     	if (compilationUnit == null)
     		return null;
@@ -68,7 +100,13 @@ public class ImportsCleanUp extends AbstractCleanUp {
 
 		if (isEnabled(CleanUpConstants.ORGANIZE_IMPORTS)) {
     		fCodeGeneratorSettings= JavaPreferencesSettings.getCodeGenerationSettings(project);
-    		fStatus= new RefactoringStatus();
+    		if (fStatus == null)
+    			fStatus= new RefactoringStatus();
+    		if (fPrecomputeFixes) {
+    			if (fPrecomputedFixes == null)
+    				fPrecomputedFixes= new HashMap<>();
+    			fPrecomputedFixes.putAll(ImportsFix.createCleanUps(project, compilationUnits, fCodeGeneratorSettings, fStatus, monitor));
+    		}
 		}
 
 		return super.checkPreConditions(project, compilationUnits, monitor);
@@ -77,6 +115,7 @@ public class ImportsCleanUp extends AbstractCleanUp {
     @Override
 	public RefactoringStatus checkPostConditions(IProgressMonitor monitor) throws CoreException {
     	fCodeGeneratorSettings= null;
+    	fPrecomputedFixes= null;
     	try {
 	    	if (fStatus == null || fStatus.isOK()) {
 	    		return super.checkPostConditions(monitor);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,8 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.NumberLiteral;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CompilationUnitRewriteOperationsFix;
@@ -47,7 +50,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Lowercase suffix is ambiguous. 'l' can be seen as '1'.</li>
  * </ul>
  */
-public class NumberSuffixCleanUp extends AbstractMultiFix {
+public class NumberSuffixCleanUp extends AbstractMultiFix implements IFusedCleanUp {
 	public NumberSuffixCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -86,13 +89,18 @@ public class NumberSuffixCleanUp extends AbstractMultiFix {
 
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.NUMBER_SUFFIX)) {
 			return null;
 		}
 
 		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			@Override
 			public boolean visit(NumberLiteral node) {
 				final String token= node.getToken();
@@ -104,14 +112,16 @@ public class NumberSuffixCleanUp extends AbstractMultiFix {
 
 				return true;
 			}
-		});
+		}, EnumSet.of(VisitorEnum.NumberLiteral));
 
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.CodeStyleCleanUp_numberSuffix_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+			return new CompilationUnitRewriteOperationsFix(MultiFixMessages.CodeStyleCleanUp_numberSuffix_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+		};
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Fabrice TIERCELIN and others.
+ * Copyright (c) 2019, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.fix;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,8 @@ import org.eclipse.jdt.core.dom.InfixExpression;
 import org.eclipse.jdt.core.dom.PrefixExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+import org.eclipse.jdt.internal.common.VisitorEnum;
 import org.eclipse.jdt.internal.corext.dom.ASTNodeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
@@ -53,7 +56,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
  * <li>Reverses arithmetic expressions.</li>
  * </ul>
  */
-public class PushDownNegationCleanUp extends AbstractMultiFix {
+public class PushDownNegationCleanUp extends AbstractMultiFix implements IFusedCleanUp {
 	public PushDownNegationCleanUp() {
 		this(Collections.emptyMap());
 	}
@@ -93,13 +96,18 @@ public class PushDownNegationCleanUp extends AbstractMultiFix {
 
 	@Override
 	protected ICleanUpFix createFix(CompilationUnit unit) throws CoreException {
+		return createFixInOwnTraversal(unit);
+	}
+
+	@Override
+	public IFusedFix prepareFix(CompilationUnit unit, FusedASTVisitor traversal) throws CoreException {
 		if (!isEnabled(CleanUpConstants.PUSH_DOWN_NEGATION)) {
 			return null;
 		}
 
 		final List<CompilationUnitRewriteOperationWithSourceRange> rewriteOperations= new ArrayList<>();
 
-		unit.accept(new ASTVisitor() {
+		traversal.register(new ASTVisitor() {
 			PrefixExpression secondNotOperator= null;
 			@Override
 			public boolean visit(PrefixExpression node) {
@@ -145,27 +153,29 @@ public class PushDownNegationCleanUp extends AbstractMultiFix {
 
 				return true;
 			}
-		});
+		}, EnumSet.of(VisitorEnum.PrefixExpression));
 
-		if (rewriteOperations.isEmpty()) {
-			return null;
-		}
+		return () -> {
+			if (rewriteOperations.isEmpty()) {
+				return null;
+			}
 
-		RemoveDoubleNegationOperation lastDoubleNegation= null;
-		for (CompilationUnitRewriteOperationWithSourceRange op : rewriteOperations) {
-			if (op instanceof ReplacementOperation) {
-				ReplacementOperation chainedOp= (ReplacementOperation) op;
-				if (lastDoubleNegation != null && chainedOp.getNode().subtreeMatch(new ASTMatcher(), lastDoubleNegation.getReplacementExpression())) {
-					lastDoubleNegation.setNextOperation(chainedOp);
-				}
-				if (op instanceof RemoveDoubleNegationOperation) {
-					lastDoubleNegation= (RemoveDoubleNegationOperation) op;
+			RemoveDoubleNegationOperation lastDoubleNegation= null;
+			for (CompilationUnitRewriteOperationWithSourceRange op : rewriteOperations) {
+				if (op instanceof ReplacementOperation) {
+					ReplacementOperation chainedOp= (ReplacementOperation) op;
+					if (lastDoubleNegation != null && chainedOp.getNode().subtreeMatch(new ASTMatcher(), lastDoubleNegation.getReplacementExpression())) {
+						lastDoubleNegation.setNextOperation(chainedOp);
+					}
+					if (op instanceof RemoveDoubleNegationOperation) {
+						lastDoubleNegation= (RemoveDoubleNegationOperation) op;
+					}
 				}
 			}
-		}
 
-		return new CompilationUnitRewriteOperationsFix(MultiFixMessages.PushDownNegationCleanup_description, unit,
-				rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+			return new CompilationUnitRewriteOperationsFix(MultiFixMessages.PushDownNegationCleanup_description, unit,
+					rewriteOperations.toArray(new CompilationUnitRewriteOperationWithSourceRange[rewriteOperations.size()]));
+		};
 	}
 
 	@Override
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.jarpackager.JarArchiveOutputStream;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * State of an incremental JAR export.
+ * <p>
+ * For every exported JAR file, the stamps of the files its entries were created from are kept in
+ * the plug-in state location. A stamp consists of the modification time, the size and a CRC-32
+ * checksum of the content of the file. When the JAR file is exported again, the previous archive is
+ * moved aside and entries whose file has the same stamp are copied from it without compressing the
+ * file again.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class IncrementalJarExport {
+
+	private static final String INDEX_DIR= "jar-export"; //$NON-NLS-1$
+
+	private static final int FORMAT_VERSION= 2;
+
+	private final File fJarFile;
+
+	private final File fIndexFile;
+
+	private final Map<String, String> fPreviousStamps;
+
+	private final Map<String, String> fStamps= new HashMap<>();
+
+	private final File fPreviousJarFile;
+
+	private ZipFile fPreviousJar;
+
+	private int fReused;
+
+	private int fRewritten;
+
+	private IncrementalJarExport(File jarFile, File indexFile, Map<String, String> previousStamps, File previousJarFile, ZipFile previousJar) {
+		fJarFile= jarFile;
+		fIndexFile= indexFile;
+		fPreviousStamps= previousStamps;
+		fPreviousJarFile= previousJarFile;
+		fPreviousJar= previousJar;
+	}
+
+	/**
+	 * Prepares the incremental export of the given JAR file. Must be called before the JAR file is
+	 * opened for writing: the previous archive is moved aside.
+	 *
+	 * @param jarFile the JAR file to export
+	 * @return the state of the export, never <code>null</code>
+	 */
+	public static IncrementalJarExport open(File jarFile) {
+		File indexFile= getIndexFile(jarFile);
+		Map<String, String> previousStamps= indexFile != null ? readIndex(indexFile, jarFile) : null;
+		if (previousStamps == null) {
+			return new IncrementalJarExport(jarFile, indexFile, new HashMap<>(), null, null);
+		}
+		File previousJarFile= new File(jarFile.getPath() + ".previous"); //$NON-NLS-1$
+		try {
+			Files.move(jarFile.toPath(), previousJarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return new IncrementalJarExport(jarFile, indexFile, previousStamps, previousJarFile, new ZipFile(previousJarFile));
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			previousJarFile.delete();
+			return new IncrementalJarExport(jarFile, indexFile, new HashMap<>(), null, null);
+		}
+	}
+
+	/**
+	 * Copies the entry from the previous archive if the file it is created from did not change.
+	 *
+	 * @param out the archive to write to
+	 * @param entry the entry to write
+	 * @param stamp the stamp of the file the entry is created from, or <code>null</code> if not
+	 *            known
+	 * @return <code>true</code> if the entry has been copied, <code>false</code> if the caller has
+	 *         to write it
+	 * @throws IOException if writing the archive fails
+	 */
+	public boolean reuse(JarArchiveOutputStream out, JarEntry entry, String stamp) throws IOException {
+		String name= entry.getName();
+		if (stamp == null) {
+			fRewritten++;
+			return false;
+		}
+		fStamps.put(name, stamp);
+		if (fPreviousJar != null && stamp.equals(fPreviousStamps.get(name))) {
+			ZipEntry previous= fPreviousJar.getEntry(name);
+			if (previous != null && out.copyEntry(fPreviousJar, previous, entry)) {
+				fReused++;
+				return true;
+			}
+		}
+		fRewritten++;
+		return false;
+	}
+
+	public int getReusedCount() {
+		return fReused;
+	}
+
+	public int getRewrittenCount() {
+		return fRewritten;
+	}
+
+	/**
+	 * Finishes the export after the JAR file has been closed. If the export succeeded, the
+	 * previous archive is removed and the stamps of the new one are stored, otherwise the previous
+	 * archive is restored.
+	 *
+	 * @param success <code>true</code> if the JAR file has been written successfully
+	 */
+	public void close(boolean success) {
+		if (fPreviousJar != null) {
+			try {
+				fPreviousJar.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fPreviousJar= null;
+			if (success) {
+				fPreviousJarFile.delete();
+			} else {
+				try {
+					Files.move(fPreviousJarFile.toPath(), fJarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					return;
+				} catch (IOException e) {
+					JavaPlugin.log(e);
+					fPreviousJarFile.delete();
+				}
+			}
+		}
+		if (fIndexFile != null) {
+			if (success) {
+				writeIndex();
+			} else {
+				fIndexFile.delete();
+			}
+		}
+	}
+
+	private static File getIndexFile(File jarFile) {
+		try {
+			File dir= JavaPlugin.getDefault().getStateLocation().append(INDEX_DIR).toFile();
+			if (!dir.isDirectory() && !dir.mkdirs()) {
+				return null;
+			}
+			return new File(dir, Integer.toHexString(jarFile.getAbsolutePath().hashCode()) + ".index"); //$NON-NLS-1$
+		} catch (IllegalStateException e) {
+			// no state location
+			return null;
+		}
+	}
+
+	/*
+	 * Returns the stamps of the entries of the given JAR file, or null if the JAR file does not
+	 * exist or has been changed since it was exported.
+	 */
+	private static Map<String, String> readIndex(File indexFile, File jarFile) {
+		if (!indexFile.isFile() || !jarFile.isFile()) {
+			return null;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION
+					|| !jarFile.getAbsolutePath().equals(in.readUTF())
+					|| in.readLong() != jarFile.lastModified()
+					|| in.readLong() != jarFile.length()) {
+				return null;
+			}
+			int count= in.readInt();
+			Map<String, String> stamps= new HashMap<>(count * 2);
+			for (int i= 0; i < count; i++) {
+				stamps.put(in.readUTF(), in.readUTF());
+			}
+			return stamps;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void writeIndex() {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fIndexFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(fJarFile.getAbsolutePath());
+			out.writeLong(fJarFile.lastModified());
+			out.writeLong(fJarFile.length());
+			out.writeInt(fStamps.size());
+			for (Map.Entry<String, String> entry : fStamps.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeUTF(entry.getValue());
+			}
+		} catch (IOException e) {
+			fIndexFile.delete();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,8 +22,12 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
 import org.eclipse.jdt.ui.jarpackager.IJarBuilder;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
+import org.eclipse.jdt.ui.jarpackager.JarWriter3;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
@@ -66,6 +70,21 @@ public abstract class JarBuilder implements IJarBuilder {
 		fStatus.add(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, message, error));
 	}
 
+	/**
+	 * Reports the number of reused and rewritten entries of an incremental export.
+	 *
+	 * @param jarPackage the exported JAR package
+	 * @param jarWriter the closed writer of the JAR file
+	 */
+	protected final void addIncrementalExportInfo(JarPackageData jarPackage, JarWriter3 jarWriter) {
+		if (jarPackage.isIncremental()) {
+			addInfo(Messages.format(JarPackagerMessages.JarFileExportOperation_incrementalExport_info, new Object[] {
+					BasicElementLabels.getPathLabel(jarPackage.getAbsoluteJarLocation(), true),
+					Integer.valueOf(jarWriter.getReusedEntryCount()),
+					Integer.valueOf(jarWriter.getRewrittenEntryCount()) }), null);
+		}
+	}
+
 	protected final void addToStatus(CoreException ex) {
 		IStatus status= ex.getStatus();
 		String message= ex.getLocalizedMessage();
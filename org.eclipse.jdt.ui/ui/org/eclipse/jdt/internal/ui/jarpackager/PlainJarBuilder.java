@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2011 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -72,6 +72,7 @@ public class PlainJarBuilder extends JarBuilder {
 	public void close() throws CoreException {
 		if (fJarWriter != null) {
 			fJarWriter.close();
+			addIncrementalExportInfo(fJarPackage, fJarWriter);
 		}
 	}
 
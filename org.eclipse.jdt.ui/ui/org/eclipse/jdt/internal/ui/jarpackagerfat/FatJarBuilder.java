@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2011 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,7 @@ public abstract class FatJarBuilder extends JarBuilder implements IJarBuilderExt
 	public void close() throws CoreException {
 		if (fJarWriter != null) {
 			fJarWriter.close();
+			addIncrementalExportInfo(fJarPackage, fJarWriter);
 		}
 	}
 
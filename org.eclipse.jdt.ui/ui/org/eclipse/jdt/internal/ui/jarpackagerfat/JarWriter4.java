@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,28 @@ public class JarWriter4 extends JarWriter3 {
 		jarOutputStream.write(content);
 	}
 
+	/**
+	 * Writes the content uncompressed, regardless of the compression setting of the JAR package.
+	 *
+	 * @param content the content of the entry
+	 * @param path the path of the entry
+	 * @throws IOException if writing the entry fails
+	 *
+	 * @since 3.36
+	 */
+	public void addStoredEntry(byte[] content, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		newEntry.setMethod(ZipEntry.STORED);
+		JarPackagerUtil.setCrcAndSize(newEntry, content);
+		newEntry.setTime(System.currentTimeMillis());
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		jarOutputStream.putNextEntry(newEntry);
+		jarOutputStream.write(content);
+	}
+
 	public void write(File file, IPath destinationPath) throws CoreException {
 		try {
 			addFile(file, destinationPath);
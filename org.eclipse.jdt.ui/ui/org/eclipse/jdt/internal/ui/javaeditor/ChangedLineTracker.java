@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * Tracks the changes to the document of a file buffer since it was last saved, so that the
+ * changed lines can be computed on save without comparing the whole document with the file
+ * content.
+ * <p>
+ * Every changed range of the document is recorded together with the text it had when the buffer
+ * was saved. On save, only the lines of these ranges are compared with their saved text. Changes
+ * that were undone, or typed back, therefore do not count as changed lines.
+ * </p>
+ * <p>
+ * The tracker starts over with every change to a buffer that is not dirty. It gives up if the
+ * buffer is dirty when it starts, if there are too many separate changes or if the file was
+ * changed on disk. In that case {@link EditorUtility#calculateChangedLineRegions(ITextFileBuffer, org.eclipse.core.runtime.IProgressMonitor)}
+ * has to be used instead.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class ChangedLineTracker implements IDocumentListener {
+
+	/** the maximum number of separate changed ranges before tracking is given up */
+	private static final int MAX_HUNKS= 1000;
+
+	/**
+	 * A changed range of the document and the text it had when the buffer was saved.
+	 */
+	private static final class Hunk {
+		int fOffset;
+		int fLength;
+		final String fOriginal;
+
+		Hunk(int offset, int length, String original) {
+			fOffset= offset;
+			fLength= length;
+			fOriginal= original;
+		}
+	}
+
+	private final ITextFileBuffer fBuffer;
+	private final IDocument fDocument;
+	/** the changed ranges, sorted by offset and neither overlapping nor adjacent */
+	private final List<Hunk> fHunks= new ArrayList<>();
+	private boolean fLost;
+
+	public ChangedLineTracker(ITextFileBuffer buffer) {
+		fBuffer= buffer;
+		fDocument= buffer.getDocument();
+		fLost= buffer.isDirty();
+		fDocument.addDocumentListener(this);
+	}
+
+	public void dispose() {
+		fDocument.removeDocumentListener(this);
+	}
+
+	@Override
+	public synchronized void documentAboutToBeChanged(DocumentEvent event) {
+		if (!fBuffer.isDirty()) {
+			// the document has the saved content
+			fHunks.clear();
+			fLost= false;
+		}
+		if (fLost)
+			return;
+		String text= event.getText();
+		try {
+			record(event.getOffset(), event.getLength(), text == null ? 0 : text.length());
+		} catch (BadLocationException e) {
+			lose();
+			return;
+		}
+		if (fHunks.size() > MAX_HUNKS)
+			lose();
+	}
+
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		// changes are recorded before they are applied
+	}
+
+	/**
+	 * Returns the regions of the lines that differ from the saved content, like
+	 * {@link EditorUtility#calculateChangedLineRegions(ITextFileBuffer, org.eclipse.core.runtime.IProgressMonitor)}.
+	 *
+	 * @return the changed regions or <code>null</code> if the changes are not known
+	 */
+	public synchronized IRegion[] getChangedLineRegions() {
+		if (fLost || !fBuffer.isSynchronized())
+			return null;
+		if (!fBuffer.isDirty())
+			return new IRegion[0];
+		try {
+			return computeChangedLineRegions();
+		} catch (BadLocationException e) {
+			lose();
+			return null;
+		}
+	}
+
+	private void lose() {
+		fLost= true;
+		fHunks.clear();
+	}
+
+	private void record(int offset, int length, int newLength) throws BadLocationException {
+		int end= offset + length;
+		int first= 0;
+		while (first < fHunks.size() && fHunks.get(first).fOffset + fHunks.get(first).fLength < offset)
+			first++;
+		int last= first;
+		while (last < fHunks.size() && fHunks.get(last).fOffset <= end)
+			last++;
+
+		int start= offset;
+		int oldEnd= end;
+		if (first < last) {
+			Hunk firstHunk= fHunks.get(first);
+			Hunk lastHunk= fHunks.get(last - 1);
+			start= Math.min(offset, firstHunk.fOffset);
+			oldEnd= Math.max(end, lastHunk.fOffset + lastHunk.fLength);
+		}
+
+		StringBuilder original= new StringBuilder();
+		int position= start;
+		for (int i= first; i < last; i++) {
+			Hunk hunk= fHunks.get(i);
+			original.append(fDocument.get(position, hunk.fOffset - position));
+			original.append(hunk.fOriginal);
+			position= hunk.fOffset + hunk.fLength;
+		}
+		original.append(fDocument.get(position, oldEnd - position));
+
+		List<Hunk> merged= fHunks.subList(first, last);
+		merged.clear();
+		merged.add(new Hunk(start, oldEnd - start - length + newLength, original.toString()));
+
+		int delta= newLength - length;
+		for (int i= first + 1; i < fHunks.size(); i++)
+			fHunks.get(i).fOffset+= delta;
+	}
+
+	private IRegion[] computeChangedLineRegions() throws BadLocationException {
+		List<IRegion> regions= new ArrayList<>();
+		int i= 0;
+		while (i < fHunks.size()) {
+			// compare the whole lines of all changed ranges on them with their saved content
+			Hunk hunk= fHunks.get(i);
+			int start= fDocument.getLineOffset(fDocument.getLineOfOffset(hunk.fOffset));
+			StringBuilder original= new StringBuilder();
+			int position= start;
+			int end;
+			while (true) {
+				original.append(fDocument.get(position, hunk.fOffset - position));
+				original.append(hunk.fOriginal);
+				position= hunk.fOffset + hunk.fLength;
+				int line= fDocument.getLineOfOffset(position);
+				end= fDocument.getLineOffset(line) + fDocument.getLineLength(line);
+				i++;
+				if (i == fHunks.size() || fHunks.get(i).fOffset >= end)
+					break;
+				hunk= fHunks.get(i);
+			}
+			original.append(fDocument.get(position, end - position));
+
+			String current= fDocument.get(start, end - start);
+			if (current.contentEquals(original))
+				continue;
+			IRegion[] changed= EditorUtility.getChangedLineRegions(new Document(original.toString()), new Document(current));
+			for (IRegion region : changed)
+				add(regions, new Region(start + region.getOffset(), region.getLength()));
+		}
+		return regions.toArray(new IRegion[regions.size()]);
+	}
+
+	/*
+	 * Adds the region, merging it with the previous one if it starts on the following line, like
+	 * successive changed lines are merged when comparing the whole document.
+	 */
+	private void add(List<IRegion> regions, IRegion region) throws BadLocationException {
+		if (!regions.isEmpty()) {
+			IRegion previous= regions.get(regions.size() - 1);
+			int previousEnd= previous.getOffset() + previous.getLength();
+			if (fDocument.getLineOfOffset(region.getOffset()) == fDocument.getLineOfOffset(previousEnd) + 1) {
+				regions.set(regions.size() - 1, new Region(previous.getOffset(), region.getOffset() + region.getLength() - previous.getOffset()));
+				return;
+			}
+		}
+		regions.add(region);
+	}
+}
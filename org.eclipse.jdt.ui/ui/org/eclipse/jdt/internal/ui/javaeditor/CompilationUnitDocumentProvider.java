@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -137,6 +137,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 	 */
 	static protected class CompilationUnitInfo extends FileInfo {
 		public ICompilationUnit fCopy;
+		/**
+		 * Tracks the changed lines for the save participants.
+		 * @since 3.36
+		 */
+		ChangedLineTracker fChangedLineTracker;
 	}
 
 	/**
@@ -1028,6 +1033,9 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 		if (cuInfo.fModel != null)
 			cuInfo.fModel.addAnnotationModelListener(fGlobalAnnotationModelListener);
 
+		if (cuInfo.fTextFileBuffer != null)
+			cuInfo.fChangedLineTracker= new ChangedLineTracker(cuInfo.fTextFileBuffer);
+
 		return cuInfo;
 	}
 
@@ -1239,6 +1247,11 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 
 			if (cuInfo.fModel != null)
 				cuInfo.fModel.removeAnnotationModelListener(fGlobalAnnotationModelListener);
+
+			if (cuInfo.fChangedLineTracker != null) {
+				cuInfo.fChangedLineTracker.dispose();
+				cuInfo.fChangedLineTracker= null;
+			}
 		}
 		super.disposeFileInfo(element, info);
 	}
@@ -1374,7 +1387,10 @@ public class CompilationUnitDocumentProvider extends TextFileDocumentProvider im
 				IRegion[] changedRegions= null;
 				if (needsChangedRegions) {
 					try {
-						changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
+						if (info.fChangedLineTracker != null)
+							changedRegions= info.fChangedLineTracker.getChangedLineRegions();
+						if (changedRegions == null)
+							changedRegions= EditorUtility.calculateChangedLineRegions(info.fTextFileBuffer, getSubProgressMonitor(monitor, 20));
 					} catch (CoreException ex) {
 						changedRegionException= ex;
 					} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -200,6 +200,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.Occu
 import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -242,6 +243,7 @@ import org.eclipse.jdt.internal.ui.text.JavaWordIterator;
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaExpandHover;
 import org.eclipse.jdt.internal.ui.text.java.hover.SourceViewerInformationControl;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.util.ElementValidator;
 import org.eclipse.jdt.internal.ui.util.JavaUIHelp;
 import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
@@ -1686,6 +1688,27 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	private OccurrencesFinderJob fOccurrencesFinderJob;
 	/** The occurrences finder job canceler */
 	private OccurrencesFinderJobCanceler fOccurrencesFinderJobCanceler;
+	/**
+	 * The occurrences of all names in the AST the occurrences were last marked for, or
+	 * <code>null</code> if not yet indexed.
+	 * @since 3.36
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
+	/**
+	 * The job indexing the occurrences of the latest AST, or <code>null</code>.
+	 * @since 3.36
+	 */
+	private Job fOccurrencesIndexJob;
+	/**
+	 * The AST indexed by {@link #fOccurrencesIndexJob}.
+	 * @since 3.36
+	 */
+	private CompilationUnit fOccurrencesIndexJobAST;
+	/**
+	 * Renders the Javadoc of the library member under the caret in advance.
+	 * @since 3.36
+	 */
+	private ISelectionListenerWithAST fJavadocPrefetchListener;
 	/**
 	 * This editor's projection support
 	 * @since 3.0
@@ -2639,6 +2662,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 		uninstallSemanticHighlighting();
 
+		if (fJavadocPrefetchListener != null) {
+			SelectionListenerWithASTManager.getDefault().removeListener(this, fJavadocPrefetchListener);
+			fJavadocPrefetchListener= null;
+		}
+
 		if (fActivationListener != null) {
 			PlatformUI.getWorkbench().removeWindowListener(fActivationListener);
 			fActivationListener= null;
@@ -3118,6 +3146,9 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			installJavaCodeMining();
 		}
 
+		fJavadocPrefetchListener= (part, selection, astRoot) -> JavadocContentCache.getDefault().prefetch(astRoot, selection.getOffset());
+		SelectionListenerWithASTManager.getDefault().addListener(this, fJavadocPrefetchListener);
+
 		PlatformUI.getWorkbench().addWindowListener(fActivationListener);
 	}
 
@@ -3345,9 +3376,14 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
-				if (finder.initialize(astRoot, selectedNode) == null) {
-					locations= finder.getOccurrences();
+				OccurrencesIndex index= getOccurrencesIndex(astRoot);
+				if (index != null) {
+					locations= index.getOccurrences(selectedNode);
+				} else {
+					OccurrencesFinder finder= new OccurrencesFinder();
+					if (finder.initialize(astRoot, selectedNode) == null) {
+						locations= finder.getOccurrences();
+					}
 				}
 			}
 		}
@@ -3367,6 +3403,55 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		fOccurrencesFinderJob.run(new NullProgressMonitor());
 	}
 
+	/**
+	 * Returns the occurrences index of the given AST. If the AST has not been indexed yet, starts
+	 * indexing it in the background, so that the occurrences of the following selections in the
+	 * same AST are looked up instead of searched.
+	 *
+	 * @param astRoot the compilation unit AST
+	 * @return the index or <code>null</code> if the AST is not indexed yet
+	 * @since 3.36
+	 */
+	private OccurrencesIndex getOccurrencesIndex(CompilationUnit astRoot) {
+		OccurrencesIndex index= fOccurrencesIndex;
+		if (index != null && index.getASTRoot() == astRoot)
+			return index;
+		synchronized (this) {
+			if (fOccurrencesIndexJobAST == astRoot)
+				return null;
+			if (fOccurrencesIndexJob != null)
+				fOccurrencesIndexJob.cancel();
+			fOccurrencesIndex= null;
+			fOccurrencesIndexJobAST= astRoot;
+			fOccurrencesIndexJob= Job.create(JavaEditorMessages.JavaEditor_markOccurrences_job_name, monitor -> {
+				OccurrencesIndex newIndex= new OccurrencesIndex(astRoot);
+				synchronized (JavaEditor.this) {
+					if (fOccurrencesIndexJobAST == astRoot && fMarkOccurrenceAnnotations) {
+						fOccurrencesIndex= newIndex;
+						fOccurrencesIndexJob= null;
+					}
+				}
+			});
+			fOccurrencesIndexJob.setPriority(Job.DECORATE);
+			fOccurrencesIndexJob.setSystem(true);
+			fOccurrencesIndexJob.schedule();
+		}
+		return null;
+	}
+
+	/**
+	 * Drops the occurrences index and cancels indexing.
+	 * @since 3.36
+	 */
+	private synchronized void disposeOccurrencesIndex() {
+		if (fOccurrencesIndexJob != null) {
+			fOccurrencesIndexJob.cancel();
+			fOccurrencesIndexJob= null;
+		}
+		fOccurrencesIndexJobAST= null;
+		fOccurrencesIndex= null;
+	}
+
 	protected void installOccurrencesFinder(boolean forceUpdate) {
 		fMarkOccurrenceAnnotations= true;
 
@@ -3409,6 +3494,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			fPostSelectionListenerWithAST= null;
 		}
 
+		disposeOccurrencesIndex();
 		removeOccurrenceAnnotations();
 	}
 
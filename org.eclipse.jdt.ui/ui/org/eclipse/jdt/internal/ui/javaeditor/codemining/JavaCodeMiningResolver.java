@@ -0,0 +1,530 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.ITextViewerExtension5;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceReference;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.FieldReferenceMatch;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Computes the reference and implementation counts shown by the Java element code minings of one
+ * editor in batches.
+ * <p>
+ * The provider registers all elements that get a mining. When the first count is requested, the
+ * references of all registered elements are searched with a single OR pattern, and the
+ * implementations are counted with one type hierarchy per declaring type. Elements on the visible
+ * lines of the viewer are resolved before the others.
+ * </p>
+ * <p>
+ * Counts are cached per element handle until the next Java element delta.
+ * </p>
+ *
+ * @since 3.36
+ */
+public class JavaCodeMiningResolver {
+
+	private static final Map<String, Long> fgCounts= new ConcurrentHashMap<>();
+
+	private static final AtomicInteger fgGeneration= new AtomicInteger();
+
+	private static IElementChangedListener fgListener;
+
+	private final ITextViewer viewer;
+
+	private final IProgressMonitor monitor;
+
+	private final Set<IJavaElement> referenceElements= new HashSet<>();
+
+	private final Set<IJavaElement> implementationElements= new HashSet<>();
+
+	private final Map<IJavaElement, CompletableFuture<Long>> referenceCounts= new HashMap<>();
+
+	private final Map<IJavaElement, CompletableFuture<Long>> implementationCounts= new HashMap<>();
+
+	private final Map<IType, IType[]> subtypesByType= new HashMap<>();
+
+	private boolean started;
+
+	public JavaCodeMiningResolver(ITextViewer viewer, IProgressMonitor monitor) {
+		this.viewer= viewer;
+		this.monitor= monitor;
+		installListener();
+	}
+
+	/**
+	 * Registers an element whose references will be counted.
+	 *
+	 * @param element the element
+	 */
+	public synchronized void addReferenceElement(IJavaElement element) {
+		referenceElements.add(element);
+	}
+
+	/**
+	 * Registers a type or method whose implementations will be counted.
+	 *
+	 * @param element the type or method
+	 */
+	public synchronized void addImplementationElement(IJavaElement element) {
+		implementationElements.add(element);
+	}
+
+	/**
+	 * Returns the number of references to the given registered element.
+	 *
+	 * @param element the element
+	 * @return the future number of references
+	 */
+	public CompletableFuture<Long> getReferenceCount(IJavaElement element) {
+		return getCount(element, referenceCounts);
+	}
+
+	/**
+	 * Returns the number of implementations of the given registered type or method.
+	 *
+	 * @param element the type or method
+	 * @return the future number of implementations
+	 */
+	public CompletableFuture<Long> getImplementationCount(IJavaElement element) {
+		return getCount(element, implementationCounts);
+	}
+
+	private CompletableFuture<Long> getCount(IJavaElement element, Map<IJavaElement, CompletableFuture<Long>> counts) {
+		synchronized (this) {
+			if (!started) {
+				started= true;
+				start();
+			}
+			CompletableFuture<Long> count= counts.get(element);
+			if (count != null) {
+				return count;
+			}
+		}
+		// not registered
+		return CompletableFuture.completedFuture(Long.valueOf(0));
+	}
+
+	private void start() {
+		Map<IJavaElement, CompletableFuture<Long>> references= new LinkedHashMap<>();
+		Map<IJavaElement, CompletableFuture<Long>> implementations= new LinkedHashMap<>();
+		for (IJavaElement element : referenceElements) {
+			references.put(element, new CompletableFuture<>());
+		}
+		for (IJavaElement element : implementationElements) {
+			implementations.put(element, new CompletableFuture<>());
+		}
+		referenceCounts.putAll(references);
+		implementationCounts.putAll(implementations);
+
+		CompletableFuture.runAsync(() -> {
+			int[] visibleLines= getVisibleLines();
+			IDocument document= viewer.getDocument();
+			Map<IJavaElement, CompletableFuture<Long>> visibleReferences= new LinkedHashMap<>();
+			Map<IJavaElement, CompletableFuture<Long>> visibleImplementations= new LinkedHashMap<>();
+			references.forEach((element, count) -> {
+				if (isVisible(element, document, visibleLines)) {
+					visibleReferences.put(element, count);
+				}
+			});
+			implementations.forEach((element, count) -> {
+				if (isVisible(element, document, visibleLines)) {
+					visibleImplementations.put(element, count);
+				}
+			});
+			resolveReferences(visibleReferences);
+			resolveImplementations(visibleImplementations);
+			resolveReferences(references);
+			resolveImplementations(implementations);
+		}).whenComplete((result, e) -> {
+			if (e != null) {
+				references.values().forEach(count -> count.completeExceptionally(e));
+				implementations.values().forEach(count -> count.completeExceptionally(e));
+			}
+		});
+	}
+
+	private void resolveReferences(Map<IJavaElement, CompletableFuture<Long>> counts) {
+		int generation= fgGeneration.get();
+		boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		String kind= ignoreInaccurate ? "R!" : "R"; //$NON-NLS-1$ //$NON-NLS-2$
+
+		Map<IJavaElement, CompletableFuture<Long>> toSearch= new LinkedHashMap<>();
+		for (Map.Entry<IJavaElement, CompletableFuture<Long>> entry : counts.entrySet()) {
+			if (entry.getValue().isDone()) {
+				continue;
+			}
+			Long cached= fgCounts.get(kind + entry.getKey().getHandleIdentifier());
+			if (cached != null) {
+				entry.getValue().complete(cached);
+			} else {
+				toSearch.put(entry.getKey(), entry.getValue());
+			}
+		}
+		if (toSearch.isEmpty()) {
+			return;
+		}
+
+		Map<IJavaElement, Long> result;
+		try {
+			result= new ReferenceCounter(toSearch.keySet(), ignoreInaccurate).count(monitor);
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+			result= new HashMap<>();
+		}
+		for (Map.Entry<IJavaElement, CompletableFuture<Long>> entry : toSearch.entrySet()) {
+			Long count= result.get(entry.getKey());
+			if (count == null) {
+				count= Long.valueOf(0);
+			} else if (fgGeneration.get() == generation) {
+				fgCounts.put(kind + entry.getKey().getHandleIdentifier(), count);
+			}
+			entry.getValue().complete(count);
+		}
+	}
+
+	private void resolveImplementations(Map<IJavaElement, CompletableFuture<Long>> counts) {
+		int generation= fgGeneration.get();
+		for (Map.Entry<IJavaElement, CompletableFuture<Long>> entry : counts.entrySet()) {
+			checkCanceled();
+			if (entry.getValue().isDone()) {
+				continue;
+			}
+			IJavaElement element= entry.getKey();
+			String key= "I" + element.getHandleIdentifier(); //$NON-NLS-1$
+			Long count= fgCounts.get(key);
+			if (count == null) {
+				try {
+					count= Long.valueOf(countImplementations(element));
+					if (fgGeneration.get() == generation) {
+						fgCounts.put(key, count);
+					}
+				} catch (JavaModelException e) {
+					JavaPlugin.log(e);
+					count= Long.valueOf(0);
+				}
+			}
+			entry.getValue().complete(count);
+		}
+	}
+
+	private long countImplementations(IJavaElement element) throws JavaModelException {
+		if (element instanceof IType type) {
+			return getSubtypesInSource(type).length;
+		}
+		if (element instanceof IMethod method) {
+			IType[] subtypes= getSubtypesInSource(method.getDeclaringType());
+			return Stream.of(subtypes).filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
+		}
+		return 0;
+	}
+
+	private IType[] getSubtypesInSource(IType type) throws JavaModelException {
+		IType[] subtypes= subtypesByType.get(type);
+		if (subtypes == null) {
+			ITypeHierarchy hierarchy= type.newTypeHierarchy(monitor);
+			subtypes= Stream.of(hierarchy.getAllSubtypes(type)).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).toArray(IType[]::new);
+			subtypesByType.put(type, subtypes);
+		}
+		return subtypes;
+	}
+
+	private void checkCanceled() {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private int[] getVisibleLines() {
+		StyledText textWidget= viewer.getTextWidget();
+		if (textWidget == null || textWidget.isDisposed()) {
+			return null;
+		}
+		int[] lines= new int[2];
+		Runnable runnable= () -> {
+			if (!textWidget.isDisposed()) {
+				int top= textWidget.getTopIndex();
+				int bottom= textWidget.getLineIndex(textWidget.getClientArea().height);
+				if (viewer instanceof ITextViewerExtension5 extension) {
+					top= extension.widgetLine2ModelLine(top);
+					bottom= extension.widgetLine2ModelLine(bottom);
+				}
+				lines[0]= top;
+				lines[1]= bottom;
+			}
+		};
+		Display display= textWidget.getDisplay();
+		if (display.getThread() == Thread.currentThread()) {
+			runnable.run();
+		} else {
+			display.syncExec(runnable);
+		}
+		return lines[0] >= 0 && lines[1] >= lines[0] ? lines : null;
+	}
+
+	private static boolean isVisible(IJavaElement element, IDocument document, int[] visibleLines) {
+		if (visibleLines == null || !(element instanceof ISourceReference)) {
+			return false;
+		}
+		try {
+			int line= document.getLineOfOffset(((ISourceReference) element).getNameRange().getOffset());
+			return line >= visibleLines[0] && line <= visibleLines[1];
+		} catch (JavaModelException | BadLocationException e) {
+			return false;
+		}
+	}
+
+	private static synchronized void installListener() {
+		if (fgListener == null) {
+			fgListener= (ElementChangedEvent event) -> {
+				fgGeneration.incrementAndGet();
+				fgCounts.clear();
+			};
+			JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Return the number of references for the given java element.
+	 *
+	 * @param element the java element.
+	 * @param ignoreInaccurate whether inaccurate matches are ignored
+	 * @param monitor the monitor
+	 * @return the number of references for the given java element.
+	 * @throws CoreException throws when java error.
+	 */
+	static long countReferences(IJavaElement element, boolean ignoreInaccurate, IProgressMonitor monitor) throws CoreException {
+		if (element == null) {
+			return 0;
+		}
+		final AtomicLong count= new AtomicLong(0);
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return 0;
+		}
+		SearchEngine engine= new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(element), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (isCounted(match, ignoreInaccurate)) {
+							count.incrementAndGet();
+						}
+					}
+				}, monitor);
+
+		return count.get();
+	}
+
+	private static boolean isCounted(SearchMatch match, boolean ignoreInaccurate) {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+			return false;
+		}
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement) o;
+			return e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null;
+		}
+		return false;
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE= factory.isInsideJRE(element);
+		return factory.createWorkspaceScope(isInsideJRE);
+	}
+
+	/**
+	 * Counts the references to several elements with one search.
+	 * <p>
+	 * A search match does not tell which element of an OR pattern it matches. The kind of the
+	 * match tells whether a type, method or field is referenced, and the range of the match is at
+	 * least as long as the name of the referenced element. A match is counted for the only element
+	 * that fits it; no source is read. Elements that share their name with another element of the
+	 * same kind, constructors, and the elements that fit a match together with others are counted
+	 * with a search of their own.
+	 * </p>
+	 */
+	private static class ReferenceCounter extends SearchRequestor {
+
+		private final boolean ignoreInaccurate;
+
+		private final Map<String, IJavaElement> types= new HashMap<>();
+
+		private final Map<String, IJavaElement> methods= new HashMap<>();
+
+		private final Map<String, IJavaElement> fields= new HashMap<>();
+
+		private final Map<IJavaElement, Long> counts= new HashMap<>();
+
+		private final Set<IJavaElement> unresolved= new HashSet<>();
+
+		ReferenceCounter(Set<IJavaElement> elements, boolean ignoreInaccurate) throws JavaModelException {
+			this.ignoreInaccurate= ignoreInaccurate;
+			Set<String> ambiguous= new HashSet<>();
+			for (IJavaElement element : elements) {
+				Map<String, IJavaElement> byName= getElementsOfKind(element.getElementType());
+				String key= element.getElementType() + element.getElementName();
+				if (byName == null || element instanceof IMethod method && method.isConstructor() || ambiguous.contains(key)) {
+					unresolved.add(element);
+					continue;
+				}
+				IJavaElement other= byName.put(element.getElementName(), element);
+				if (other != null) {
+					// overloaded methods or types with the same name cannot be told apart
+					byName.remove(element.getElementName());
+					ambiguous.add(key);
+					unresolved.add(element);
+					unresolved.add(other);
+				}
+			}
+		}
+
+		private Map<String, IJavaElement> getElementsOfKind(int elementType) {
+			switch (elementType) {
+				case IJavaElement.TYPE:
+					return types;
+				case IJavaElement.METHOD:
+					return methods;
+				case IJavaElement.FIELD:
+					return fields;
+				default:
+					return null;
+			}
+		}
+
+		Map<IJavaElement, Long> count(IProgressMonitor monitor) throws CoreException {
+			Map<Boolean, List<IJavaElement>> byScope= new HashMap<>();
+			JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+			for (Map<String, IJavaElement> byName : List.of(types, methods, fields)) {
+				for (IJavaElement element : byName.values()) {
+					counts.put(element, Long.valueOf(0));
+					byScope.computeIfAbsent(Boolean.valueOf(factory.isInsideJRE(element)), k -> new ArrayList<>()).add(element);
+				}
+			}
+			for (Map.Entry<Boolean, List<IJavaElement>> entry : byScope.entrySet()) {
+				SearchPattern pattern= null;
+				for (IJavaElement element : entry.getValue()) {
+					SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+					if (elementPattern != null) {
+						pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+					}
+				}
+				if (pattern != null) {
+					new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+							factory.createWorkspaceScope(entry.getKey().booleanValue()), this, monitor);
+				}
+			}
+			for (IJavaElement element : unresolved) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				counts.put(element, Long.valueOf(countReferences(element, ignoreInaccurate, monitor)));
+			}
+			return counts;
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			if (!isCounted(match, ignoreInaccurate)) {
+				return;
+			}
+			List<Map<String, IJavaElement>> candidates;
+			if (match instanceof TypeReferenceMatch) {
+				candidates= List.of(types);
+			} else if (match instanceof MethodReferenceMatch) {
+				candidates= List.of(methods);
+			} else if (match instanceof FieldReferenceMatch) {
+				candidates= List.of(fields);
+			} else {
+				candidates= List.of(types, methods, fields);
+			}
+			// the range of a reference contains the name of the referenced element
+			List<IJavaElement> referenced= new ArrayList<>(1);
+			for (Map<String, IJavaElement> byName : candidates) {
+				for (Map.Entry<String, IJavaElement> entry : byName.entrySet()) {
+					if (entry.getKey().length() <= match.getLength()) {
+						referenced.add(entry.getValue());
+					}
+				}
+			}
+			if (referenced.size() == 1) {
+				counts.merge(referenced.get(0), Long.valueOf(1), Long::sum);
+			} else if (!referenced.isEmpty()) {
+				// only these elements can be referenced, search them one by one
+				unresolved.addAll(referenced);
+			} else {
+				for (Map<String, IJavaElement> byName : candidates) {
+					unresolved.addAll(byName.values());
+				}
+			}
+		}
+	}
+}
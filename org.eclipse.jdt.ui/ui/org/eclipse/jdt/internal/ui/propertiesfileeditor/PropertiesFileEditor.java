@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,7 @@ import org.eclipse.jdt.internal.ui.IJavaHelpContextIds;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.FindBrokenNLSKeysAction;
 import org.eclipse.jdt.internal.ui.javaeditor.ToggleCommentAction;
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.PropertiesKeyIndex;
 
 
 /**
@@ -125,6 +126,9 @@ public class PropertiesFileEditor extends TextEditor {
 		if (fFile == null)
 			return;
 
+		// start indexing the keys for the hyperlinks to their references
+		PropertiesKeyIndex.getDefault();
+
 		if (fJob == null) {
 			fJob= new Job(PropertiesFileEditorMessages.PropertiesFileEditor_find_accessor_type) {
 				@Override
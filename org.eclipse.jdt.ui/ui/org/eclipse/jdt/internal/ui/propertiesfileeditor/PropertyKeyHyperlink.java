@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,18 +19,22 @@ import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceProxy;
 import org.eclipse.core.resources.IStorage;
 
 import org.eclipse.core.filebuffers.FileBuffers;
@@ -64,9 +68,11 @@ import org.eclipse.search.core.text.TextSearchMatchAccess;
 import org.eclipse.search.core.text.TextSearchRequestor;
 import org.eclipse.search.core.text.TextSearchScope;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
@@ -81,6 +87,7 @@ import org.eclipse.jdt.ui.JavaUI;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.refactoring.nls.search.PropertiesKeyIndex;
 import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
 import org.eclipse.jdt.internal.ui.util.PatternConstructor;
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -97,7 +104,7 @@ public class PropertyKeyHyperlink implements IHyperlink {
 /**
  * Note: this class KeyReference has a natural ordering that is inconsistent with equals
  */
-	private static class KeyReference extends PlatformObject implements IWorkbenchAdapter, Comparable<KeyReference> {
+	public static class KeyReference extends PlatformObject implements IWorkbenchAdapter, Comparable<KeyReference> {
 
 		private static final Collator fgCollator= Collator.getInstance();
 
@@ -117,6 +124,18 @@ public class PropertyKeyHyperlink implements IHyperlink {
 			this.showLineNumber= showLineNumber;
 		}
 
+		public IResource getResource() {
+			return resource;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		public int getLength() {
+			return length;
+		}
+
 		@SuppressWarnings("unchecked")
 		@Override
 		public <T> T getAdapter(Class<T> adapter) {
@@ -405,13 +424,14 @@ public class PropertyKeyHyperlink implements IHyperlink {
 	 * XXX: This is a hack to improve the accuracy of matches, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81140
 	 * </p>
 	 *
+	 * @param storage the properties file
 	 * @return <code>true</code> if we search for double-quoted key
 	 */
-	private boolean useDoubleQuotedKey() {
-		if (fStorage == null)
+	private static boolean useDoubleQuotedKey(IStorage storage) {
+		if (storage == null)
 			return false;
 
-		String name= fStorage.getName();
+		String name= storage.getName();
 
 		return name != null && !"about.properties".equals(name) && !"feature.properties".equals(name) && !"plugin.properties".equals(name);  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
@@ -430,58 +450,10 @@ public class PropertyKeyHyperlink implements IHyperlink {
 		try {
 			fEditor.getEditorSite().getWorkbenchWindow().getWorkbench().getProgressService().busyCursorWhile(
 				monitor -> {
-					if (monitor == null)
-						monitor= new NullProgressMonitor();
-
-					monitor.beginTask("", 5); //$NON-NLS-1$
 					try {
-						// XXX: This is a hack to improve the accuracy of matches, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81140
-						boolean useDoubleQuotedKey= useDoubleQuotedKey();
-						if (useDoubleQuotedKey) {
-							SearchPattern pattern= SearchPattern.createPattern(key, IJavaSearchConstants.FIELD, IJavaSearchConstants.REFERENCES, SearchPattern.R_PATTERN_MATCH
-									| SearchPattern.R_CASE_SENSITIVE);
-							if (pattern == null)
-								return;
-							try {
-								new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), SearchEngine.createWorkspaceScope(), new SearchRequestor() {
-									@Override
-									public void acceptSearchMatch(SearchMatch match) throws CoreException {
-										IResource resource= match.getResource();
-										if (resource != null)
-											result.add(new KeyReference(resource, (IJavaElement) match.getElement(), match.getOffset(), match.getLength(), fIsFileEditorInput));
-									}
-								}, Progress.subMonitor(monitor, 1));
-							} catch (CoreException e) {
-								throw new InvocationTargetException(e);
-							}
-						}
-						if (result.isEmpty()) {
-							//maybe not an eclipse style NLS string
-							String searchString;
-							if (useDoubleQuotedKey) {
-								StringBuilder buf= new StringBuilder("\""); //$NON-NLS-1$
-								buf.append(key);
-								buf.append('"');
-								searchString= buf.toString();
-							} else
-								searchString= key;
-							ResultCollector collector= new ResultCollector(result, useDoubleQuotedKey);
-							TextSearchEngine engine= TextSearchEngine.create();
-							Pattern searchPattern= PatternConstructor.createPattern(searchString, true, false);
-
-							/* <p>
-							 * XXX: This does not work for properties files coming from a JAR.
-							 * For details see https://bugs.eclipse.org/bugs/show_bug.cgi?id=23341
-							 * </p>
-							*/
-							if (fStorage instanceof IResource) {
-								engine.search(createScope(((IResource)fStorage).getProject()), collector, searchPattern, Progress.subMonitor(monitor, 4));
-							}
-						} else {
-							monitor.worked(1);
-						}
-					} finally {
-						monitor.done();
+						result.addAll(search(key, fStorage, fIsFileEditorInput, monitor));
+					} catch (CoreException e) {
+						throw new InvocationTargetException(e);
 					}
 				}
 			);
@@ -495,6 +467,138 @@ public class PropertyKeyHyperlink implements IHyperlink {
 		return result.toArray(new KeyReference[result.size()]);
 	}
 
+	/**
+	 * Searches references to the given key. Keys of Eclipse-style NLS properties files are
+	 * searched as field references first. If there are none, the key is searched as text in the
+	 * project of the properties file. Once the {@link PropertiesKeyIndex} is built, both searches
+	 * only look at the Java files in which it found the key.
+	 * <p>
+	 * Public for testing only.
+	 * </p>
+	 *
+	 * @param key the properties key
+	 * @param storage the properties file
+	 * @param showLineNumber whether the labels of the references show the line number
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the references
+	 * @throws CoreException if the search fails
+	 */
+	public static List<KeyReference> search(String key, IStorage storage, boolean showLineNumber, IProgressMonitor monitor) throws CoreException {
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		final List<KeyReference> result= new ArrayList<>(5);
+		monitor.beginTask("", 5); //$NON-NLS-1$
+		try {
+			// XXX: This is a hack to improve the accuracy of matches, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=81140
+			boolean useDoubleQuotedKey= useDoubleQuotedKey(storage);
+			if (useDoubleQuotedKey) {
+				SearchPattern pattern= SearchPattern.createPattern(key, IJavaSearchConstants.FIELD, IJavaSearchConstants.REFERENCES, SearchPattern.R_PATTERN_MATCH
+						| SearchPattern.R_CASE_SENSITIVE);
+				if (pattern == null)
+					return result;
+				IJavaSearchScope scope= createJavaSearchScope(PropertiesKeyIndex.getDefault().getFilesWithIdentifier(key));
+				if (scope != null) {
+					new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), scope, new SearchRequestor() {
+						@Override
+						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							IResource resource= match.getResource();
+							if (resource != null)
+								result.add(new KeyReference(resource, (IJavaElement) match.getElement(), match.getOffset(), match.getLength(), showLineNumber));
+						}
+					}, Progress.subMonitor(monitor, 1));
+				} else {
+					monitor.worked(1);
+				}
+			}
+			if (result.isEmpty()) {
+				//maybe not an eclipse style NLS string
+				String searchString;
+				Set<IFile> candidates= null;
+				if (useDoubleQuotedKey) {
+					StringBuilder buf= new StringBuilder("\""); //$NON-NLS-1$
+					buf.append(key);
+					buf.append('"');
+					searchString= buf.toString();
+					if (key.indexOf('*') == -1 && key.indexOf('?') == -1 && key.indexOf('\\') == -1) // not a pattern
+						candidates= PropertiesKeyIndex.getDefault().getFilesWithLiteral(key);
+				} else
+					searchString= key;
+				ResultCollector collector= new ResultCollector(result, useDoubleQuotedKey);
+				TextSearchEngine engine= TextSearchEngine.create();
+				Pattern searchPattern= PatternConstructor.createPattern(searchString, true, false);
+
+				/* <p>
+				 * XXX: This does not work for properties files coming from a JAR.
+				 * For details see https://bugs.eclipse.org/bugs/show_bug.cgi?id=23341
+				 * </p>
+				*/
+				if (storage instanceof IResource) {
+					engine.search(createScope(((IResource)storage).getProject(), candidates), collector, searchPattern, Progress.subMonitor(monitor, 4));
+				}
+			} else {
+				monitor.worked(1);
+			}
+		} finally {
+			monitor.done();
+		}
+		return result;
+	}
+
+	/*
+	 * Returns a scope of the compilation units that contain the key as identifier, or the workspace
+	 * scope if these are not known. Compilation units with unsaved changes are always searched.
+	 * Returns null if there is nothing to search.
+	 */
+	private static IJavaSearchScope createJavaSearchScope(Set<IFile> javaCandidates) throws CoreException {
+		if (javaCandidates == null)
+			return SearchEngine.createWorkspaceScope();
+
+		List<IJavaElement> units= new ArrayList<>();
+		for (IFile file : javaCandidates) {
+			IJavaElement element= JavaCore.create(file);
+			if (element instanceof ICompilationUnit)
+				units.add(element);
+		}
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			if (workingCopy.hasUnsavedChanges())
+				units.add(workingCopy.getPrimary());
+		}
+		if (units.isEmpty())
+			return null;
+		return SearchEngine.createJavaSearchScope(units.toArray(new IJavaElement[units.size()]));
+	}
+
+	/*
+	 * Restricts the scope to the Java files that contain the key in double quotes, if these are
+	 * known. Java files with unsaved changes are always searched.
+	 */
+	private static TextSearchScope createScope(IResource scope, Set<IFile> javaCandidates) {
+		TextSearchScope all= createScope(scope);
+		if (javaCandidates == null)
+			return all;
+
+		return new TextSearchScope() {
+			@Override
+			public IResource[] getRoots() {
+				return all.getRoots();
+			}
+
+			@Override
+			public boolean contains(IResourceProxy proxy) {
+				if (!all.contains(proxy))
+					return false;
+				if (proxy.getType() != IResource.FILE || !JavaCore.isJavaLikeFileName(proxy.getName()))
+					return true;
+				IResource resource= proxy.requestResource();
+				if (javaCandidates.contains(resource))
+					return true;
+				ITextFileBuffer buffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(resource.getFullPath(), LocationKind.IFILE);
+				return buffer != null && buffer.isDirty();
+			}
+		};
+	}
+
 	private static TextSearchScope createScope(IResource scope) {
 		ArrayList<String> fileNamePatternStrings= new ArrayList<>();
 
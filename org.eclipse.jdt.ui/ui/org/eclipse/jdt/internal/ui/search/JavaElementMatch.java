@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,41 +19,48 @@ import org.eclipse.search.ui.text.Match;
  * A search match with additional java-specific info.
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
+
+	/*
+	 * A search can report hundreds of thousands of matches, so the accuracy and the flags share
+	 * one field.
+	 */
+	private static final int WRITE_ACCESS= 1 << 8;
+	private static final int READ_ACCESS= 1 << 9;
+	private static final int JAVADOC= 1 << 10;
+	private static final int SUPER_INVOCATION= 1 << 11;
+	private static final int ACCURACY_MASK= 0xFF;
+
 	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private final int fFlags;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
 		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		fFlags= (accuracy & ACCURACY_MASK)
+				| (isWriteAccess ? WRITE_ACCESS : 0)
+				| (isReadAccess ? READ_ACCESS : 0)
+				| (isJavadoc ? JAVADOC : 0)
+				| (isSuperInvocation ? SUPER_INVOCATION : 0);
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return fFlags & ACCURACY_MASK;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fFlags & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fFlags & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fFlags & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fFlags & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.search.FieldDeclarationMatch;
@@ -27,14 +31,31 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+/**
+ * Collects the matches reported by a search into an {@link AbstractTextSearchResult}.
+ * <p>
+ * Matches are buffered and added in batches, so that a search with many matches fires one change
+ * event per batch instead of one per match. A batch is added when it is full, when
+ * {@value #FLUSH_INTERVAL} ms have passed since the last batch, and at the end of reporting.
+ * </p>
+ */
 public class NewSearchResultCollector extends SearchRequestor {
+
+	private static final int BATCH_SIZE= 1000;
+
+	private static final long FLUSH_INTERVAL= 200;
+
 	private AbstractTextSearchResult fSearch;
 	private boolean fIgnorePotentials;
+	private final List<Match> fBuffer;
+	private long fLastFlush;
 
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
 		fSearch= search;
 		fIgnorePotentials= ignorePotentials;
+		fBuffer= new ArrayList<>(BATCH_SIZE);
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -63,8 +84,22 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			fBuffer.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			if (fBuffer.size() >= BATCH_SIZE || System.currentTimeMillis() - fLastFlush >= FLUSH_INTERVAL) {
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Adds the buffered matches to the search result.
+	 */
+	public void flush() {
+		if (!fBuffer.isEmpty()) {
+			fSearch.addMatches(fBuffer.toArray(new Match[fBuffer.size()]));
+			fBuffer.clear();
 		}
+		fLastFlush= System.currentTimeMillis();
 	}
 
 	@Override
@@ -73,6 +108,7 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void endReporting() {
+		flush();
 	}
 
 	@Override
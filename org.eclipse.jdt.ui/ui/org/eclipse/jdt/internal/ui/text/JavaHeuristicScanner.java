@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Region;
@@ -47,6 +48,11 @@ public final class JavaHeuristicScanner implements Symbols {
 	 */
 	public static final int UNBOUND= -2;
 
+	/** The size of the first chunk of the document read by a scan. */
+	private static final int MIN_CHUNK_SIZE= 64;
+	/** The maximum size of the chunks of the document read by a scan. */
+	private static final int MAX_CHUNK_SIZE= 4096;
+
 
 	/* character constants */
 	private static final char LBRACE= '{';
@@ -264,6 +270,32 @@ public final class JavaHeuristicScanner implements Symbols {
 	 * @since 3.2
 	 */
 	private ITypedRegion fCachedPartition= new TypedRegion(-1, 0, "__no_partition_at_all"); //$NON-NLS-1$
+	/**
+	 * The most recently read chunk of the document. Scans read the document in chunks, which
+	 * grow while scanning, instead of character by character.
+	 * @since 3.36
+	 */
+	private char[] fChunk= new char[0];
+	/**
+	 * The document offset of the chunk.
+	 * @since 3.36
+	 */
+	private int fChunkOffset;
+	/**
+	 * The number of valid characters in the chunk, <code>0</code> if there is none.
+	 * @since 3.36
+	 */
+	private int fChunkLength;
+	/**
+	 * The size of the next chunk to read, <code>0</code> to start with the smallest size.
+	 * @since 3.36
+	 */
+	private int fChunkSize;
+	/**
+	 * The modification stamp of the document when the chunk and the partition were read.
+	 * @since 3.36
+	 */
+	private long fModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 
 	/* preset stop conditions */
 	private final StopCondition fNonWSDefaultPart= new NonWhitespaceDefaultPartition();
@@ -366,7 +398,7 @@ public final class JavaHeuristicScanner implements Symbols {
 
 			String identOrKeyword;
 			try {
-				identOrKeyword= fDocument.get(from, to - from);
+				identOrKeyword= getText(from, to - from);
 			} catch (BadLocationException e) {
 				return TokenEOF;
 			}
@@ -442,7 +474,7 @@ public final class JavaHeuristicScanner implements Symbols {
 
 			String identOrKeyword;
 			try {
-				identOrKeyword= fDocument.get(from, to - from);
+				identOrKeyword= getText(from, to - from);
 			} catch (BadLocationException e) {
 				return TokenEOF;
 			}
@@ -546,26 +578,22 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findClosingPeer(int start, int bound, final char openingPeer, final char closingPeer) {
 		Assert.isLegal(start >= 0);
 
-		try {
-			CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
-			int depth= 1;
-			start -= 1;
-			while (true) {
-				start= scanForward(start + 1, bound, match);
-				if (start == NOT_FOUND)
-					return NOT_FOUND;
-
-				if (fDocument.getChar(start) == openingPeer)
-					depth++;
-				else
-					depth--;
-
-				if (depth == 0)
-					return start;
-			}
+		CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
+		int depth= 1;
+		start -= 1;
+		while (true) {
+			start= scanForward(start + 1, bound, match);
+			if (start == NOT_FOUND)
+				return NOT_FOUND;
+
+			// the scan stopped on the peer
+			if (fChar == openingPeer)
+				depth++;
+			else
+				depth--;
 
-		} catch (BadLocationException e) {
-			return NOT_FOUND;
+			if (depth == 0)
+				return start;
 		}
 	}
 
@@ -601,26 +629,22 @@ public final class JavaHeuristicScanner implements Symbols {
 	public int findOpeningPeer(int start, int bound, char openingPeer, char closingPeer) {
 		Assert.isLegal(start < fDocument.getLength());
 
-		try {
-			final CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
-			int depth= 1;
-			start += 1;
-			while (true) {
-				start= scanBackward(start - 1, bound, match);
-				if (start == NOT_FOUND)
-					return NOT_FOUND;
-
-				if (fDocument.getChar(start) == closingPeer)
-					depth++;
-				else
-					depth--;
-
-				if (depth == 0)
-					return start;
-			}
+		final CharacterMatch match= new CharacterMatch(new char[] {openingPeer, closingPeer});
+		int depth= 1;
+		start += 1;
+		while (true) {
+			start= scanBackward(start - 1, bound, match);
+			if (start == NOT_FOUND)
+				return NOT_FOUND;
+
+			// the scan stopped on the peer
+			if (fChar == closingPeer)
+				depth++;
+			else
+				depth--;
 
-		} catch (BadLocationException e) {
-			return NOT_FOUND;
+			if (depth == 0)
+				return start;
 		}
 	}
 
@@ -719,11 +743,12 @@ public final class JavaHeuristicScanner implements Symbols {
 
 		Assert.isLegal(bound <= fDocument.getLength());
 
+		checkModification();
 		try {
 			fPos= start;
 			while (fPos < bound) {
 
-				fChar= fDocument.getChar(fPos);
+				fChar= getChar(fPos, true);
 				if (condition.stop(fChar, fPos, true))
 					return fPos;
 
@@ -779,11 +804,12 @@ public final class JavaHeuristicScanner implements Symbols {
 		Assert.isLegal(bound >= -1);
 		Assert.isLegal(start < fDocument.getLength() );
 
+		checkModification();
 		try {
 			fPos= start;
 			while (fPos > bound) {
 
-				fChar= fDocument.getChar(fPos);
+				fChar= getChar(fPos, false);
 				if (condition.stop(fChar, fPos, false))
 					return fPos;
 
@@ -854,6 +880,73 @@ public final class JavaHeuristicScanner implements Symbols {
 		return fCachedPartition;
 	}
 
+	/**
+	 * Forgets the chunk and the partition read from the document if the document has been
+	 * modified since. If the modifications cannot be detected, only the chunk is forgotten.
+	 *
+	 * @since 3.36
+	 */
+	private void checkModification() {
+		long stamp= fDocument instanceof IDocumentExtension4 extension ? extension.getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		if (stamp != fModificationStamp) {
+			fModificationStamp= stamp;
+			fCachedPartition= new TypedRegion(-1, 0, "__no_partition_at_all"); //$NON-NLS-1$
+		} else if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+			return;
+		}
+		fChunkLength= 0;
+		fChunkSize= 0;
+	}
+
+	/**
+	 * Returns the character at <code>position</code>, reading the next chunk of the document in
+	 * the scan direction if the position is not in the current chunk.
+	 *
+	 * @param position the position of the character
+	 * @param forward <code>true</code> if scanning forward
+	 * @return the character at <code>position</code>
+	 * @throws BadLocationException if <code>position</code> is not in the document
+	 * @since 3.36
+	 */
+	private char getChar(int position, boolean forward) throws BadLocationException {
+		int index= position - fChunkOffset;
+		if (index < 0 || index >= fChunkLength) {
+			int length= fDocument.getLength();
+			if (position < 0 || position >= length)
+				throw new BadLocationException();
+
+			// most scans stop after a few characters: start small and grow while scanning
+			fChunkSize= fChunkSize == 0 ? MIN_CHUNK_SIZE : Math.min(2 * fChunkSize, MAX_CHUNK_SIZE);
+			int size= Math.min(fChunkSize, length);
+			int offset= forward ? position : position - size + 1;
+			offset= Math.max(0, Math.min(offset, length - size));
+			if (fChunk.length < size)
+				fChunk= new char[fChunkSize];
+			fDocument.get(offset, size).getChars(0, size, fChunk, 0);
+			fChunkOffset= offset;
+			fChunkLength= size;
+			index= position - offset;
+		}
+		return fChunk[index];
+	}
+
+	/**
+	 * Returns the text of the document at the given range, from the current chunk if it contains
+	 * the range.
+	 *
+	 * @param offset the offset of the text
+	 * @param length the length of the text
+	 * @return the text
+	 * @throws BadLocationException if the range is not in the document
+	 * @since 3.36
+	 */
+	private String getText(int offset, int length) throws BadLocationException {
+		int index= offset - fChunkOffset;
+		if (index >= 0 && index + length <= fChunkLength)
+			return new String(fChunk, index, length);
+		return fDocument.get(offset, length);
+	}
+
 	/**
 	 * Returns <code>true</code> if <code>region</code> contains <code>position</code>.
 	 *
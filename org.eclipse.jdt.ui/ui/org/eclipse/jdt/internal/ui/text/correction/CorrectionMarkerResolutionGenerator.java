@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.text.correction;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
@@ -165,19 +166,27 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 
 		public static MultiFixTarget[] getCleanUpTargets(IMarker[] markers) {
 			Hashtable<ICompilationUnit, List<IProblemLocation>> problemLocations= new Hashtable<>();
+			// markers are grouped by resource so that the annotations of a unit open in an editor are only looked at once
+			Map<IResource, List<IMarker>> markersByResource= new HashMap<>();
 			for (IMarker marker : markers) {
-				ICompilationUnit cu= getCompilationUnit(marker);
+				markersByResource.computeIfAbsent(marker.getResource(), r -> new ArrayList<>()).add(marker);
+			}
+			for (List<IMarker> resourceMarkers : markersByResource.values()) {
+				ICompilationUnit cu= getCompilationUnit(resourceMarkers.get(0));
 
 				if (cu != null) {
 					IEditorInput input= EditorUtility.getEditorInput(cu);
-					IProblemLocation location= findProblemLocation(input, marker);
-					if (location != null) {
-						List<IProblemLocation> l= problemLocations.get(cu.getPrimary());
-						if (l == null) {
-							l= new ArrayList<>();
-							problemLocations.put(cu.getPrimary(), l);
+					Map<IMarker, IProblemLocation> annotationLocations= getAnnotationProblemLocations(input, resourceMarkers.get(0));
+					for (IMarker marker : resourceMarkers) {
+						IProblemLocation location= annotationLocations != null ? annotationLocations.get(marker) : findProblemLocation(input, marker);
+						if (location != null) {
+							List<IProblemLocation> l= problemLocations.get(cu.getPrimary());
+							if (l == null) {
+								l= new ArrayList<>();
+								problemLocations.put(cu.getPrimary(), l);
+							}
+							l.add(location);
 						}
-						l.add(location);
 					}
 				}
 			}
@@ -442,6 +451,38 @@ public class CorrectionMarkerResolutionGenerator implements IMarkerResolutionGen
 		return null;
 	}
 
+	/**
+	 * Returns the problem locations of all marker annotations in the annotation model of the
+	 * given input.
+	 *
+	 * @param input the editor input
+	 * @param marker one of the markers for the input
+	 * @return the problem locations by marker, or <code>null</code> if the input is not open in
+	 *         an editor and the locations have to be created from the markers
+	 */
+	private static Map<IMarker, IProblemLocation> getAnnotationProblemLocations(IEditorInput input, IMarker marker) {
+		if (marker.getResource() instanceof IFolder) {
+			return null;
+		}
+		IAnnotationModel model= JavaPlugin.getDefault().getCompilationUnitDocumentProvider().getAnnotationModel(input);
+		if (model == null) {
+			return null;
+		}
+		Map<IMarker, IProblemLocation> result= new HashMap<>();
+		Iterator<Annotation> iter= model.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation curr= iter.next();
+			if (curr instanceof JavaMarkerAnnotation) {
+				JavaMarkerAnnotation annot= (JavaMarkerAnnotation) curr;
+				Position pos= model.getPosition(annot);
+				if (pos != null) {
+					result.putIfAbsent(annot.getMarker(), new ProblemLocation(pos.getOffset(), pos.getLength(), annot));
+				}
+			}
+		}
+		return result;
+	}
+
 	private static IProblemLocation createFromMarker(IMarker marker, ICompilationUnit cu) {
 		try {
 			int id= marker.getAttribute(IJavaModelMarker.ID, -1);
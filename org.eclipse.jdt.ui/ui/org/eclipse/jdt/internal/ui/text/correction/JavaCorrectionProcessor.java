@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 
 package org.eclipse.jdt.internal.ui.text.correction;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,6 +23,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -50,6 +52,7 @@ import org.eclipse.ui.texteditor.SimpleMarkerAnnotation;
 import org.eclipse.ltk.core.refactoring.NullChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.corext.util.Messages;
 
@@ -72,9 +75,31 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
 
+	/** The name of the performance event used to trace quick assist processors. */
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/correction/quickAssist"; //$NON-NLS-1$
+	/**
+	 * If <code>true</code>, execution time of quick assist processors is measured and the data
+	 * forwarded to core's {@link PerformanceStats} service.
+	 */
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
+	private static final String HAS_ASSISTS= "hasAssists()"; //$NON-NLS-1$
+	private static final String GET_ASSISTS= "getAssists()"; //$NON-NLS-1$
+
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
 
+	/*
+	 * Result of the last hasAssists(IInvocationContext) call. The quick assist light bulb is
+	 * updated on every post selection change and often asks again for an unchanged AST and
+	 * selection, so the answer is remembered for as long as the AST is alive.
+	 */
+	private static final Object fgLastAssistLock= new Object();
+	private static WeakReference<CompilationUnit> fgLastAssistAST= new WeakReference<>(null);
+	private static int fgLastAssistOffset;
+	private static int fgLastAssistLength;
+	private static boolean fgLastHasAssists;
+
 	private static ContributedProcessorDescriptor[] getProcessorDescriptors(String contributionId, boolean testMarkerTypes) {
 		IConfigurationElement[] elements= Platform.getExtensionRegistry().getConfigurationElementsFor(JavaUI.ID_PLUGIN, contributionId);
 		ArrayList<ContributedProcessorDescriptor> res= new ArrayList<>(elements.length);
@@ -149,15 +174,48 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static boolean hasAssists(IInvocationContext context) {
-		SafeHasAssist collector= new SafeHasAssist(context);
+		CompilationUnit astRoot= context.getASTRoot();
+		int offset= context.getSelectionOffset();
+		int length= context.getSelectionLength();
+		synchronized (fgLastAssistLock) {
+			if (astRoot != null && fgLastAssistAST.get() == astRoot && fgLastAssistOffset == offset && fgLastAssistLength == length) {
+				return fgLastHasAssists;
+			}
+		}
 
+		SafeHasAssist collector= new SafeHasAssist(context);
 		for (ContributedProcessorDescriptor processor :  getAssistProcessors()) {
 			collector.process(processor);
 			if (collector.hasAssists()) {
-				return true;
+				break;
 			}
 		}
-		return false;
+
+		boolean hasAssists= collector.hasAssists();
+		if (astRoot != null && collector.getStatus().isOK()) {
+			synchronized (fgLastAssistLock) {
+				fgLastAssistAST= new WeakReference<>(astRoot);
+				fgLastAssistOffset= offset;
+				fgLastAssistLength= length;
+				fgLastHasAssists= hasAssists;
+			}
+		}
+		return hasAssists;
+	}
+
+	private static PerformanceStats startMeter(String context, Object processor) {
+		if (MEASURE_PERFORMANCE) {
+			PerformanceStats stats= PerformanceStats.getStats(PERFORMANCE_EVENT, processor.getClass().getName());
+			stats.startRun(context);
+			return stats;
+		}
+		return null;
+	}
+
+	private static void stopMeter(PerformanceStats stats) {
+		if (stats != null) {
+			stats.endRun();
+		}
 	}
 
 	private JavaCorrectionAssistant fAssistant;
@@ -401,9 +459,14 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
 			IQuickAssistProcessor curr= (IQuickAssistProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickAssistProcessor.class);
 			if (curr != null) {
-				IJavaCompletionProposal[] res= curr.getAssists(fContext, fLocations);
-				if (res != null) {
-					fProposals.addAll(Arrays.asList(res));
+				PerformanceStats stats= startMeter(GET_ASSISTS, curr);
+				try {
+					IJavaCompletionProposal[] res= curr.getAssists(fContext, fLocations);
+					if (res != null) {
+						fProposals.addAll(Arrays.asList(res));
+					}
+				} finally {
+					stopMeter(stats);
 				}
 			}
 		}
@@ -425,8 +488,15 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		@Override
 		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
 			IQuickAssistProcessor processor= (IQuickAssistProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickAssistProcessor.class);
-			if (processor != null && processor.hasAssists(fContext)) {
-				fHasAssists= true;
+			if (processor != null) {
+				PerformanceStats stats= startMeter(HAS_ASSISTS, processor);
+				try {
+					if (processor.hasAssists(fContext)) {
+						fHasAssists= true;
+					}
+				} finally {
+					stopMeter(stats);
+				}
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jface.operation.IRunnableContext;
@@ -65,6 +66,12 @@ import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
  */
 public class FixCorrectionProposal extends LinkedCorrectionProposal implements ICompletionProposalExtension2, IStatusLineProposal {
 
+	/**
+	 * The name of the performance event used to trace fixing multiple problems, the run context
+	 * reports the number of problems and files fixed.
+	 */
+	private static final String PERF_MULTI_FIX= "org.eclipse.jdt.ui/perf/correction/multiFix"; //$NON-NLS-1$
+
 	private ICleanUp fCleanUp;
 
 	public FixCorrectionProposal(IProposableFix fix, ICleanUp cleanUp, int relevance, Image image, IInvocationContext context) {
@@ -98,11 +105,21 @@ public class FixCorrectionProposal extends LinkedCorrectionProposal implements I
 		}
 
 		final CleanUpRefactoring refactoring= new CleanUpRefactoring(changeName);
+		int problems= 0;
 		for (MultiFixTarget target : targets) {
 			refactoring.addCleanUpTarget(target);
+			problems+= target.getProblems().length;
 		}
 
 		refactoring.addCleanUp(fCleanUp);
+		// the units are parsed concurrently, the fixes are computed one after the other on this thread
+		refactoring.setParallel(targets.length > 1);
+
+		PerformanceStats stats= null;
+		if (PerformanceStats.isEnabled(PERF_MULTI_FIX)) {
+			stats= PerformanceStats.getStats(PERF_MULTI_FIX, fCleanUp.getClass().getName());
+			stats.startRun(problems + " problems in " + targets.length + " files"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 
 		IRunnableContext context= (fork, cancelable, runnable) -> runnable.run(monitor == null ? new NullProgressMonitor() : monitor);
 
@@ -118,6 +135,10 @@ public class FixCorrectionProposal extends LinkedCorrectionProposal implements I
 			} else {
 				throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, cause.getLocalizedMessage(), cause));
 			}
+		} finally {
+			if (stats != null) {
+				stats.endRun();
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,8 +44,22 @@ public class JavadocContentAccess2 {
 	 * @return the Javadoc comment content in HTML or <code>null</code> if the element
 	 * 			does not have a Javadoc comment or if no source is available
 	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
+	 * @see JavadocContentCache
 	 */
 	public static String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		return JavadocContentCache.getDefault().getHTMLContent(element, useAttachedJavadoc);
+	}
+
+	/**
+	 * Renders the Javadoc of the given element without looking into the cache.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @param useAttachedJavadoc if <code>true</code> Javadoc will be extracted from attached
+	 *            Javadoc if there's no source
+	 * @return the Javadoc comment content in HTML or <code>null</code>
+	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
+	 */
+	static String computeHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
 		return new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc);
 	}
 
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Cache of the rendered Javadoc HTML of Java elements, shared by the Javadoc hover, the Javadoc
+ * view and the additional info of content assist.
+ * <p>
+ * Rendered Javadoc is kept in a memory LRU cache keyed by the handle identifier of the element.
+ * Entries of elements in libraries are keyed by the archive and its modification stamp as well,
+ * are validated by a stamp made of the archive, its source attachment and its Javadoc location,
+ * and are also stored in the plug-in state location, so that
+ * they survive a restart. Entries of elements in source folders are kept in memory only and are
+ * dropped on every Java element change, because their Javadoc can be inherited from or link to
+ * other compilation units.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class JavadocContentCache {
+
+	private static final int MAX_MEMORY_ENTRIES= 500;
+
+	private static final int MAX_DISK_ENTRIES= 10000;
+
+	/** delay before the Javadoc under the caret is rendered, in milliseconds */
+	private static final int PREFETCH_DELAY= 500;
+
+	private static final String CACHE_DIR= "javadoc-cache"; //$NON-NLS-1$
+
+	private static final String TEMP_PREFIX= "tmp"; //$NON-NLS-1$
+
+	private static final class Entry {
+		final String fStamp;
+		final String fContent;
+		final boolean fIsLibrary;
+
+		Entry(String stamp, String content, boolean isLibrary) {
+			fStamp= stamp;
+			fContent= content;
+			fIsLibrary= isLibrary;
+		}
+	}
+
+	private static JavadocContentCache fgDefault;
+
+	private final LRUMap<String, Entry> fEntries= new LRUMap<>(MAX_MEMORY_ENTRIES);
+
+	private final File fCacheDir;
+
+	private final String fVersion;
+
+	private Job fPrefetchJob;
+
+	private JavadocContentCache() {
+		fCacheDir= getCacheDir();
+		fVersion= JavaPlugin.getDefault().getBundle().getVersion().toString();
+		IElementChangedListener listener= event -> removeSourceEntries();
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public static synchronized JavadocContentCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new JavadocContentCache();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the rendered Javadoc of the given element, see
+	 * {@link JavadocContentAccess2#getHTMLContent(IJavaElement, boolean)}.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @param useAttachedJavadoc if <code>true</code> Javadoc will be extracted from attached
+	 *            Javadoc if there's no source
+	 * @return the Javadoc in HTML or <code>null</code> if the element has no Javadoc
+	 * @throws CoreException if the element's Javadoc cannot be accessed
+	 */
+	public String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		String stamp= root != null ? getStamp(element, root) : null;
+		if (stamp == null) {
+			return JavadocContentAccess2.computeHTMLContent(element, useAttachedJavadoc);
+		}
+		boolean isLibrary= root.getKind() == IPackageFragmentRoot.K_BINARY;
+		String key= (useAttachedJavadoc ? 'A' : 'S') + (isLibrary ? getArchiveStamp(root) : "") + element.getHandleIdentifier(); //$NON-NLS-1$
+
+		Entry entry;
+		synchronized (fEntries) {
+			entry= fEntries.get(key);
+		}
+		if (entry != null && entry.fStamp.equals(stamp)) {
+			return entry.fContent;
+		}
+		if (isLibrary) {
+			entry= read(key);
+			if (entry != null && entry.fStamp.equals(stamp)) {
+				synchronized (fEntries) {
+					fEntries.put(key, entry);
+				}
+				return entry.fContent;
+			}
+		}
+
+		String content= JavadocContentAccess2.computeHTMLContent(element, useAttachedJavadoc);
+		entry= new Entry(stamp, content, isLibrary);
+		synchronized (fEntries) {
+			fEntries.put(key, entry);
+		}
+		if (isLibrary) {
+			write(key, entry);
+		}
+		return content;
+	}
+
+	/**
+	 * Renders the Javadoc of the library member under the given selection in the background, so
+	 * that it is cached when it is shown. The rendering starts after a delay and is canceled by the
+	 * next call, so that moving the caret quickly does not render anything. Members with a remote
+	 * Javadoc location are not rendered in advance.
+	 *
+	 * @param astRoot the AST of the editor, with bindings
+	 * @param offset the selection offset
+	 */
+	public void prefetch(CompilationUnit astRoot, int offset) {
+		IJavaElement element= null;
+		ASTNode node= NodeFinder.perform(astRoot, offset, 0);
+		if (node instanceof SimpleName) {
+			IBinding binding= ((SimpleName) node).resolveBinding();
+			element= binding != null ? binding.getJavaElement() : null;
+		}
+		Job job= null;
+		if (element instanceof IMember && ((IMember) element).isBinary()) {
+			IJavaElement member= element;
+			job= Job.create(JavaDocMessages.JavadocContentCache_prefetch_job, (IProgressMonitor monitor) -> {
+				try {
+					if (!monitor.isCanceled() && !hasRemoteJavadoc(member)) {
+						getHTMLContent(member, true);
+					}
+				} catch (CoreException e) {
+					// the hover will report it
+				}
+				return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+			});
+			job.setSystem(true);
+			job.setPriority(Job.DECORATE);
+		}
+		synchronized (this) {
+			if (fPrefetchJob != null) {
+				fPrefetchJob.cancel();
+			}
+			fPrefetchJob= job;
+		}
+		if (job != null) {
+			job.schedule(PREFETCH_DELAY);
+		}
+	}
+
+	/*
+	 * Returns whether rendering the Javadoc of the element may read it from a remote location,
+	 * because the library has no source attached.
+	 */
+	private static boolean hasRemoteJavadoc(IJavaElement element) throws JavaModelException {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root != null && root.getSourceAttachmentPath() != null) {
+			return false;
+		}
+		URL location= JavaDocLocations.getJavadocBaseLocation(element);
+		if (location == null) {
+			return false;
+		}
+		String protocol= location.getProtocol();
+		if ("jar".equals(protocol)) { //$NON-NLS-1$
+			String path= location.getPath();
+			return !path.startsWith("file:"); //$NON-NLS-1$
+		}
+		return !"file".equals(protocol) && !"platform".equals(protocol) && !"bundleentry".equals(protocol); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private void removeSourceEntries() {
+		synchronized (fEntries) {
+			fEntries.values().removeIf(entry -> !entry.fIsLibrary);
+		}
+	}
+
+	/*
+	 * Returns the stamp identifying the state the Javadoc of the element is rendered from, or
+	 * null if the Javadoc must not be cached.
+	 */
+	private String getStamp(IJavaElement element, IPackageFragmentRoot root) throws JavaModelException {
+		if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+			ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+			if (cu == null) {
+				return null;
+			}
+			IResource resource= cu.getResource();
+			if (resource == null || cu.hasUnsavedChanges()) {
+				return null;
+			}
+			return String.valueOf(resource.getModificationStamp());
+		}
+
+		IClasspathEntry entry= root.getResolvedClasspathEntry();
+		StringBuilder stamp= new StringBuilder(fVersion);
+		stamp.append('|').append(getArchiveStamp(root));
+		if (entry != null) {
+			appendPath(stamp, entry.getSourceAttachmentPath());
+			for (IClasspathAttribute attribute : entry.getExtraAttributes()) {
+				stamp.append('|').append(attribute.getName()).append('=').append(attribute.getValue());
+			}
+		}
+		return stamp.toString();
+	}
+
+	/*
+	 * Returns the path of the archive of a library together with its modification stamp and size.
+	 */
+	private static String getArchiveStamp(IPackageFragmentRoot root) {
+		IResource resource= root.getResource();
+		StringBuilder stamp= new StringBuilder();
+		appendPath(stamp, resource != null ? resource.getLocation() : root.getPath());
+		if (resource != null) {
+			stamp.append('#').append(resource.getModificationStamp());
+		}
+		return stamp.append('|').toString();
+	}
+
+	private static void appendPath(StringBuilder stamp, IPath path) {
+		stamp.append('|');
+		if (path != null) {
+			File file= path.toFile();
+			stamp.append(path.toString()).append('@').append(file.lastModified()).append(':').append(file.length());
+		}
+	}
+
+	private File getFile(String key) {
+		return new File(fCacheDir, Integer.toHexString(key.hashCode()));
+	}
+
+	private Entry read(String key) {
+		if (fCacheDir == null) {
+			return null;
+		}
+		File file= getFile(key);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!key.equals(in.readUTF())) {
+				return null;
+			}
+			String stamp= in.readUTF();
+			String content= null;
+			if (in.readBoolean()) {
+				byte[] bytes= new byte[in.readInt()];
+				in.readFully(bytes);
+				content= new String(bytes, StandardCharsets.UTF_8);
+			}
+			return new Entry(stamp, content, true);
+		} catch (IOException e) {
+			// treat like a missing entry
+			file.delete();
+			return null;
+		}
+	}
+
+	/*
+	 * Entries are written to a temporary file that is then moved over the entry, so that a crash
+	 * while writing cannot leave a truncated entry. Entries of elements without Javadoc are not
+	 * stored.
+	 */
+	private void write(String key, Entry entry) {
+		if (fCacheDir == null || entry.fContent == null) {
+			return;
+		}
+		File temp= null;
+		try {
+			temp= File.createTempFile(TEMP_PREFIX, null, fCacheDir);
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeUTF(key);
+				out.writeUTF(entry.fStamp);
+				out.writeBoolean(true);
+				byte[] bytes= entry.fContent.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			Files.move(temp.toPath(), getFile(key).toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	private static File getCacheDir() {
+		try {
+			File cacheDir= JavaPlugin.getDefault().getStateLocation().append(CACHE_DIR).toFile();
+			if (cacheDir.isDirectory()) {
+				File[] files= cacheDir.listFiles();
+				if (files != null) {
+					boolean clear= files.length > MAX_DISK_ENTRIES;
+					for (File file : files) {
+						// temporary files are left by entries that were not completely written
+						if (clear || file.getName().startsWith(TEMP_PREFIX)) {
+							file.delete();
+						}
+					}
+				}
+			} else if (!cacheDir.mkdir()) {
+				JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), "Failed to create Javadoc cache directory " + cacheDir)); //$NON-NLS-1$
+				return null;
+			}
+			return cacheDir;
+		} catch (IllegalStateException e) {
+			// no state location
+			return null;
+		}
+	}
+}
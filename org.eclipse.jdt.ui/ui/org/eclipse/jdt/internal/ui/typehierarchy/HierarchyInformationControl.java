@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.KeyAdapter;
 import org.eclipse.swt.events.KeyEvent;
 import org.eclipse.swt.layout.GridData;
@@ -407,6 +408,15 @@ public class HierarchyInformationControl extends AbstractInformationControl {
 		}
 	}
 
+	@Override
+	public void widgetDisposed(DisposeEvent event) {
+		super.widgetDisposed(event);
+		// release the hierarchy shared with the Type Hierarchy view
+		if (fLifeCycle != null) {
+			fLifeCycle.freeHierarchy();
+		}
+	}
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.AbstractInformationControl#getId()
 	 */
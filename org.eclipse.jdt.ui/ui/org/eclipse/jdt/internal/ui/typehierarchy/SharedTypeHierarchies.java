@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Reference counted registry of type hierarchies that are shared between the clients showing a
+ * hierarchy on the same input, e.g. the Type Hierarchy view and the quick type hierarchy.
+ * <p>
+ * A shared hierarchy is computed once and refreshed at most once per change: the first client
+ * that asks for a refresh after the hierarchy has reported a change recomputes it, the other
+ * clients find it up to date.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class SharedTypeHierarchies {
+
+	/**
+	 * Callback creating a new type hierarchy.
+	 */
+	interface IHierarchyCreator {
+		ITypeHierarchy create(IProgressMonitor pm) throws JavaModelException;
+	}
+
+	private static final class Entry implements ITypeHierarchyChangedListener {
+		final String fKey;
+		final ITypeHierarchy fHierarchy;
+		int fReferenceCount;
+		volatile boolean fStale;
+
+		Entry(String key, ITypeHierarchy hierarchy) {
+			fKey= key;
+			fHierarchy= hierarchy;
+			fReferenceCount= 1;
+			fStale= false;
+		}
+
+		@Override
+		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+			fStale= true;
+		}
+	}
+
+	private static final SharedTypeHierarchies fgDefault= new SharedTypeHierarchies();
+
+	private final Map<String, Entry> fEntriesByKey= new HashMap<>();
+	private final Map<ITypeHierarchy, Entry> fEntriesByHierarchy= new HashMap<>();
+
+	private SharedTypeHierarchies() {
+	}
+
+	public static SharedTypeHierarchies getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Returns a shared hierarchy for the given input, creating it if no client holds one yet. Each
+	 * call has to be balanced by a call to {@link #release(ITypeHierarchy)}.
+	 *
+	 * @param elements the input elements of the hierarchy
+	 * @param isSuperTypesOnly whether the hierarchy only contains super types
+	 * @param creator creates the hierarchy if it is not yet shared
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @return the shared hierarchy
+	 * @throws JavaModelException if creating the hierarchy fails
+	 */
+	ITypeHierarchy acquire(IJavaElement[] elements, boolean isSuperTypesOnly, IHierarchyCreator creator, IProgressMonitor pm) throws JavaModelException {
+		String key= getKey(elements, isSuperTypesOnly);
+		synchronized (this) {
+			Entry entry= fEntriesByKey.get(key);
+			if (entry != null) {
+				entry.fReferenceCount++;
+				return entry.fHierarchy;
+			}
+		}
+		ITypeHierarchy hierarchy= creator.create(pm);
+		if (pm != null && pm.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		synchronized (this) {
+			Entry entry= fEntriesByKey.get(key);
+			if (entry != null) {
+				// another client was faster, share its hierarchy
+				entry.fReferenceCount++;
+				return entry.fHierarchy;
+			}
+			entry= new Entry(key, hierarchy);
+			hierarchy.addTypeHierarchyChangedListener(entry);
+			fEntriesByKey.put(key, entry);
+			fEntriesByHierarchy.put(hierarchy, entry);
+			return hierarchy;
+		}
+	}
+
+	/**
+	 * Refreshes the given hierarchy if it changed since it was last computed.
+	 *
+	 * @param hierarchy the hierarchy to refresh
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @throws JavaModelException if refreshing the hierarchy fails
+	 */
+	void refresh(ITypeHierarchy hierarchy, IProgressMonitor pm) throws JavaModelException {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntriesByHierarchy.get(hierarchy);
+		}
+		if (entry == null) {
+			hierarchy.refresh(pm);
+			return;
+		}
+		synchronized (entry) {
+			if (entry.fStale) {
+				entry.fStale= false;
+				try {
+					hierarchy.refresh(pm);
+				} catch (JavaModelException | OperationCanceledException e) {
+					entry.fStale= true;
+					throw e;
+				}
+				if (pm != null && pm.isCanceled()) {
+					entry.fStale= true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Releases a hierarchy obtained by {@link #acquire(IJavaElement[], boolean, IHierarchyCreator, IProgressMonitor)}.
+	 *
+	 * @param hierarchy the hierarchy to release
+	 */
+	synchronized void release(ITypeHierarchy hierarchy) {
+		Entry entry= fEntriesByHierarchy.get(hierarchy);
+		if (entry != null && --entry.fReferenceCount == 0) {
+			hierarchy.removeTypeHierarchyChangedListener(entry);
+			fEntriesByHierarchy.remove(hierarchy);
+			fEntriesByKey.remove(entry.fKey);
+		}
+	}
+
+	private static String getKey(IJavaElement[] elements, boolean isSuperTypesOnly) {
+		StringBuilder buf= new StringBuilder();
+		buf.append(isSuperTypesOnly ? 'S' : 'H');
+		for (IJavaElement element : elements) {
+			buf.append('|').append(element.getHandleIdentifier());
+		}
+		return buf.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,10 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * The hierarchy itself is obtained from {@link SharedTypeHierarchies}, so life cycles on the same
+ * input share one hierarchy and refresh it only once per change.
+ * </p>
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
@@ -84,6 +88,22 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * Delay in milliseconds before a refresh caused by a change of the hierarchy is started, so
+	 * that consecutive changes (e.g. several saves in a row) only cause one refresh.
+	 *
+	 * @since 3.36
+	 */
+	private static final long REFRESH_DELAY= 300;
+
+	/**
+	 * Indicates whether the pending refresh was caused by a change of the hierarchy and not
+	 * requested by the user, and therefore is started after {@link #REFRESH_DELAY}.
+	 *
+	 * @since 3.36
+	 */
+	private volatile boolean fRefreshDelayed;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -121,6 +141,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		if (fHierarchy != null) {
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
+			SharedTypeHierarchies.getDefault().release(fHierarchy);
 			fHierarchy= null;
 			fInputElements= null;
 		}
@@ -240,7 +261,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 					fRefreshHierarchyJob.setUser(true);
 					IWorkbenchSiteProgressService progressService= fTypeHierarchyViewPart.getSite()
 														.getAdapter(IWorkbenchSiteProgressService.class);
-					progressService.schedule(fRefreshHierarchyJob, 0);
+					progressService.schedule(fRefreshHierarchyJob, !hierachyCreationNeeded && fRefreshDelayed ? REFRESH_DELAY : 0);
 				}
 			}
 		}
@@ -287,6 +308,10 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	}
 
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
+		return SharedTypeHierarchies.getDefault().acquire(elements, fIsSuperTypesOnly, monitor -> doCreateTypeHierarchy(elements, monitor), pm);
+	}
+
+	private ITypeHierarchy doCreateTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		if (elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
 			IType type= (IType)elements[0];
 			if (fIsSuperTypesOnly) {
@@ -322,19 +347,21 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			JavaCore.removeElementChangedListener(this);
 		}
 		if (hierachyCreationNeeded) {
-			fHierarchy= createTypeHierarchy(elements, pm);
-			if (pm != null && pm.isCanceled()) {
-				throw new OperationCanceledException();
+			ITypeHierarchy hierarchy= createTypeHierarchy(elements, pm);
+			if (fHierarchy != null) {
+				SharedTypeHierarchies.getDefault().release(fHierarchy);
 			}
+			fHierarchy= hierarchy;
 			fInputElements= elements;
 		} else {
-			fHierarchy.refresh(pm);
+			SharedTypeHierarchies.getDefault().refresh(fHierarchy, pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
 		}
 		fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
+		fRefreshDelayed= false;
 	}
 
 	/*
@@ -343,9 +370,22 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	@Override
 	public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
 	 	fHierarchyRefreshNeeded= true;
+	 	fRefreshDelayed= true;
  		fireChange(null);
 	}
 
+	/**
+	 * Marks the hierarchy as to be refreshed on request of the user. Unlike a refresh caused by a
+	 * change of the hierarchy, the refresh is started without delay.
+	 *
+	 * @since 3.36
+	 */
+	public void refreshRequested() {
+		fHierarchyRefreshNeeded= true;
+		fRefreshDelayed= false;
+		fireChange(null);
+	}
+
 	/*
 	 * @see IElementChangedListener#elementChanged(ElementChangedEvent)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,6 +109,9 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	/** maximum problem severities, maintained while there are listeners */
+	private final ProblemSeverityRollup fSeverityRollup= new ProblemSeverityRollup(JavaPlugin.getWorkspace().getRoot());
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -123,8 +126,10 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		try {
 			IResourceDelta delta= event.getDelta();
-			if (delta != null)
+			if (delta != null) {
+				fSeverityRollup.update(delta);
 				delta.accept(new ProjectErrorVisitor(changedElements));
+			}
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
@@ -159,6 +164,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	 */
 	public void addListener(IProblemChangedListener listener) {
 		if (fListeners.isEmpty()) {
+			fSeverityRollup.reset();
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
 		}
@@ -174,9 +180,43 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fSeverityRollup.reset();
 		}
 	}
 
+	/**
+	 * Returns the maximum severity of the problem markers on the given resource, like
+	 * <code>resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth)</code>. The severity is
+	 * taken from {@link #getCachedMaxProblemSeverity(IResource, int)} when it is known there.
+	 *
+	 * @param resource the resource
+	 * @param depth the depth
+	 * @return the maximum severity or -1 if there are no problem markers
+	 * @throws CoreException if the markers of the resource cannot be accessed
+	 */
+	public int findMaxProblemSeverity(IResource resource, int depth) throws CoreException {
+		int severity= getCachedMaxProblemSeverity(resource, depth);
+		if (severity == ProblemSeverityRollup.SEVERITY_UNKNOWN)
+			severity= resource.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		return severity;
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers on the given resource from counts
+	 * maintained from the resource deltas while there are listeners. Never traverses the members
+	 * of the resource or blocks. The counts are computed in the background after the first call.
+	 *
+	 * @param resource the resource
+	 * @param depth the depth
+	 * @return the maximum severity, -1 if there are no problem markers, or
+	 *         {@link ProblemSeverityRollup#SEVERITY_UNKNOWN} if the severity is not known yet
+	 */
+	public int getCachedMaxProblemSeverity(IResource resource, int depth) {
+		if (fListeners.isEmpty() || (depth == IResource.DEPTH_ONE && resource.getType() != IResource.FILE))
+			return ProblemSeverityRollup.SEVERITY_UNKNOWN;
+		return fSeverityRollup.getMaxSeverity(resource, depth == IResource.DEPTH_ONE ? IResource.DEPTH_ZERO : depth);
+	}
+
 	private void fireChanges() {
 		throttledUpdates.throttledExec();
 	}
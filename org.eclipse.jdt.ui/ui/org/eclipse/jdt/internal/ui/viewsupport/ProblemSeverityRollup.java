@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Counts the problem markers of each severity on every resource and, summed up, on every
+ * container, so that the maximum problem severity of a resource can be looked up without
+ * traversing its members.
+ * <p>
+ * The counts are built from all problem markers of the workspace in a background job that is
+ * started by the first lookup. Until the job is done, lookups answer {@link #SEVERITY_UNKNOWN}.
+ * Afterwards the counts are kept up to date with resource deltas. A resource with marker changes
+ * is counted again from its current markers, so that applying a delta twice does not change the
+ * result. Markers are never read while holding the lock of the counts.
+ * </p>
+ */
+public final class ProblemSeverityRollup {
+
+	/**
+	 * Severity returned by {@link #getMaxSeverity(IResource, int)} while the counts are not known
+	 * yet.
+	 */
+	public static final int SEVERITY_UNKNOWN= -2;
+
+	private static final int[] NO_COUNTS= new int[3];
+
+	private static final class Node {
+		/** counts of the markers on the resource itself, by severity */
+		int[] fOwn= NO_COUNTS;
+		/** counts of the markers on the resource and all its members, by severity */
+		final int[] fTotal= new int[3];
+
+		boolean isEmpty() {
+			return fTotal[0] == 0 && fTotal[1] == 0 && fTotal[2] == 0;
+		}
+	}
+
+	private final class InitializeJob extends Job {
+
+		InitializeJob() {
+			super("Java problem severity calculation..."); //$NON-NLS-1$
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == ProblemSeverityRollup.this;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			int generation;
+			synchronized (ProblemSeverityRollup.this) {
+				if (fInitializeJob != this)
+					return Status.OK_STATUS;
+				generation= fGeneration;
+			}
+			Map<IResource, int[]> counts= collectSubtree(fRoot);
+			synchronized (ProblemSeverityRollup.this) {
+				if (fInitializeJob != this)
+					return Status.OK_STATUS;
+				if (monitor.isCanceled()) {
+					fInitializeJob= null;
+					return Status.CANCEL_STATUS;
+				}
+				if (generation != fGeneration) {
+					// markers changed while they were read, read them again
+					schedule();
+					return Status.OK_STATUS;
+				}
+				fNodes.clear();
+				counts.forEach(ProblemSeverityRollup.this::setOwnCounts);
+				fInitializeJob= null;
+				fReady= true;
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final IWorkspaceRoot fRoot;
+	private final Map<IResource, Node> fNodes= new HashMap<>();
+	private boolean fReady;
+	private InitializeJob fInitializeJob;
+	/** incremented when counts computed before are no longer valid */
+	private int fGeneration;
+
+	public ProblemSeverityRollup(IWorkspaceRoot root) {
+		fRoot= root;
+	}
+
+	/**
+	 * Returns the maximum severity of the problem markers on the given resource, like
+	 * {@link IResource#findMaxProblemSeverity(String, boolean, int)} for
+	 * {@link IMarker#PROBLEM} and subtypes. Does not block and does not access markers: if the
+	 * counts are not known yet, starts computing them in the background.
+	 *
+	 * @param resource the resource
+	 * @param depth {@link IResource#DEPTH_ZERO} or {@link IResource#DEPTH_INFINITE}
+	 * @return the maximum severity, -1 if there are no problem markers, or
+	 *         {@link #SEVERITY_UNKNOWN} if the counts are not known yet
+	 */
+	public synchronized int getMaxSeverity(IResource resource, int depth) {
+		if (!fReady) {
+			if (fInitializeJob == null) {
+				fInitializeJob= new InitializeJob();
+				fInitializeJob.schedule();
+			}
+			return SEVERITY_UNKNOWN;
+		}
+		Node node= fNodes.get(resource);
+		if (node == null)
+			return -1;
+		int[] counts= depth == IResource.DEPTH_ZERO ? node.fOwn : node.fTotal;
+		for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+			if (counts[severity] > 0)
+				return severity;
+		}
+		return -1;
+	}
+
+	/**
+	 * Updates the counts from the given delta. The markers of the changed resources are read
+	 * before the counts are locked. Does nothing before the first lookup.
+	 *
+	 * @param delta the resource delta
+	 */
+	public void update(IResourceDelta delta) {
+		int generation;
+		synchronized (this) {
+			if (!fReady) {
+				if (fInitializeJob != null)
+					fGeneration++;
+				return;
+			}
+			generation= fGeneration;
+		}
+		List<Runnable> changes= new ArrayList<>();
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				switch (child.getKind()) {
+					case IResourceDelta.REMOVED:
+						changes.add(() -> removeSubtree(resource));
+						return false;
+					case IResourceDelta.ADDED:
+						addSubtreeChange(changes, resource);
+						return false;
+					default:
+						if (resource.getType() == IResource.PROJECT && (child.getFlags() & IResourceDelta.OPEN) != 0) {
+							addSubtreeChange(changes, resource);
+							return false;
+						}
+						if ((child.getFlags() & IResourceDelta.MARKERS) != 0) {
+							int[] counts= countMarkers(resource);
+							changes.add(() -> setOwnCounts(resource, counts));
+						}
+						return true;
+				}
+			});
+		} catch (CoreException e) {
+			JavaPlugin.log(e);
+			reset();
+			return;
+		}
+		synchronized (this) {
+			if (fReady && generation == fGeneration) {
+				for (Runnable change : changes) {
+					change.run();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forgets all counts. They are built again after the next lookup.
+	 */
+	public synchronized void reset() {
+		fReady= false;
+		if (fInitializeJob != null) {
+			fInitializeJob.cancel();
+			fInitializeJob= null;
+		}
+		fGeneration++;
+		fNodes.clear();
+	}
+
+	private void addSubtreeChange(List<Runnable> changes, IResource resource) {
+		Map<IResource, int[]> counts= collectSubtree(resource);
+		changes.add(() -> {
+			removeSubtree(resource);
+			counts.forEach(this::setOwnCounts);
+		});
+	}
+
+	private static int[] countMarkers(IResource resource) {
+		if (!resource.isAccessible())
+			return NO_COUNTS;
+		try {
+			return count(resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_ZERO));
+		} catch (CoreException e) {
+			// concurrently deleted
+			return NO_COUNTS;
+		}
+	}
+
+	private static Map<IResource, int[]> collectSubtree(IResource resource) {
+		Map<IResource, int[]> counts= new HashMap<>();
+		if (!resource.isAccessible())
+			return counts;
+		IMarker[] markers;
+		try {
+			markers= resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		} catch (CoreException e) {
+			// concurrently deleted
+			return counts;
+		}
+		for (IMarker marker : markers) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (severity >= IMarker.SEVERITY_INFO && severity <= IMarker.SEVERITY_ERROR) {
+				counts.computeIfAbsent(marker.getResource(), r -> new int[3])[severity]++;
+			}
+		}
+		return counts;
+	}
+
+	private static int[] count(IMarker[] markers) {
+		int[] counts= null;
+		for (IMarker marker : markers) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (severity >= IMarker.SEVERITY_INFO && severity <= IMarker.SEVERITY_ERROR) {
+				if (counts == null)
+					counts= new int[3];
+				counts[severity]++;
+			}
+		}
+		return counts != null ? counts : NO_COUNTS;
+	}
+
+	private void setOwnCounts(IResource resource, int[] counts) {
+		Node node= fNodes.get(resource);
+		int[] old= node != null ? node.fOwn : NO_COUNTS;
+		if (Arrays.equals(old, counts))
+			return;
+		if (node == null) {
+			node= new Node();
+			fNodes.put(resource, node);
+		}
+		node.fOwn= counts;
+		for (IResource current= resource; current != null; current= current.getParent()) {
+			Node currentNode= current == resource ? node : fNodes.computeIfAbsent(current, r -> new Node());
+			for (int severity= 0; severity < 3; severity++) {
+				currentNode.fTotal[severity]+= counts[severity] - old[severity];
+			}
+			if (currentNode.isEmpty())
+				fNodes.remove(current);
+		}
+	}
+
+	private void removeSubtree(IResource resource) {
+		Node node= fNodes.get(resource);
+		if (node == null)
+			return;
+		int[] total= node.fTotal.clone();
+		for (IResource current= resource.getParent(); current != null; current= current.getParent()) {
+			Node currentNode= fNodes.get(current);
+			if (currentNode == null)
+				continue;
+			for (int severity= 0; severity < 3; severity++) {
+				currentNode.fTotal[severity]-= total[severity];
+			}
+			if (currentNode.isEmpty())
+				fNodes.remove(current);
+		}
+		if (resource.getType() == IResource.ROOT) {
+			fNodes.clear();
+		} else {
+			IPath path= resource.getFullPath();
+			fNodes.keySet().removeIf(r -> path.isPrefixOf(r.getFullPath()));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityRollup;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -555,6 +556,18 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		if (resource == null) {
 			return 0;
 		}
+		if (fProblemChangedListener != null && resource.isAccessible()) {
+			// registered with the problem marker manager: use its severity counts once they are known
+			int severity= JavaPlugin.getDefault().getProblemMarkerManager().getCachedMaxProblemSeverity(resource, IResource.DEPTH_INFINITE);
+			if (severity != ProblemSeverityRollup.SEVERITY_UNKNOWN) {
+				try {
+					int buildPathTicks= getBuildPathErrorTicks(resource);
+					return buildPathTicks != 0 ? buildPathTicks : convertToTick(severity);
+				} catch (CoreException e) {
+					// fall back to the background calculation
+				}
+			}
+		}
 		Integer cachedAdornment = AdornmentCacheManager.getAdornment(resource);
 		int adornment = cachedAdornment != null ? cachedAdornment.intValue() : 0;
 		AdornmentCacheManager.scheduleTask(resource, adornmentUpdateJob);
@@ -586,9 +599,17 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
-		int severity= -1;
+		int buildPathTicks= getBuildPathErrorTicks(res);
+		if (buildPathTicks != 0) {
+			return buildPathTicks;
+		}
+		int severity= JavaPlugin.getDefault().getProblemMarkerManager().findMaxProblemSeverity(res, depth);
+		return convertToTick(severity);
+	}
+
+	private static int getBuildPathErrorTicks(IResource res) throws CoreException {
 		if (res instanceof IProject) {
-			severity= res.findMaxProblemSeverity(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+			int severity= res.findMaxProblemSeverity(IJavaModelMarker.BUILDPATH_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
 			if (severity == IMarker.SEVERITY_ERROR) {
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
@@ -597,15 +618,19 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
-		return convertToTick(severity);
+		return 0;
 	}
 
 	private int getErrorTicksFromMarkers(IResource res, int depth, ISourceReference sourceElement) throws CoreException {
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
-		int severity= -1;
+		int severity= findMaxProblemSeverity(res, IMarker.PROBLEM, true, depth);
+		if (severity == -1) {
+			// no problems in the file, no need to look at the marker positions
+			return 0;
+		}
+		severity= -1;
 		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
 		if (markers != null && markers.length > 0) {
 			for (int i= 0; i < markers.length && (severity != IMarker.SEVERITY_ERROR); i++) {
@@ -676,6 +701,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
+			if (IMarker.PROBLEM.equals(type) && includeSubtypes) {
+				return JavaPlugin.getDefault().getProblemMarkerManager().findMaxProblemSeverity(res, depth);
+			}
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IResourceStatus.RESOURCE_NOT_FOUND) {
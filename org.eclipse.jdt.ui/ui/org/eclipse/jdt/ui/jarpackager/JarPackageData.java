@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,9 @@ public class JarPackageData {
 	// Add directory entries to the jar
 	private boolean fIncludeDirectoryEntries;
 
+	// Only rewrite the entries of files that changed since the last export
+	private boolean fIncremental;
+
 	// Projects for which to store refactoring information
 	private IProject[] fRefactoringProjects= {};
 
@@ -1057,6 +1060,30 @@ public class JarPackageData {
 		fIncludeDirectoryEntries = includeDirectoryEntries;
 	}
 
+	/**
+	 * Tells whether the JAR is exported incrementally: entries of files that did not change since
+	 * the last export of the JAR are copied from the existing JAR file.
+	 *
+	 * @return	<code>true</code> if the JAR is exported incrementally
+	 *
+	 * @since 3.36
+	 */
+	public boolean isIncremental() {
+		return fIncremental;
+	}
+
+	/**
+	 * Sets the option to export the JAR incrementally.
+	 *
+	 * @param incremental <code>true</code> to copy the entries of unchanged files
+	 *  from the existing JAR file, <code>false</code> to always rewrite all entries
+	 *
+	 * @since 3.36
+	 */
+	public void setIncremental(boolean incremental) {
+		fIncremental= incremental;
+	}
+
 	/**
 	 * Returns the projects for which refactoring information should be stored.
 	 * <p>
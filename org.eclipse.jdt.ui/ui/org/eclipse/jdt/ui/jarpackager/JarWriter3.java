@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 
 import org.eclipse.swt.widgets.Shell;
@@ -60,9 +61,11 @@ import org.eclipse.ltk.core.refactoring.RefactoringDescriptorProxy;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.jarpackager.JarArchiveOutputStream;
 import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackager.IncrementalJarExport;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerMessages;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
@@ -84,6 +87,8 @@ public class JarWriter3 {
 
 	private JarPackageData fJarPackage;
 
+	private IncrementalJarExport fIncrementalExport;
+
 	/**
 	* Gets the fJarOutputStream of this JarWriter3
 	*
@@ -125,13 +130,14 @@ public class JarWriter3 {
 		if (!canCreateJar(parent))
 			throw new OperationCanceledException("Cannot create JAR with path: " + fJarPackage.getAbsoluteJarLocation()); //$NON-NLS-1$
 		JarOutputStream jos= null;
+		if (fJarPackage.isIncremental())
+			fIncrementalExport= IncrementalJarExport.open(fJarPackage.getAbsoluteJarLocation().toFile());
 		try {
+			Manifest manifest= null;
 			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported()) {
-				Manifest manifest= fJarPackage.getManifestProvider().create(fJarPackage);
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
-			} else {
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
+				manifest= fJarPackage.getManifestProvider().create(fJarPackage);
 			}
+			jos= new JarArchiveOutputStream(fJarPackage.getAbsoluteJarLocation().toFile(), manifest);
 			String comment= jarPackage.getComment();
 			if (comment != null)
 				jos.setComment(comment);
@@ -150,6 +156,8 @@ public class JarWriter3 {
 					exception.addSuppressed(e);
 				}
 			}
+			if (fIncrementalExport != null)
+				fIncrementalExport.close(false);
 			throw JarPackagerUtil.createCoreException(exception.getLocalizedMessage(), exception);
 		}
 	}
@@ -257,28 +265,40 @@ public class JarWriter3 {
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes;
-		try (InputStream contents= resource.getContents(false)) {
-			allBytes= contents.readAllBytes();
-		}
-		if (fJarPackage.isCompressed()) {
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		} else {
-			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-		}
-
 		long lastModified= System.currentTimeMillis();
+		String stamp= null;
 		URI locationURI= resource.getLocationURI();
 		if (locationURI != null) {
 			IFileInfo info= EFS.getStore(locationURI).fetchInfo();
-			if (info.exists())
+			if (info.exists()) {
 				lastModified= info.getLastModified();
+				stamp= resource.getFullPath().toString() + '@' + lastModified + ':' + info.getLength();
+			}
 		}
 
 		// Set modification time
 		newEntry.setTime(lastModified);
+		newEntry.setMethod(fJarPackage.isCompressed() ? ZipEntry.DEFLATED : ZipEntry.STORED);
+
+		byte[] allBytes;
+		try (InputStream contents= resource.getContents(false)) {
+			allBytes= contents.readAllBytes();
+		}
+
+		// Copy the entry from the previous export if the file did not change
+		if (fIncrementalExport != null && fJarOutputStream instanceof JarArchiveOutputStream archiveOutputStream) {
+			if (stamp != null) {
+				// the checksum detects changes that keep the modification time and the size
+				CRC32 crc= new CRC32();
+				crc.update(allBytes);
+				stamp+= ':' + Long.toHexString(crc.getValue());
+			}
+			if (fIncrementalExport.reuse(archiveOutputStream, newEntry, stamp))
+				return;
+		}
+
+		if (!fJarPackage.isCompressed())
+			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
 
 		fJarOutputStream.putNextEntry(newEntry);
 		fJarOutputStream.write(allBytes);
@@ -379,13 +399,44 @@ public class JarWriter3 {
 	 *             used to return information in the status object.
 	 */
 	public void close() throws CoreException {
-		if (fJarOutputStream != null)
+		if (fJarOutputStream != null) {
 			try {
 				fJarOutputStream.close();
-				registerInWorkspaceIfNeeded();
 			} catch (IOException ex) {
+				if (fIncrementalExport != null)
+					fIncrementalExport.close(false);
 				throw JarPackagerUtil.createCoreException(ex.getLocalizedMessage(), ex);
 			}
+			if (fIncrementalExport != null)
+				fIncrementalExport.close(true);
+			registerInWorkspaceIfNeeded();
+		}
+	}
+
+	/**
+	 * Returns the number of entries that have been copied unchanged from the previous JAR file by
+	 * an incremental export.
+	 *
+	 * @return the number of reused entries, <code>0</code> if the JAR is not exported
+	 *         incrementally
+	 * @see JarPackageData#isIncremental()
+	 * @since 3.36
+	 */
+	public int getReusedEntryCount() {
+		return fIncrementalExport != null ? fIncrementalExport.getReusedCount() : 0;
+	}
+
+	/**
+	 * Returns the number of file entries that have been written by an incremental export because
+	 * their file changed or was not in the previous JAR file.
+	 *
+	 * @return the number of rewritten entries, <code>0</code> if the JAR is not exported
+	 *         incrementally
+	 * @see JarPackageData#isIncremental()
+	 * @since 3.36
+	 */
+	public int getRewrittenEntryCount() {
+		return fIncrementalExport != null ? fIncrementalExport.getRewrittenCount() : 0;
 	}
 
 	private void registerInWorkspaceIfNeeded() {